@@ -10,6 +10,10 @@ export const appointmentsApi = {
   getByDate: (date) => api.get(`/appointments/date/${date}`),
   getByStatus: (status) => api.get(`/appointments/status/${status}`),
   create: (data) => api.post('/appointments', data),
+  createSeries: (data) => api.post('/appointments/series', data),
+  holdSlot: (data) => api.post('/appointments/holds', data),
+  releaseHold: (holdId) => api.delete(`/appointments/holds/${holdId}`),
+  confirmHold: (holdId, data) => api.post(`/appointments/holds/${holdId}/confirm`, data),
   update: (id, data) => api.put(`/appointments/${id}`, data),
   updateStatus: (id, status, reason) =>
     api.patch(`/appointments/${id}/status`, { status, reason }),
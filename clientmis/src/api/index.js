@@ -8,3 +8,4 @@ export { schedulesApi, scheduleExceptionsApi } from './schedules.api';
 export { servicesApi, specialtiesApi, doctorServicesApi } from './services.api';
 export { statisticsApi } from './statistics.api';
 
+export { waitlistApi } from './waitlist.api';
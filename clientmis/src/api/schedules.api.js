@@ -6,6 +6,12 @@ export const schedulesApi = {
   getByEmployee: (employeeId) => api.get(`/schedules/employee/${employeeId}`),
   getActiveByEmployeeAndDate: (employeeId, date) =>
     api.get(`/schedules/employee/${employeeId}/active`, { params: { date } }),
+  getAvailableSlots: (employeeId, serviceId, date) =>
+    api.get(`/schedules/employee/${employeeId}/slots`, { params: { serviceId, date } }),
+  getEarliestSlots: (serviceId, days, limit) =>
+    api.get('/schedules/slots/earliest', { params: { serviceId, days, limit } }),
+  getMonthAvailability: ({ month, employeeId, specialtyId, serviceId }) =>
+    api.get('/schedules/availability', { params: { month, employeeId, specialtyId, serviceId } }),
   create: (data) => api.post('/schedules', data),
   update: (id, data) => api.put(`/schedules/${id}`, data),
   delete: (id) => api.delete(`/schedules/${id}`),
@@ -18,6 +24,10 @@ export const scheduleExceptionsApi = {
     api.get(`/schedules/exceptions/employee/${employeeId}/range`, { params: { dateFrom, dateTo } }),
   getAffectedAppointments: ({ employeeId, dateFrom, dateTo }) =>
     api.get(`/schedules/exceptions/employee/${employeeId}/affected-appointments`, { params: { dateFrom, dateTo } }),
+  getReassignmentProposals: (id, horizonDays) =>
+    api.get(`/schedules/exceptions/${id}/reassignments`, { params: { horizonDays } }),
+  applyReassignments: (id, reassignments) =>
+    api.post(`/schedules/exceptions/${id}/reassignments`, { reassignments }),
   create: (data) => api.post('/schedules/exceptions', data),
   delete: (id) => api.delete(`/schedules/exceptions/${id}`),
 };
@@ -3,9 +3,9 @@ import api from './axios';
 export const statisticsApi = {
   getDashboard: () => api.get('/statistics/dashboard'),
 
-  getAppointmentsByDateRange: (dateFrom, dateTo) =>
+  getAppointmentsByDateRange: (dateFrom, dateTo, granularity) =>
     api.get('/statistics/appointments/date-range', {
-      params: { dateFrom, dateTo },
+      params: { dateFrom, dateTo, granularity },
     }),
 
   getAppointmentsByStatus: (dateFrom, dateTo) =>
@@ -25,6 +25,11 @@ export const statisticsApi = {
 
   getWorkloadToday: () => api.get('/statistics/workload/today'),
 
+  getOverview: (dateFrom, dateTo, sections, granularity) =>
+    api.get('/statistics/overview', {
+      params: { dateFrom, dateTo, sections: sections?.join(','), granularity },
+    }),
+
   getNoShowRate: (dateFrom, dateTo) =>
     api.get('/statistics/no-show-rate', {
       params: { dateFrom, dateTo },
@@ -34,5 +39,14 @@ export const statisticsApi = {
     api.post('/statistics/export/pdf', data, {
       responseType: 'blob',
     }),
+
+  submitPDFJob: (data) => api.post('/statistics/export/pdf/jobs', data),
+
+  getPDFJob: (id) => api.get(`/statistics/export/pdf/jobs/${id}`),
+
+  downloadPDFJob: (id) =>
+    api.get(`/statistics/export/pdf/jobs/${id}/file`, {
+      responseType: 'blob',
+    }),
 };
 
@@ -0,0 +1,7 @@
+import api from './axios';
+
+export const waitlistApi = {
+  getByPatient: (patientId) => api.get(`/waitlist/patient/${patientId}`),
+  join: (data) => api.post('/waitlist', data),
+  cancel: (id) => api.delete(`/waitlist/${id}`),
+};
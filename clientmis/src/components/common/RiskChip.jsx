@@ -0,0 +1,16 @@
+import { Chip } from '@mui/material';
+
+const HIGH_RISK_PERCENT = 30;
+
+export const RiskChip = ({ risk, size = 'small' }) => {
+  if (risk == null || risk < HIGH_RISK_PERCENT) return null;
+
+  return (
+    <Chip
+      label={`Риск неявки ${risk}%`}
+      color="warning"
+      variant="outlined"
+      size={size}
+    />
+  );
+};
@@ -86,6 +86,7 @@ export const AnalyticsPage = () => {
     EXPORT_SECTIONS.reduce((acc, s) => ({ ...acc, [s.id]: true }), {})
   );
   const [exporting, setExporting] = useState(false);
+  const [exportProgress, setExportProgress] = useState(0);
 
   useEffect(() => {
     loadData();
@@ -97,53 +98,46 @@ export const AnalyticsPage = () => {
       const from = dateFrom.format('YYYY-MM-DD');
       const to = dateTo.format('YYYY-MM-DD');
 
-      const [dashboardRes, statusRes, employeeRes, dateRangeRes, serviceRes, noShowRes, workloadRes] = await Promise.all([
-        statisticsApi.getDashboard(),
-        statisticsApi.getAppointmentsByStatus(from, to),
-        statisticsApi.getAppointmentsByEmployee(from, to),
-        statisticsApi.getAppointmentsByDateRange(from, to),
-        statisticsApi.getAppointmentsByService(from, to),
-        statisticsApi.getNoShowRate(from, to),
-        statisticsApi.getWorkloadToday(),
-      ]);
+      const overviewRes = await statisticsApi.getOverview(from, to);
+      const overview = overviewRes.data.data || {};
 
-      setDashboard(dashboardRes.data.data);
+      setDashboard(overview.dashboard);
 
-      const statusArray = Object.entries(statusRes.data.data || {}).map(([name, value]) => ({
+      const statusArray = Object.entries(overview.statuses || {}).map(([name, value]) => ({
         name: STATUS_LABELS[name] || name,
         value,
         color: STATUS_COLORS[name] || '#808080',
       }));
       setStatusData(statusArray);
 
-      const rawEmployeeData = employeeRes.data.data || [];
+      const rawEmployeeData = overview.employees || [];
       setEmployeeData(rawEmployeeData.map(e => ({
         employeeName: e.employeeName || e.fullName || '—',
         totalAppointments: e.totalAppointments || 0,
       })));
 
-      const byDate = dateRangeRes.data.data?.byDate || {};
+      const byDate = overview.dynamics?.byDate || {};
       const dateArray = Object.entries(byDate).map(([date, count]) => ({
         date: dayjs(date).format('DD.MM'),
         count,
       }));
       setDateRangeData(dateArray);
 
-      const rawServiceData = serviceRes.data.data || [];
+      const rawServiceData = overview.services || [];
       setServiceData(rawServiceData.map((s, idx) => ({
         name: s.serviceName || s.name || '—',
         value: s.totalAppointments || 0,
         color: SERVICE_COLORS[idx % SERVICE_COLORS.length],
       })));
 
-      const noShowData = noShowRes.data.data;
+      const noShowData = overview.noshow;
       setNoShowRate({
         totalAppointments: noShowData?.totalAppointments || 0,
         noShowCount: noShowData?.noShowCount || 0,
         rate: noShowData?.noShowRate || 0,
       });
 
-      const rawWorkload = workloadRes.data.data || [];
+      const rawWorkload = overview.workload || [];
       const processedWorkload = rawWorkload.map(item => {
         const totalAppointments = item.totalAppointments || 0;
         const waiting = item.waiting || 0;
@@ -185,12 +179,23 @@ export const AnalyticsPage = () => {
 
     setExporting(true);
     try {
-      const response = await statisticsApi.exportPDF({
+      const submitted = await statisticsApi.submitPDFJob({
         dateFrom: dateFrom.format('YYYY-MM-DD'),
         dateTo: dateTo.format('YYYY-MM-DD'),
         sections: selectedSections,
       });
 
+      let job = submitted.data.data;
+      while (job.status === 'QUEUED' || job.status === 'RUNNING') {
+        setExportProgress(job.progress);
+        await new Promise((resolve) => setTimeout(resolve, 1000));
+        job = (await statisticsApi.getPDFJob(job.id)).data.data;
+      }
+      if (job.status !== 'COMPLETED') {
+        throw new Error(job.error);
+      }
+
+      const response = await statisticsApi.downloadPDFJob(job.id);
       const blob = new Blob([response.data], { type: 'application/pdf' });
       const url = window.URL.createObjectURL(blob);
       const link = document.createElement('a');
@@ -202,9 +207,10 @@ export const AnalyticsPage = () => {
       showSuccess('Отчёт успешно экспортирован');
       setExportDialogOpen(false);
     } catch (error) {
-      showError('Ошибка экспорта. Функция пока не реализована на сервере.');
+      showError('Ошибка экспорта отчёта');
     } finally {
       setExporting(false);
+      setExportProgress(0);
     }
   };
 
@@ -521,7 +527,7 @@ export const AnalyticsPage = () => {
             onClick={handleExportPDF}
             disabled={exporting}
           >
-            {exporting ? 'Экспорт...' : 'Экспортировать'}
+            {exporting ? `Экспорт... ${exportProgress}%` : 'Экспортировать'}
           </Button>
         </DialogActions>
       </Dialog>
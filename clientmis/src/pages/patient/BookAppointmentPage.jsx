@@ -121,36 +121,12 @@ export const BookAppointmentPage = () => {
     try {
       const dateStr = selectedDate.format('YYYY-MM-DD');
 
-      const schedulesRes = await schedulesApi.getByEmployee(selectedDoctor.id);
-      const schedules = schedulesRes.data.data || [];
-
-      let existingAppointments = [];
-      try {
-        const appointmentsRes = await appointmentsApi.getByEmployeeAndDate(selectedDoctor.id, dateStr);
-        existingAppointments = (appointmentsRes.data.data || []).filter(
-          a => a.status !== 'CANCELLED' && a.status !== 'NO_SHOW'
-        );
-      } catch (error) {
-        console.log('Cannot fetch appointments, using schedule only');
-      }
-
-      const serviceDuration = selectedService?.currentDurationMin || selectedService?.durationMin || 30;
-
-      let slots = await appointmentsApi.calculateAvailableSlots(
-        selectedDoctor.id,
-        selectedService.id,
-        dateStr,
-        schedules,
-        existingAppointments,
-        serviceDuration
-      );
-
-      const isToday = selectedDate.isSame(dayjs(), 'day');
-      if (isToday) {
-        const now = dayjs();
-        const currentTime = now.format('HH:mm');
-        slots = slots.filter(slot => slot.startTime > currentTime);
-      }
+      const slotsRes = await schedulesApi.getAvailableSlots(selectedDoctor.id, selectedService.id, dateStr);
+      const slots = (slotsRes.data.data || []).map(slot => ({
+        ...slot,
+        startTime: slot.startTime?.slice(0, 5),
+        endTime: slot.endTime?.slice(0, 5),
+      }));
 
       setAvailableSlots(slots);
     } catch (error) {
@@ -21,6 +21,7 @@ import { employeesApi } from '../../api/employees.api';
 import { Breadcrumbs } from '../../components/layout/Breadcrumbs';
 import { DataTable } from '../../components/common/DataTable';
 import { StatusChip } from '../../components/common/StatusChip';
+import { RiskChip } from '../../components/common/RiskChip';
 import { useNotification } from '../../hooks/useNotification';
 import { formatDate, formatTime } from '../../utils/formatters';
 
@@ -94,7 +95,12 @@ export const ReceptionistAppointmentsPage = () => {
     {
       id: 'patientName',
       label: 'Пациент',
-      render: (value, row) => row.patient?.fullName || row.patientFullName || value || '—',
+      render: (value, row) => (
+        <Box sx={{ display: 'flex', alignItems: 'center', gap: 1, flexWrap: 'wrap' }}>
+          {row.patient?.fullName || row.patientFullName || value || '—'}
+          <RiskChip risk={row.patient?.noShowRisk} />
+        </Box>
+      ),
     },
     {
       id: 'employeeName',
@@ -25,6 +25,7 @@ import { appointmentsApi } from '../../api/appointments.api';
 import { schedulesApi } from '../../api/schedules.api';
 import { Breadcrumbs } from '../../components/layout/Breadcrumbs';
 import { LoadingOverlay } from '../../components/common/LoadingOverlay';
+import { RiskChip } from '../../components/common/RiskChip';
 import { useNotification } from '../../hooks/useNotification';
 import { formatTime, formatFullName } from '../../utils/formatters';
 import { getErrorMessage } from '../../utils/errorTranslator';
@@ -122,36 +123,12 @@ export const CreateAppointmentPage = () => {
     try {
       const dateStr = selectedDate.format('YYYY-MM-DD');
 
-      const schedulesRes = await schedulesApi.getByEmployee(selectedDoctor.id);
-      const schedules = schedulesRes.data.data || [];
-
-      let existingAppointments = [];
-      try {
-        const appointmentsRes = await appointmentsApi.getByEmployeeAndDate(selectedDoctor.id, dateStr);
-        existingAppointments = (appointmentsRes.data.data || []).filter(
-          a => a.status !== 'CANCELLED' && a.status !== 'NO_SHOW'
-        );
-      } catch (error) {
-        console.log('Cannot fetch appointments, using schedule only');
-      }
-
-      const serviceDuration = selectedService?.currentDurationMin || selectedService?.durationMin || 30;
-
-      let slots = await appointmentsApi.calculateAvailableSlots(
-        selectedDoctor.id,
-        selectedService.id,
-        dateStr,
-        schedules,
-        existingAppointments,
-        serviceDuration
-      );
-
-      const isToday = selectedDate.isSame(dayjs(), 'day');
-      if (isToday) {
-        const now = dayjs();
-        const currentTime = now.format('HH:mm');
-        slots = slots.filter(slot => slot.startTime > currentTime);
-      }
+      const slotsRes = await schedulesApi.getAvailableSlots(selectedDoctor.id, selectedService.id, dateStr);
+      const slots = (slotsRes.data.data || []).map(slot => ({
+        ...slot,
+        startTime: slot.startTime?.slice(0, 5),
+        endTime: slot.endTime?.slice(0, 5),
+      }));
 
       setAvailableSlots(slots);
     } catch (error) {
@@ -424,6 +401,7 @@ export const CreateAppointmentPage = () => {
                   <Typography variant="body1">
                     {selectedPatient?.fullName || formatFullName(selectedPatient?.lastName, selectedPatient?.firstName, selectedPatient?.middleName) || '—'}
                   </Typography>
+                  <RiskChip risk={selectedPatient?.noShowRisk} />
                 </Box>
                 <Box sx={{ mb: 2 }}>
                   <Typography variant="body2" color="text.secondary">Услуга:</Typography>
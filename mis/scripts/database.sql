@@ -182,6 +182,60 @@ CREATE TABLE appointment_status_history
     CONSTRAINT fk_ash_changed_by FOREIGN KEY (changed_by) REFERENCES users (id)
 );
 
+CREATE TABLE waitlist_entries
+(
+    id             UUID        DEFAULT gen_random_uuid() PRIMARY KEY,
+    patient_id     UUID                                  NOT NULL,
+    service_id     UUID                                  NOT NULL,
+    employee_id    UUID,
+    date_from      DATE                                  NOT NULL,
+    date_to        DATE                                  NOT NULL,
+    time_from      TIME,
+    time_to        TIME,
+    status         VARCHAR(20) DEFAULT 'WAITING'         NOT NULL,
+    appointment_id UUID,
+    created_by     UUID                                  NOT NULL,
+    created_at     TIMESTAMP   DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at     TIMESTAMP   DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT fk_wl_patient FOREIGN KEY (patient_id) REFERENCES patients (id),
+    CONSTRAINT fk_wl_service FOREIGN KEY (service_id) REFERENCES services (id),
+    CONSTRAINT fk_wl_employee FOREIGN KEY (employee_id) REFERENCES employees (id),
+    CONSTRAINT fk_wl_appointment FOREIGN KEY (appointment_id) REFERENCES appointments (id),
+    CONSTRAINT fk_wl_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+);
+
+CREATE TABLE appointment_daily_stats
+(
+    stat_date         DATE                  NOT NULL,
+    employee_id       UUID                  NOT NULL,
+    service_id        UUID                  NOT NULL,
+    status            VARCHAR(20)           NOT NULL,
+    source            VARCHAR(20)           NOT NULL,
+    is_paid           BOOLEAN               NOT NULL,
+    appointment_count BIGINT      DEFAULT 0 NOT NULL,
+    PRIMARY KEY (stat_date, employee_id, service_id, status, source, is_paid)
+);
+
+CREATE TABLE appointment_flow_stats
+(
+    stat_date    DATE        NOT NULL,
+    employee_id  UUID        NOT NULL,
+    service_id   UUID        NOT NULL,
+    metric       VARCHAR(20) NOT NULL,
+    sample_count BIGINT      NOT NULL,
+    histogram    BYTEA       NOT NULL,
+    PRIMARY KEY (stat_date, employee_id, service_id, metric)
+);
+
+CREATE TABLE patient_risk_scores
+(
+    patient_id    UUID PRIMARY KEY,
+    score         SMALLINT  NOT NULL,
+    sample_count  INTEGER   NOT NULL,
+    no_show_count INTEGER   NOT NULL,
+    computed_at   TIMESTAMP NOT NULL
+);
+
 CREATE INDEX idx_users_role ON users (role_id);
 CREATE INDEX idx_employees_specialty ON employees (specialty_id);
 CREATE INDEX idx_employees_user ON employees (user_id);
@@ -197,6 +251,10 @@ CREATE INDEX idx_app_employee ON appointments (employee_id);
 CREATE INDEX idx_app_date ON appointments (appointment_date);
 CREATE INDEX idx_app_status ON appointments (status);
 CREATE INDEX idx_ash_appointment ON appointment_status_history (appointment_id);
+CREATE INDEX idx_wl_patient ON waitlist_entries (patient_id);
+CREATE INDEX idx_wl_status ON waitlist_entries (status);
+CREATE INDEX idx_ads_employee ON appointment_daily_stats (employee_id, stat_date);
+CREATE INDEX idx_afs_employee ON appointment_flow_stats (employee_id, stat_date);
 CREATE INDEX idx_patients_passport ON patients (passport_series, passport_number);
 
 INSERT INTO roles (name, description)
@@ -1153,3 +1211,8 @@ FROM appointments a
 WHERE p.passport_number = '9012345'
   AND e.last_name = 'Петрова'
   AND a.status = 'NO_SHOW';
+
+INSERT INTO appointment_daily_stats (stat_date, employee_id, service_id, status, source, is_paid, appointment_count)
+SELECT appointment_date, employee_id, service_id, status, source, is_paid, COUNT(*)
+FROM appointments
+GROUP BY appointment_date, employee_id, service_id, status, source, is_paid;
@@ -78,6 +78,14 @@ public class SecurityConfig {
                         .hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/specialties/**")
                         .hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/statistics/rollup/**")
+                        .hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/statistics/risk/**")
+                        .hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/statistics/columnar/**")
+                        .hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/statistics/flow/**")
+                        .hasRole("ADMIN")
                         .requestMatchers("/api/v1/statistics/**")
                         .hasAnyRole("MANAGER", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/v1/schedules/exceptions/**")
@@ -102,12 +110,18 @@ public class SecurityConfig {
                         .hasAnyRole("DOCTOR", "RECEPTIONIST", "ADMIN", "PATIENT")
                         .requestMatchers(HttpMethod.POST, "/api/v1/appointments")
                         .hasAnyRole("PATIENT", "RECEPTIONIST", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/appointments/series")
+                        .hasAnyRole("PATIENT", "RECEPTIONIST", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/appointments/holds", "/api/v1/appointments/holds/**")
+                        .hasAnyRole("PATIENT", "RECEPTIONIST", "ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/v1/appointments/**")
                         .hasAnyRole("PATIENT", "RECEPTIONIST", "ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/appointments/**")
                         .hasAnyRole("PATIENT", "RECEPTIONIST", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/appointments/**")
                         .authenticated()
+                        .requestMatchers("/api/v1/waitlist", "/api/v1/waitlist/**")
+                        .hasAnyRole("PATIENT", "RECEPTIONIST", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/patients/user/**")
                         .hasAnyRole("PATIENT", "RECEPTIONIST", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/v1/patients/link")
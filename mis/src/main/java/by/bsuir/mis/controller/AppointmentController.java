@@ -2,11 +2,15 @@ package by.bsuir.mis.controller;
 
 import by.bsuir.mis.API.ApiResponse;
 import by.bsuir.mis.dto.request.AppointmentCreateRequest;
+import by.bsuir.mis.dto.request.AppointmentSeriesRequest;
 import by.bsuir.mis.dto.request.AppointmentStatusUpdateRequest;
 import by.bsuir.mis.dto.request.AppointmentUpdateRequest;
+import by.bsuir.mis.dto.request.HoldConfirmRequest;
+import by.bsuir.mis.dto.request.SlotHoldRequest;
 import by.bsuir.mis.dto.response.AppointmentResponse;
 import by.bsuir.mis.dto.response.AppointmentShortResponse;
 import by.bsuir.mis.dto.response.AppointmentStatusHistoryResponse;
+import by.bsuir.mis.dto.response.SlotHoldResponse;
 import by.bsuir.mis.entity.*;
 import by.bsuir.mis.entity.enums.AppointmentSource;
 import by.bsuir.mis.entity.enums.AppointmentStatus;
@@ -14,9 +18,12 @@ import by.bsuir.mis.exception.BadRequestException;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.mapper.AppointmentMapper;
 import by.bsuir.mis.mapper.AppointmentStatusHistoryMapper;
+import by.bsuir.mis.model.RecurrenceRule;
+import by.bsuir.mis.model.SlotHold;
 import by.bsuir.mis.service.*;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +39,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AppointmentController {
 
+    private static final int MAX_SERIES_OCCURRENCES = 52;
+
     private final AppointmentService appointmentService;
     private final AppointmentStatusHistoryService statusHistoryService;
     private final PatientService patientService;
@@ -40,6 +49,8 @@ public class AppointmentController {
     private final DoctorScheduleService doctorScheduleService;
     private final UserService userService;
     private final UserPatientService userPatientService;
+    private final BookingService bookingService;
+    private final HoldService holdService;
     private final AppointmentMapper appointmentMapper;
     private final AppointmentStatusHistoryMapper statusHistoryMapper;
 
@@ -230,7 +241,7 @@ public class AppointmentController {
                 .createdBy(createdBy)
                 .build();
 
-        Appointment saved = appointmentService.save(appointment);
+        Appointment saved = bookingService.book(appointment);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.<AppointmentResponse>builder()
                         .data(appointmentMapper.toResponse(saved))
@@ -239,6 +250,166 @@ public class AppointmentController {
                         .build());
     }
 
+    @PostMapping("/series")
+    public ResponseEntity<ApiResponse<List<AppointmentResponse>>> createSeries(
+            @Valid @RequestBody AppointmentSeriesRequest request, @RequestHeader(value = "X-User-Id") UUID userId) {
+        Patient patient = patientService
+                .findById(request.patientId())
+                .orElseThrow(() -> new ResourceNotFoundException("Patient", "id", request.patientId()));
+        Employee employee = employeeService
+                .findById(request.employeeId())
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", request.employeeId()));
+        Service service = serviceService
+                .findById(request.serviceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Service", "id", request.serviceId()));
+        User createdBy =
+                userService.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        if (!request.startTime().isBefore(request.endTime())) {
+            throw new BadRequestException("Start time must be before end time");
+        }
+        if (request.count() == null && request.until() == null) {
+            throw new BadRequestException("Either count or until must be specified");
+        }
+
+        RecurrenceRule rule = new RecurrenceRule(
+                request.frequency(),
+                request.interval() != null ? request.interval() : 1,
+                request.count(),
+                request.until());
+        List<LocalDate> dates = rule.datesFrom(request.firstDate(), MAX_SERIES_OCCURRENCES);
+        if (dates.isEmpty()) {
+            throw new BadRequestException("Recurrence rule produces no appointments");
+        }
+
+        Appointment template = Appointment.builder()
+                .patient(patient)
+                .employee(employee)
+                .service(service)
+                .source(request.source() != null ? request.source() : AppointmentSource.ONLINE)
+                .createdBy(createdBy)
+                .build();
+
+        List<AppointmentResponse> created =
+                bookingService.bookSeries(template, request.startTime(), request.endTime(), dates).stream()
+                        .map(appointmentMapper::toResponse)
+                        .toList();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.<List<AppointmentResponse>>builder()
+                        .data(created)
+                        .status(true)
+                        .message("Appointment series created successfully")
+                        .build());
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<SlotHoldResponse>> createHold(
+            @Valid @RequestBody SlotHoldRequest request, @RequestHeader(value = "X-User-Id") UUID userId) {
+        if (!request.startTime().isBefore(request.endTime())
+                || !request.startTime().toLocalDate().equals(request.appointmentDate())) {
+            throw new BadRequestException("Start time must be before end time on the appointment date");
+        }
+        if (request.startTime().isBefore(LocalDateTime.now())) {
+            throw new BadRequestException("Cannot hold a slot in the past");
+        }
+
+        SlotHold hold = holdService.hold(
+                request.employeeId(),
+                request.serviceId(),
+                request.appointmentDate(),
+                request.startTime(),
+                request.endTime(),
+                userId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.<SlotHoldResponse>builder()
+                        .data(toHoldResponse(hold))
+                        .status(true)
+                        .message("Slot held successfully")
+                        .build());
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(
+            @PathVariable UUID holdId, @RequestHeader(value = "X-User-Id") UUID userId) {
+        SlotHold hold = findOwnHold(holdId, userId);
+        holdService.release(hold.id());
+        return ResponseEntity.ok(ApiResponse.<Void>builder()
+                .data(null)
+                .status(true)
+                .message("Slot hold released successfully")
+                .build());
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<ApiResponse<AppointmentResponse>> confirmHold(
+            @PathVariable UUID holdId,
+            @Valid @RequestBody HoldConfirmRequest request,
+            @RequestHeader(value = "X-User-Id") UUID userId) {
+        SlotHold hold = findOwnHold(holdId, userId);
+        if (request.serviceId() != null && !request.serviceId().equals(hold.serviceId())) {
+            throw new BadRequestException("Service does not match the held slot");
+        }
+
+        Patient patient = patientService
+                .findById(request.patientId())
+                .orElseThrow(() -> new ResourceNotFoundException("Patient", "id", request.patientId()));
+        Employee employee = employeeService
+                .findById(hold.employeeId())
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", hold.employeeId()));
+        Service service = serviceService
+                .findById(hold.serviceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Service", "id", hold.serviceId()));
+        DoctorSchedule schedule = null;
+        if (request.scheduleId() != null) {
+            schedule = doctorScheduleService
+                    .findById(request.scheduleId())
+                    .orElseThrow(() -> new ResourceNotFoundException("DoctorSchedule", "id", request.scheduleId()));
+        }
+        User createdBy =
+                userService.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        Appointment appointment = Appointment.builder()
+                .patient(patient)
+                .employee(employee)
+                .service(service)
+                .schedule(schedule)
+                .appointmentDate(hold.date())
+                .startTime(hold.startTime())
+                .endTime(hold.endTime())
+                .source(request.source() != null ? request.source() : AppointmentSource.ONLINE)
+                .createdBy(createdBy)
+                .build();
+
+        Appointment saved = holdService.confirm(hold.id(), appointment);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.<AppointmentResponse>builder()
+                        .data(appointmentMapper.toResponse(saved))
+                        .status(true)
+                        .message("Appointment created successfully")
+                        .build());
+    }
+
+    private SlotHold findOwnHold(UUID holdId, UUID userId) {
+        SlotHold hold = holdService
+                .findActive(holdId)
+                .orElseThrow(() -> new ResourceNotFoundException("SlotHold", "id", holdId));
+        if (!hold.userId().equals(userId)) {
+            throw new AccessDeniedException("Slot hold belongs to another user");
+        }
+        return hold;
+    }
+
+    private SlotHoldResponse toHoldResponse(SlotHold hold) {
+        return new SlotHoldResponse(
+                hold.id(),
+                hold.employeeId(),
+                hold.serviceId(),
+                hold.date(),
+                hold.startTime(),
+                hold.endTime(),
+                hold.expiresAt());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<AppointmentResponse>> update(
             @PathVariable UUID id, @Valid @RequestBody AppointmentUpdateRequest request) {
@@ -277,7 +448,14 @@ public class AppointmentController {
         if (request.status() != null) appointment.setStatus(request.status());
         if (request.cancelReason() != null) appointment.setCancelReason(request.cancelReason());
 
-        Appointment updated = appointmentService.update(appointment);
+        boolean timeChanged = request.employeeId() != null
+                || request.appointmentDate() != null
+                || request.startTime() != null
+                || request.endTime() != null;
+        boolean occupiesTime = appointment.getStatus() != AppointmentStatus.CANCELLED
+                && appointment.getStatus() != AppointmentStatus.RESCHEDULED;
+        Appointment updated =
+                timeChanged && occupiesTime ? bookingService.book(appointment) : appointmentService.update(appointment);
         return ResponseEntity.ok(ApiResponse.<AppointmentResponse>builder()
                 .data(appointmentMapper.toResponse(updated))
                 .status(true)
@@ -2,10 +2,14 @@ package by.bsuir.mis.controller;
 
 import by.bsuir.mis.API.ApiResponse;
 import by.bsuir.mis.dto.request.DoctorScheduleRequest;
+import by.bsuir.mis.dto.request.ReassignmentApplyRequest;
 import by.bsuir.mis.dto.request.ScheduleExceptionRequest;
 import by.bsuir.mis.dto.response.AppointmentShortResponse;
+import by.bsuir.mis.dto.response.DayAvailabilityResponse;
 import by.bsuir.mis.dto.response.DoctorScheduleResponse;
+import by.bsuir.mis.dto.response.ReassignmentProposalResponse;
 import by.bsuir.mis.dto.response.ScheduleExceptionResponse;
+import by.bsuir.mis.dto.response.SlotResponse;
 import by.bsuir.mis.entity.DoctorSchedule;
 import by.bsuir.mis.entity.Employee;
 import by.bsuir.mis.entity.ScheduleException;
@@ -18,6 +22,7 @@ import by.bsuir.mis.mapper.ScheduleExceptionMapper;
 import by.bsuir.mis.service.*;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +40,9 @@ public class ScheduleController {
     private final EmployeeService employeeService;
     private final UserService userService;
     private final AppointmentService appointmentService;
+    private final SlotService slotService;
+    private final ReassignmentService reassignmentService;
+    private final AvailabilityService availabilityService;
     private final DoctorScheduleMapper doctorScheduleMapper;
     private final ScheduleExceptionMapper scheduleExceptionMapper;
     private final AppointmentMapper appointmentMapper;
@@ -90,6 +98,59 @@ public class ScheduleController {
                 .build());
     }
 
+    @GetMapping("/employee/{employeeId}/slots")
+    public ResponseEntity<ApiResponse<List<SlotResponse>>> getAvailableSlots(
+            @PathVariable UUID employeeId, @RequestParam UUID serviceId, @RequestParam LocalDate date) {
+        List<SlotResponse> slots = slotService.findAvailableSlots(employeeId, serviceId, date);
+        return ResponseEntity.ok(ApiResponse.<List<SlotResponse>>builder()
+                .data(slots)
+                .status(true)
+                .message("Available slots retrieved successfully")
+                .build());
+    }
+
+    @GetMapping("/slots/earliest")
+    public ResponseEntity<ApiResponse<List<SlotResponse>>> getEarliestSlots(
+            @RequestParam UUID serviceId,
+            @RequestParam(defaultValue = "14") int days,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (days < 1 || days > 60) {
+            throw new BadRequestException("Search horizon must be between 1 and 60 days");
+        }
+        if (limit < 1 || limit > 100) {
+            throw new BadRequestException("Limit must be between 1 and 100");
+        }
+        List<SlotResponse> slots = slotService.findEarliestSlots(serviceId, days, limit);
+        return ResponseEntity.ok(ApiResponse.<List<SlotResponse>>builder()
+                .data(slots)
+                .status(true)
+                .message("Earliest slots retrieved successfully")
+                .build());
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<List<DayAvailabilityResponse>>> getMonthAvailability(
+            @RequestParam YearMonth month,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) UUID specialtyId,
+            @RequestParam(required = false) UUID serviceId) {
+        if ((employeeId == null) == (specialtyId == null)) {
+            throw new BadRequestException("Exactly one of employeeId or specialtyId must be provided");
+        }
+        List<UUID> employeeIds = employeeId != null
+                ? List.of(employeeId)
+                : employeeService.findBySpecialtyId(specialtyId).stream()
+                        .filter(e -> Boolean.TRUE.equals(e.getIsActive()))
+                        .map(Employee::getId)
+                        .toList();
+        List<DayAvailabilityResponse> days = availabilityService.getMonthAvailability(employeeIds, serviceId, month);
+        return ResponseEntity.ok(ApiResponse.<List<DayAvailabilityResponse>>builder()
+                .data(days)
+                .status(true)
+                .message("Month availability retrieved successfully")
+                .build());
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<DoctorScheduleResponse>> create(
             @Valid @RequestBody DoctorScheduleRequest request) {
@@ -248,19 +309,49 @@ public class ScheduleController {
     @GetMapping("/exceptions/employee/{employeeId}/affected-appointments")
     public ResponseEntity<ApiResponse<List<AppointmentShortResponse>>> getAffectedAppointments(
             @PathVariable UUID employeeId, @RequestParam LocalDate dateFrom, @RequestParam LocalDate dateTo) {
-        List<AppointmentShortResponse> affected = new java.util.ArrayList<>();
-        LocalDate current = dateFrom;
-        while (!current.isAfter(dateTo)) {
-            final LocalDate date = current;
-            appointmentService.findByEmployeeIdAndDate(employeeId, date).stream()
-                    .map(appointmentMapper::toShortResponse)
-                    .forEach(affected::add);
-            current = current.plusDays(1);
-        }
+        List<AppointmentShortResponse> affected =
+                appointmentService.findByEmployeeIdAndDateRange(employeeId, dateFrom, dateTo).stream()
+                        .map(appointmentMapper::toShortResponse)
+                        .toList();
         return ResponseEntity.ok(ApiResponse.<List<AppointmentShortResponse>>builder()
                 .data(affected)
                 .status(true)
                 .message("Affected appointments retrieved successfully")
                 .build());
     }
+
+    @GetMapping("/exceptions/{id}/reassignments")
+    public ResponseEntity<ApiResponse<List<ReassignmentProposalResponse>>> getReassignmentProposals(
+            @PathVariable UUID id, @RequestParam(defaultValue = "14") int horizonDays) {
+        if (horizonDays < 0 || horizonDays > 60) {
+            throw new BadRequestException("Search horizon must be between 0 and 60 days");
+        }
+        List<ReassignmentProposalResponse> proposals = reassignmentService.propose(id, horizonDays).stream()
+                .map(p ->
+                        new ReassignmentProposalResponse(appointmentMapper.toShortResponse(p.appointment()), p.slot()))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.<List<ReassignmentProposalResponse>>builder()
+                .data(proposals)
+                .status(true)
+                .message("Reassignment proposals retrieved successfully")
+                .build());
+    }
+
+    @PostMapping("/exceptions/{id}/reassignments")
+    public ResponseEntity<ApiResponse<List<AppointmentShortResponse>>> applyReassignments(
+            @PathVariable UUID id,
+            @Valid @RequestBody ReassignmentApplyRequest request,
+            @RequestHeader(value = "X-User-Id") UUID userId) {
+        User changedBy =
+                userService.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        List<AppointmentShortResponse> moved =
+                reassignmentService.apply(id, request.reassignments(), changedBy).stream()
+                        .map(appointmentMapper::toShortResponse)
+                        .toList();
+        return ResponseEntity.ok(ApiResponse.<List<AppointmentShortResponse>>builder()
+                .data(moved)
+                .status(true)
+                .message("Appointments reassigned successfully")
+                .build());
+    }
 }
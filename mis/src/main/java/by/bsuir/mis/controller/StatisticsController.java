@@ -3,55 +3,77 @@ package by.bsuir.mis.controller;
 import by.bsuir.mis.API.ApiResponse;
 import by.bsuir.mis.dto.request.PdfExportRequest;
 import by.bsuir.mis.dto.response.AppointmentShortResponse;
+import by.bsuir.mis.dto.response.ReportJobResponse;
 import by.bsuir.mis.entity.Appointment;
 import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.exception.BadRequestException;
 import by.bsuir.mis.mapper.AppointmentMapper;
-import by.bsuir.mis.repository.EmployeeRepository;
-import by.bsuir.mis.repository.PatientRepository;
+import by.bsuir.mis.mapper.EmployeeMapper;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.DashboardCounters;
+import by.bsuir.mis.model.FlowSummary;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ReportData;
+import by.bsuir.mis.model.ReportJob;
 import by.bsuir.mis.service.AppointmentService;
+import by.bsuir.mis.service.ColumnarStatisticsService;
+import by.bsuir.mis.service.DailyStatsService;
+import by.bsuir.mis.service.DashboardService;
+import by.bsuir.mis.service.FlowStatsService;
+import by.bsuir.mis.service.NoShowRiskService;
+import by.bsuir.mis.service.ParallelReadService;
 import by.bsuir.mis.service.PdfExportService;
+import by.bsuir.mis.service.ReportDataService;
+import by.bsuir.mis.service.ReportJobService;
+import by.bsuir.mis.service.StatisticsService;
+import by.bsuir.mis.service.UtilizationService;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/statistics")
 @RequiredArgsConstructor
 public class StatisticsController {
 
+    private static final List<String> SECTIONS =
+            List.of("dashboard", "dynamics", "statuses", "services", "employees", "noshow", "workload");
+
     private final AppointmentService appointmentService;
-    private final EmployeeRepository employeeRepository;
-    private final PatientRepository patientRepository;
     private final AppointmentMapper appointmentMapper;
     private final PdfExportService pdfExportService;
+    private final ReportDataService reportDataService;
+    private final StatisticsService statisticsService;
+    private final ColumnarStatisticsService columnarStatisticsService;
+    private final DailyStatsService dailyStatsService;
+    private final DashboardService dashboardService;
+    private final ParallelReadService parallelReadService;
+    private final UtilizationService utilizationService;
+    private final NoShowRiskService noShowRiskService;
+    private final FlowStatsService flowStatsService;
+    private final ReportJobService reportJobService;
+
+    @Value("${statistics.max-range-days:3660}")
+    private long maxRangeDays = 3660;
 
     @GetMapping("/dashboard")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getDashboard() {
-        LocalDate today = LocalDate.now();
-
-        Map<String, Object> dashboard = new HashMap<>();
-
-        dashboard.put("totalPatients", patientRepository.count());
-        dashboard.put("totalEmployees", employeeRepository.count());
-        dashboard.put("activeEmployees", employeeRepository.findByIsActive(true).size());
-
-        List<Appointment> todayAppointments = appointmentService.findByDate(today);
-        dashboard.put("todayAppointmentsCount", todayAppointments.size());
-
-        Map<String, Long> todayByStatus = todayAppointments.stream()
-                .collect(Collectors.groupingBy(a -> a.getStatus().name(), Collectors.counting()));
-        dashboard.put("todayByStatus", todayByStatus);
-
         return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
-                .data(dashboard)
+                .data(buildDashboard())
                 .status(true)
                 .message("Dashboard statistics retrieved successfully")
                 .build());
@@ -59,26 +81,14 @@ public class StatisticsController {
 
     @GetMapping("/appointments/date-range")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getAppointmentsByDateRange(
-            @RequestParam LocalDate dateFrom, @RequestParam LocalDate dateTo) {
-
-        Map<String, Object> stats = new HashMap<>();
-        Map<LocalDate, Long> appointmentsByDate = new LinkedHashMap<>();
-
-        LocalDate current = dateFrom;
-        long totalCount = 0;
-        while (!current.isAfter(dateTo)) {
-            long count = appointmentService.findByDate(current).size();
-            appointmentsByDate.put(current, count);
-            totalCount += count;
-            current = current.plusDays(1);
-        }
-
-        stats.put("byDate", appointmentsByDate);
-        stats.put("totalCount", totalCount);
-        stats.put("averagePerDay", appointmentsByDate.isEmpty() ? 0 : totalCount / appointmentsByDate.size());
+            @RequestParam LocalDate dateFrom,
+            @RequestParam LocalDate dateTo,
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String engine) {
+        validateDateRange(dateFrom, dateTo);
 
         return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
-                .data(stats)
+                .data(buildDateRange(engine(engine), dateFrom, dateTo, granularity))
                 .status(true)
                 .message("Appointments statistics by date range retrieved successfully")
                 .build());
@@ -86,25 +96,12 @@ public class StatisticsController {
 
     @GetMapping("/appointments/by-status")
     public ResponseEntity<ApiResponse<Map<String, Long>>> getAppointmentsByStatus(
-            @RequestParam(required = false) LocalDate dateFrom, @RequestParam(required = false) LocalDate dateTo) {
-
-        List<Appointment> appointments;
-        if (dateFrom != null && dateTo != null) {
-            appointments = new ArrayList<>();
-            LocalDate current = dateFrom;
-            while (!current.isAfter(dateTo)) {
-                appointments.addAll(appointmentService.findByDate(current));
-                current = current.plusDays(1);
-            }
-        } else {
-            appointments = appointmentService.findAll();
-        }
-
-        Map<String, Long> byStatus = appointments.stream()
-                .collect(Collectors.groupingBy(a -> a.getStatus().name(), Collectors.counting()));
-
+            @RequestParam(required = false) LocalDate dateFrom,
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) String engine) {
+        validateOptionalDateRange(dateFrom, dateTo);
         return ResponseEntity.ok(ApiResponse.<Map<String, Long>>builder()
-                .data(byStatus)
+                .data(buildByStatus(engine(engine), dateFrom, dateTo))
                 .status(true)
                 .message("Appointments by status retrieved successfully")
                 .build());
@@ -112,107 +109,369 @@ public class StatisticsController {
 
     @GetMapping("/appointments/by-employee")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAppointmentsByEmployee(
-            @RequestParam(required = false) LocalDate dateFrom, @RequestParam(required = false) LocalDate dateTo) {
+            @RequestParam(required = false) LocalDate dateFrom,
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) String engine) {
+        validateOptionalDateRange(dateFrom, dateTo);
+        return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
+                .data(buildByEmployee(engine(engine), dateFrom, dateTo))
+                .status(true)
+                .message("Appointments by employee retrieved successfully")
+                .build());
+    }
 
-        List<Appointment> appointments;
-        if (dateFrom != null && dateTo != null) {
-            appointments = new ArrayList<>();
-            LocalDate current = dateFrom;
-            while (!current.isAfter(dateTo)) {
-                appointments.addAll(appointmentService.findByDate(current));
-                current = current.plusDays(1);
-            }
-        } else {
-            appointments = appointmentService.findAll();
-        }
+    @GetMapping("/appointments/by-service")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAppointmentsByService(
+            @RequestParam(required = false) LocalDate dateFrom,
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) String engine) {
+        validateOptionalDateRange(dateFrom, dateTo);
+        return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
+                .data(buildByService(engine(engine), dateFrom, dateTo))
+                .status(true)
+                .message("Appointments by service retrieved successfully")
+                .build());
+    }
 
-        Map<UUID, List<Appointment>> byEmployee = appointments.stream()
-                .filter(a -> a.getEmployee() != null)
-                .collect(Collectors.groupingBy(a -> a.getEmployee().getId()));
+    @GetMapping("/appointments/by-source")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getAppointmentsBySource(
+            @RequestParam(required = false) LocalDate dateFrom,
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) String engine) {
+        validateOptionalDateRange(dateFrom, dateTo);
+        Map<String, Long> bySource = new HashMap<>();
+        engine(engine).countBySource(dateFrom, dateTo).forEach((source, count) -> bySource.put(source.name(), count));
 
-        List<Map<String, Object>> result = byEmployee.entrySet().stream()
-                .map(entry -> {
-                    Map<String, Object> employeeStats = new HashMap<>();
-                    Appointment first = entry.getValue().getFirst();
-                    employeeStats.put("employeeId", entry.getKey());
-                    employeeStats.put("employeeName", getFullName(first.getEmployee()));
-                    employeeStats.put(
-                            "specialty",
-                            first.getEmployee().getSpecialty() != null
-                                    ? first.getEmployee().getSpecialty().getName()
-                                    : null);
-                    employeeStats.put(
-                            "totalAppointments", (long) entry.getValue().size());
+        return ResponseEntity.ok(ApiResponse.<Map<String, Long>>builder()
+                .data(bySource)
+                .status(true)
+                .message("Appointments by source retrieved successfully")
+                .build());
+    }
 
-                    Map<String, Long> statusCounts = entry.getValue().stream()
-                            .collect(Collectors.groupingBy(a -> a.getStatus().name(), Collectors.counting()));
-                    employeeStats.put("byStatus", statusCounts);
+    @GetMapping("/workload/today")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getTodayWorkload() {
+        return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
+                .data(buildTodayWorkload())
+                .status(true)
+                .message("Today workload retrieved successfully")
+                .build());
+    }
 
-                    return employeeStats;
+    @GetMapping("/utilization")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getUtilization(
+            @RequestParam LocalDate dateFrom, @RequestParam LocalDate dateTo) {
+        validateDateRange(dateFrom, dateTo);
+
+        List<Map<String, Object>> utilization = utilizationService.getUtilization(dateFrom, dateTo).stream()
+                .map(row -> {
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("employeeId", row.employeeId());
+                    result.put("employeeName", row.fullName());
+                    result.put("specialty", row.specialty());
+                    result.put("scheduledMinutes", row.scheduledMinutes());
+                    result.put("bookedMinutes", row.bookedMinutes());
+                    result.put("bookedInScheduleMinutes", row.bookedInScheduleMinutes());
+                    result.put("freeMinutes", row.freeMinutes());
+                    result.put("appointments", row.appointments());
+                    result.put("utilizationPercent", row.utilizationPercent());
+                    return result;
                 })
-                .sorted((a, b) -> Long.compare(
-                        ((Number) b.get("totalAppointments")).longValue(),
-                        ((Number) a.get("totalAppointments")).longValue()))
                 .toList();
 
         return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
-                .data(result)
+                .data(utilization)
                 .status(true)
-                .message("Appointments by employee retrieved successfully")
+                .message("Utilization retrieved successfully")
                 .build());
     }
 
-    @GetMapping("/appointments/by-service")
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAppointmentsByService(
-            @RequestParam(required = false) LocalDate dateFrom, @RequestParam(required = false) LocalDate dateTo) {
+    @GetMapping("/flow")
+    public ResponseEntity<ApiResponse<Map<String, FlowSummary>>> getFlow(
+            @RequestParam LocalDate dateFrom,
+            @RequestParam LocalDate dateTo,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) UUID serviceId) {
+        validateDateRange(dateFrom, dateTo);
+
+        Map<String, FlowSummary> flow = new LinkedHashMap<>();
+        flowStatsService
+                .getSummary(dateFrom, dateTo, employeeId, serviceId)
+                .forEach((metric, summary) -> flow.put(metric.name(), summary));
+
+        return ResponseEntity.ok(ApiResponse.<Map<String, FlowSummary>>builder()
+                .data(flow)
+                .status(true)
+                .message("Patient flow statistics retrieved successfully")
+                .build());
+    }
+
+    @GetMapping("/flow/by-employee")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getFlowByEmployee(
+            @RequestParam LocalDate dateFrom, @RequestParam LocalDate dateTo) {
+        validateDateRange(dateFrom, dateTo);
+
+        List<Map<String, Object>> flow = flowStatsService.getSummaryByEmployee(dateFrom, dateTo).stream()
+                .map(employee -> {
+                    Map<String, FlowSummary> metrics = new LinkedHashMap<>();
+                    employee.metrics().forEach((metric, summary) -> metrics.put(metric.name(), summary));
+
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("employeeId", employee.employeeId());
+                    result.put("employeeName", employee.fullName());
+                    result.put("metrics", metrics);
+                    return result;
+                })
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
+                .data(flow)
+                .status(true)
+                .message("Patient flow statistics by employee retrieved successfully")
+                .build());
+    }
+
+    @GetMapping("/no-show-rate")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getNoShowRate(
+            @RequestParam LocalDate dateFrom, @RequestParam LocalDate dateTo) {
+        validateDateRange(dateFrom, dateTo);
+        return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                .data(buildNoShowRate(statisticsService, dateFrom, dateTo))
+                .status(true)
+                .message("No-show rate retrieved successfully")
+                .build());
+    }
+
+    @GetMapping("/overview")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOverview(
+            @RequestParam LocalDate dateFrom,
+            @RequestParam LocalDate dateTo,
+            @RequestParam(required = false) List<String> sections,
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String engine) {
+        validateDateRange(dateFrom, dateTo);
+
+        StatisticsService statistics = engine(engine);
+        Map<String, Supplier<?>> tasks = new LinkedHashMap<>();
+        for (String section : sections != null && !sections.isEmpty() ? sections : SECTIONS) {
+            String name = section.toLowerCase();
+            switch (name) {
+                case "dashboard" -> tasks.put(name, this::buildDashboard);
+                case "dynamics" -> tasks.put(name, () -> buildDateRange(statistics, dateFrom, dateTo, granularity));
+                case "statuses" -> tasks.put(name, () -> buildByStatus(statistics, dateFrom, dateTo));
+                case "services" -> tasks.put(name, () -> buildByService(statistics, dateFrom, dateTo));
+                case "employees" -> tasks.put(name, () -> buildByEmployee(statistics, dateFrom, dateTo));
+                case "noshow" -> tasks.put(name, () -> buildNoShowRate(statistics, dateFrom, dateTo));
+                case "workload" -> tasks.put(name, this::buildTodayWorkload);
+                default ->
+                    throw new BadRequestException("Invalid section: " + section + ". Valid sections: " + SECTIONS);
+            }
+        }
+
+        return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                .data(parallelReadService.runAll(tasks))
+                .status(true)
+                .message("Statistics overview retrieved successfully")
+                .build());
+    }
+
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildRollup() {
+        int rows = dailyStatsService.rebuild();
+
+        return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                .data(Map.of("rows", rows))
+                .status(true)
+                .message("Daily statistics rebuilt successfully")
+                .build());
+    }
 
-        List<Appointment> appointments;
+    @PostMapping("/columnar/reload")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reloadColumnar() {
+        int rows = columnarStatisticsService.reload();
+
+        return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                .data(Map.of("rows", rows))
+                .status(true)
+                .message("Columnar statistics reloaded successfully")
+                .build());
+    }
+
+    @PostMapping("/flow/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildFlow() {
+        int rows = flowStatsService.rebuild();
+
+        return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                .data(Map.of("rows", rows))
+                .status(true)
+                .message("Patient flow statistics rebuilt successfully")
+                .build());
+    }
+
+    @PostMapping("/risk/recompute")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> recomputeRisk() {
+        int patients = noShowRiskService.recompute();
+
+        return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                .data(Map.of("patients", patients))
+                .status(true)
+                .message("No-show risk recomputed successfully")
+                .build());
+    }
+
+    @PostMapping("/export/pdf")
+    public ResponseEntity<StreamingResponseBody> exportPdf(@Valid @RequestBody PdfExportRequest request) {
+        validateExport(request);
+
+        ReportData data = reportDataService.load(request.dateFrom(), request.dateTo(), request.sections());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("analytics_" + request.dateFrom() + "_" + request.dateTo() + ".pdf")
+                .build());
+
+        StreamingResponseBody body =
+                out -> pdfExportService.writeAnalyticsReport(data, request.sections(), out, percent -> {});
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    @PostMapping("/export/pdf/jobs")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> submitPdfJob(@Valid @RequestBody PdfExportRequest request) {
+        validateExport(request);
+        ReportJob job = reportJobService.submit(request.dateFrom(), request.dateTo(), request.sections());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.<ReportJobResponse>builder()
+                        .data(toJobResponse(job))
+                        .status(true)
+                        .message("Report job submitted successfully")
+                        .build());
+    }
+
+    @GetMapping("/export/pdf/jobs/{id}")
+    public ResponseEntity<ApiResponse<ReportJobResponse>> getPdfJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponse.<ReportJobResponse>builder()
+                .data(toJobResponse(reportJobService.getJob(id)))
+                .status(true)
+                .message("Report job retrieved successfully")
+                .build());
+    }
+
+    @GetMapping("/export/pdf/jobs/{id}/file")
+    public ResponseEntity<Resource> downloadPdfJob(@PathVariable UUID id) {
+        ReportJob job = reportJobService.getCompletedJob(id);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("analytics_" + job.getDateFrom() + "_" + job.getDateTo() + ".pdf")
+                .build());
+        headers.setContentLength(job.getSize());
+
+        return new ResponseEntity<>(new FileSystemResource(job.getFile()), headers, HttpStatus.OK);
+    }
+
+    private void validateDateRange(LocalDate dateFrom, LocalDate dateTo) {
+        if (dateFrom.isAfter(dateTo)) {
+            throw new BadRequestException("Date from must be before or equal to date to");
+        }
+        if (ChronoUnit.DAYS.between(dateFrom, dateTo) >= maxRangeDays) {
+            throw new BadRequestException("Date range must not exceed " + maxRangeDays + " days");
+        }
+    }
+
+    private void validateOptionalDateRange(LocalDate dateFrom, LocalDate dateTo) {
         if (dateFrom != null && dateTo != null) {
-            appointments = new ArrayList<>();
-            LocalDate current = dateFrom;
-            while (!current.isAfter(dateTo)) {
-                appointments.addAll(appointmentService.findByDate(current));
-                current = current.plusDays(1);
+            validateDateRange(dateFrom, dateTo);
+        }
+    }
+
+    private void validateExport(PdfExportRequest request) {
+        validateDateRange(request.dateFrom(), request.dateTo());
+        for (String section : request.sections()) {
+            if (!SECTIONS.contains(section.toLowerCase())) {
+                throw new BadRequestException("Invalid section: " + section + ". Valid sections: " + SECTIONS);
             }
-        } else {
-            appointments = appointmentService.findAll();
         }
+    }
 
-        Map<UUID, List<Appointment>> byService = appointments.stream()
-                .filter(a -> a.getService() != null)
-                .collect(Collectors.groupingBy(a -> a.getService().getId()));
+    private ReportJobResponse toJobResponse(ReportJob job) {
+        return new ReportJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getProgress(),
+                job.getDateFrom(),
+                job.getDateTo(),
+                job.getSections(),
+                job.getCreatedAt(),
+                job.getFinishedAt(),
+                job.getStatus() == ReportJob.Status.COMPLETED ? job.getSize() : null,
+                job.getError());
+    }
 
-        List<Map<String, Object>> result = byService.entrySet().stream()
-                .map(entry -> {
-                    Map<String, Object> serviceStats = new HashMap<>();
-                    Appointment first = entry.getValue().getFirst();
-                    serviceStats.put("serviceId", entry.getKey());
-                    serviceStats.put("serviceName", first.getService().getName());
-                    serviceStats.put(
-                            "totalAppointments", (long) entry.getValue().size());
+    private Map<String, Object> buildDashboard() {
+        DashboardCounters counters = dashboardService.getCounters();
+        Map<String, Object> dashboard = new HashMap<>();
 
-                    long paidCount = entry.getValue().stream()
-                            .filter(Appointment::getIsPaid)
-                            .count();
-                    serviceStats.put("paidCount", paidCount);
-                    serviceStats.put("freeCount", (long) entry.getValue().size() - paidCount);
+        dashboard.put("totalPatients", counters.totalPatients());
+        dashboard.put("totalEmployees", counters.totalEmployees());
+        dashboard.put("activeEmployees", counters.activeEmployees());
+        dashboard.put("todayAppointmentsCount", counters.todayAppointments());
+        dashboard.put("todayByStatus", toNameMap(counters.todayByStatus()));
+        return dashboard;
+    }
 
-                    return serviceStats;
+    private Map<String, Object> buildDateRange(
+            StatisticsService statistics, LocalDate dateFrom, LocalDate dateTo, String granularity) {
+        Map<String, Object> stats = new HashMap<>();
+        BucketedCounts buckets =
+                statistics.countByPeriod(dateFrom, dateTo, granularity != null ? Granularity.from(granularity) : null);
+        long totalCount =
+                buckets.counts().values().stream().mapToLong(Long::longValue).sum();
+        long days = ChronoUnit.DAYS.between(dateFrom, dateTo) + 1;
+
+        stats.put("byDate", buckets.counts());
+        stats.put("granularity", buckets.granularity().unit());
+        stats.put("totalCount", totalCount);
+        stats.put("averagePerDay", days > 0 ? totalCount / days : 0);
+        return stats;
+    }
+
+    private Map<String, Long> buildByStatus(StatisticsService statistics, LocalDate dateFrom, LocalDate dateTo) {
+        return toNameMap(statistics.countByStatus(dateFrom, dateTo));
+    }
+
+    private List<Map<String, Object>> buildByEmployee(
+            StatisticsService statistics, LocalDate dateFrom, LocalDate dateTo) {
+        return statistics.countByEmployee(dateFrom, dateTo).stream()
+                .map(employee -> {
+                    Map<String, Object> employeeStats = new HashMap<>();
+                    employeeStats.put("employeeId", employee.employeeId());
+                    employeeStats.put("employeeName", employee.fullName());
+                    employeeStats.put("specialty", employee.specialty());
+                    employeeStats.put("totalAppointments", employee.total());
+                    employeeStats.put("byStatus", toNameMap(employee.byStatus()));
+                    return employeeStats;
                 })
-                .sorted((a, b) -> Long.compare(
-                        ((Number) b.get("totalAppointments")).longValue(),
-                        ((Number) a.get("totalAppointments")).longValue()))
                 .toList();
+    }
 
-        return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
-                .data(result)
-                .status(true)
-                .message("Appointments by service retrieved successfully")
-                .build());
+    private List<Map<String, Object>> buildByService(
+            StatisticsService statistics, LocalDate dateFrom, LocalDate dateTo) {
+        return statistics.countByService(dateFrom, dateTo).stream()
+                .map(service -> {
+                    Map<String, Object> serviceStats = new HashMap<>();
+                    serviceStats.put("serviceId", service.serviceId());
+                    serviceStats.put("serviceName", service.serviceName());
+                    serviceStats.put("totalAppointments", service.total());
+                    serviceStats.put("paidCount", service.paidCount());
+                    serviceStats.put("freeCount", service.total() - service.paidCount());
+                    return serviceStats;
+                })
+                .toList();
     }
 
-    @GetMapping("/workload/today")
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getTodayWorkload() {
+    private List<Map<String, Object>> buildTodayWorkload() {
         LocalDate today = LocalDate.now();
         List<Appointment> todayAppointments = appointmentService.findByDate(today);
 
@@ -225,7 +484,9 @@ public class StatisticsController {
                     Map<String, Object> employeeWorkload = new HashMap<>();
                     Appointment first = entry.getValue().getFirst();
                     employeeWorkload.put("employeeId", entry.getKey());
-                    employeeWorkload.put("employeeName", getFullName(first.getEmployee()));
+                    employeeWorkload.put(
+                            "employeeName",
+                            first.getEmployee() != null ? EmployeeMapper.getFullName(first.getEmployee()) : null);
                     employeeWorkload.put("cabinet", first.getEmployee().getCabinet());
                     employeeWorkload.put(
                             "totalAppointments", (long) entry.getValue().size());
@@ -256,86 +517,34 @@ public class StatisticsController {
                         ((Number) b.get("totalAppointments")).longValue(),
                         ((Number) a.get("totalAppointments")).longValue()))
                 .toList();
-
-        return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
-                .data(workload)
-                .status(true)
-                .message("Today workload retrieved successfully")
-                .build());
+        return workload;
     }
 
-    @GetMapping("/no-show-rate")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getNoShowRate(
-            @RequestParam LocalDate dateFrom, @RequestParam LocalDate dateTo) {
-
-        List<Appointment> appointments = new ArrayList<>();
-        LocalDate current = dateFrom;
-        while (!current.isAfter(dateTo)) {
-            appointments.addAll(appointmentService.findByDate(current));
-            current = current.plusDays(1);
-        }
-
-        long total = appointments.size();
-        long noShow = appointments.stream()
-                .filter(a -> a.getStatus() == AppointmentStatus.NO_SHOW)
-                .count();
+    private Map<String, Object> buildNoShowRate(StatisticsService statistics, LocalDate dateFrom, LocalDate dateTo) {
+        Map<AppointmentStatus, Long> byStatus = statistics.countByStatus(dateFrom, dateTo);
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        long noShow = byStatus.getOrDefault(AppointmentStatus.NO_SHOW, 0L);
 
         Map<String, Object> result = new HashMap<>();
         result.put("totalAppointments", total);
         result.put("noShowCount", noShow);
         result.put("noShowRate", total > 0 ? (double) noShow / total * 100 : 0);
-
-        return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
-                .data(result)
-                .status(true)
-                .message("No-show rate retrieved successfully")
-                .build());
+        return result;
     }
 
-    @PostMapping("/export/pdf")
-    public ResponseEntity<?> exportPdf(@Valid @RequestBody PdfExportRequest request) {
-        if (request.dateFrom().isAfter(request.dateTo())) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.<Void>builder()
-                            .data(null)
-                            .status(false)
-                            .message("Date from must be before or equal to date to")
-                            .build());
+    private StatisticsService engine(String engine) {
+        if (engine == null || engine.equalsIgnoreCase("rollup")) {
+            return statisticsService;
         }
-
-        List<String> validSections =
-                List.of("dashboard", "dynamics", "statuses", "services", "employees", "noshow", "workload");
-        for (String section : request.sections()) {
-            if (!validSections.contains(section.toLowerCase())) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.<Void>builder()
-                                .data(null)
-                                .status(false)
-                                .message("Invalid section: " + section + ". Valid sections: " + validSections)
-                                .build());
-            }
+        if (engine.equalsIgnoreCase("columnar")) {
+            return columnarStatisticsService;
         }
-
-        byte[] pdfBytes =
-                pdfExportService.generateAnalyticsReport(request.dateFrom(), request.dateTo(), request.sections());
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDisposition(ContentDisposition.attachment()
-                .filename("analytics_" + request.dateFrom() + "_" + request.dateTo() + ".pdf")
-                .build());
-        headers.setContentLength(pdfBytes.length);
-
-        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+        throw new BadRequestException("Invalid engine: " + engine + ". Valid engines: [rollup, columnar]");
     }
 
-    private String getFullName(by.bsuir.mis.entity.Employee employee) {
-        if (employee == null) return null;
-        StringBuilder sb = new StringBuilder();
-        sb.append(employee.getLastName()).append(" ").append(employee.getFirstName());
-        if (employee.getMiddleName() != null && !employee.getMiddleName().isBlank()) {
-            sb.append(" ").append(employee.getMiddleName());
-        }
-        return sb.toString();
+    private static Map<String, Long> toNameMap(Map<AppointmentStatus, Long> byStatus) {
+        Map<String, Long> result = new HashMap<>();
+        byStatus.forEach((status, count) -> result.put(status.name(), count));
+        return result;
     }
 }
@@ -0,0 +1,137 @@
+package by.bsuir.mis.controller;
+
+import by.bsuir.mis.API.ApiResponse;
+import by.bsuir.mis.dto.request.WaitlistRequest;
+import by.bsuir.mis.dto.response.WaitlistEntryResponse;
+import by.bsuir.mis.entity.*;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceNotFoundException;
+import by.bsuir.mis.mapper.WaitlistEntryMapper;
+import by.bsuir.mis.service.*;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private static final int MAX_WINDOW_DAYS = 60;
+
+    private final WaitlistService waitlistService;
+    private final PatientService patientService;
+    private final EmployeeService employeeService;
+    private final ServiceService serviceService;
+    private final UserService userService;
+    private final UserPatientService userPatientService;
+    private final WaitlistEntryMapper waitlistEntryMapper;
+
+    private void checkPatientAccess(UUID patientId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean isPatient =
+                auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_PATIENT"));
+
+        if (isPatient) {
+            User currentUser = userService
+                    .findByLogin(auth.getName())
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "login", auth.getName()));
+
+            if (!userPatientService.existsByUserIdAndPatientId(currentUser.getId(), patientId)) {
+                throw new AccessDeniedException("You can only manage the waitlist for patients linked to your account");
+            }
+        }
+    }
+
+    @GetMapping("/patient/{patientId}")
+    public ResponseEntity<ApiResponse<List<WaitlistEntryResponse>>> getByPatient(@PathVariable UUID patientId) {
+        checkPatientAccess(patientId);
+        List<WaitlistEntryResponse> entries = waitlistService.findByPatientId(patientId).stream()
+                .map(waitlistEntryMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.<List<WaitlistEntryResponse>>builder()
+                .data(entries)
+                .status(true)
+                .message("Waitlist entries retrieved successfully")
+                .build());
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> join(
+            @Valid @RequestBody WaitlistRequest request, @RequestHeader(value = "X-User-Id") UUID userId) {
+        checkPatientAccess(request.patientId());
+
+        if (request.dateFrom().isAfter(request.dateTo())) {
+            throw new BadRequestException("Date from must not be after date to");
+        }
+        if (request.dateTo().isBefore(LocalDate.now())) {
+            throw new BadRequestException("Waitlist window is already in the past");
+        }
+        if (ChronoUnit.DAYS.between(request.dateFrom(), request.dateTo()) >= MAX_WINDOW_DAYS) {
+            throw new BadRequestException("Waitlist window must not exceed " + MAX_WINDOW_DAYS + " days");
+        }
+        if (request.timeFrom() != null
+                && request.timeTo() != null
+                && !request.timeFrom().isBefore(request.timeTo())) {
+            throw new BadRequestException("Time from must be before time to");
+        }
+
+        Patient patient = patientService
+                .findById(request.patientId())
+                .orElseThrow(() -> new ResourceNotFoundException("Patient", "id", request.patientId()));
+        Service service = serviceService
+                .findById(request.serviceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Service", "id", request.serviceId()));
+        Employee employee = null;
+        if (request.employeeId() != null) {
+            employee = employeeService
+                    .findById(request.employeeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", request.employeeId()));
+        }
+        User createdBy =
+                userService.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .patient(patient)
+                .service(service)
+                .employee(employee)
+                .dateFrom(request.dateFrom().isBefore(LocalDate.now()) ? LocalDate.now() : request.dateFrom())
+                .dateTo(request.dateTo())
+                .timeFrom(request.timeFrom())
+                .timeTo(request.timeTo())
+                .createdBy(createdBy)
+                .build();
+
+        WaitlistEntry saved = waitlistService.join(entry);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.<WaitlistEntryResponse>builder()
+                        .data(waitlistEntryMapper.toResponse(saved))
+                        .status(true)
+                        .message("Added to waitlist successfully")
+                        .build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> cancel(@PathVariable UUID id) {
+        WaitlistEntry entry = waitlistService
+                .findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("WaitlistEntry", "id", id));
+        checkPatientAccess(entry.getPatient().getId());
+
+        WaitlistEntry cancelled = waitlistService.cancel(id);
+        return ResponseEntity.ok(ApiResponse.<WaitlistEntryResponse>builder()
+                .data(waitlistEntryMapper.toResponse(cancelled))
+                .status(true)
+                .message("Waitlist entry cancelled successfully")
+                .build());
+    }
+}
@@ -0,0 +1,35 @@
+package by.bsuir.mis.dto.request;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.RecurrenceFrequency;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record AppointmentSeriesRequest(
+        @NotNull(message = "Patient ID is required") UUID patientId,
+
+        @NotNull(message = "Employee ID is required") UUID employeeId,
+
+        @NotNull(message = "Service ID is required") UUID serviceId,
+
+        @NotNull(message = "First date is required") LocalDate firstDate,
+
+        @NotNull(message = "Start time is required") LocalTime startTime,
+
+        @NotNull(message = "End time is required") LocalTime endTime,
+
+        @NotNull(message = "Frequency is required") RecurrenceFrequency frequency,
+
+        @Min(value = 1, message = "Interval must be at least 1")
+        Integer interval,
+
+        @Min(value = 1, message = "Count must be at least 1") @Max(value = 52, message = "Count must not exceed 52")
+        Integer count,
+
+        LocalDate until,
+
+        AppointmentSource source) {}
@@ -0,0 +1,14 @@
+package by.bsuir.mis.dto.request;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record HoldConfirmRequest(
+        @NotNull(message = "Patient ID is required") UUID patientId,
+
+        UUID serviceId,
+
+        UUID scheduleId,
+
+        AppointmentSource source) {}
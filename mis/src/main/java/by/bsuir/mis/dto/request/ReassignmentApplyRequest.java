@@ -0,0 +1,9 @@
+package by.bsuir.mis.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record ReassignmentApplyRequest(
+        @NotEmpty(message = "At least one reassignment is required")
+        List<@Valid ReassignmentItemRequest> reassignments) {}
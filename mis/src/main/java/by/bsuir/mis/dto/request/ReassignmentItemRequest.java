@@ -0,0 +1,16 @@
+package by.bsuir.mis.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReassignmentItemRequest(
+        @NotNull(message = "Appointment ID is required") UUID appointmentId,
+
+        @NotNull(message = "Employee ID is required") UUID employeeId,
+
+        UUID scheduleId,
+
+        @NotNull(message = "Start time is required") LocalDateTime startTime,
+
+        @NotNull(message = "End time is required") LocalDateTime endTime) {}
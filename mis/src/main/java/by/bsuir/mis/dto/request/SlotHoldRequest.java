@@ -0,0 +1,17 @@
+package by.bsuir.mis.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SlotHoldRequest(
+        @NotNull(message = "Employee ID is required") UUID employeeId,
+
+        @NotNull(message = "Service ID is required") UUID serviceId,
+
+        @NotNull(message = "Appointment date is required") LocalDate appointmentDate,
+
+        @NotNull(message = "Start time is required") LocalDateTime startTime,
+
+        @NotNull(message = "End time is required") LocalDateTime endTime) {}
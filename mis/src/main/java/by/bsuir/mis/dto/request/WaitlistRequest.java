@@ -0,0 +1,21 @@
+package by.bsuir.mis.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record WaitlistRequest(
+        @NotNull(message = "Patient ID is required") UUID patientId,
+
+        @NotNull(message = "Service ID is required") UUID serviceId,
+
+        UUID employeeId,
+
+        @NotNull(message = "Date from is required") LocalDate dateFrom,
+
+        @NotNull(message = "Date to is required") LocalDate dateTo,
+
+        LocalTime timeFrom,
+
+        LocalTime timeTo) {}
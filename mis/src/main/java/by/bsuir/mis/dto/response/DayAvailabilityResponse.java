@@ -0,0 +1,5 @@
+package by.bsuir.mis.dto.response;
+
+import java.time.LocalDate;
+
+public record DayAvailabilityResponse(LocalDate date, int freeSlots, int workingDoctors) {}
@@ -19,5 +19,6 @@ public record PatientResponse(
         String phone,
         String email,
         String address,
+        Integer noShowRisk,
         LocalDateTime createdAt,
         LocalDateTime updatedAt) {}
@@ -0,0 +1,3 @@
+package by.bsuir.mis.dto.response;
+
+public record ReassignmentProposalResponse(AppointmentShortResponse appointment, SlotResponse proposedSlot) {}
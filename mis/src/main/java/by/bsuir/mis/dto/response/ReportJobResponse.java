@@ -0,0 +1,19 @@
+package by.bsuir.mis.dto.response;
+
+import by.bsuir.mis.model.ReportJob;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record ReportJobResponse(
+        UUID id,
+        ReportJob.Status status,
+        int progress,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        List<String> sections,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        Long size,
+        String error) {}
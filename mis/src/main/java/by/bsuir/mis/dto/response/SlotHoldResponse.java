@@ -0,0 +1,14 @@
+package by.bsuir.mis.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SlotHoldResponse(
+        UUID id,
+        UUID employeeId,
+        UUID serviceId,
+        LocalDate appointmentDate,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        LocalDateTime expiresAt) {}
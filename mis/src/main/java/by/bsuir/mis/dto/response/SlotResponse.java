@@ -0,0 +1,14 @@
+package by.bsuir.mis.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record SlotResponse(
+        UUID employeeId,
+        UUID scheduleId,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        String cabinet,
+        Boolean isPaid) {}
@@ -0,0 +1,23 @@
+package by.bsuir.mis.dto.response;
+
+import by.bsuir.mis.entity.enums.WaitlistStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record WaitlistEntryResponse(
+        UUID id,
+        UUID patientId,
+        String patientFullName,
+        UUID serviceId,
+        String serviceName,
+        UUID employeeId,
+        String employeeFullName,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        LocalTime timeFrom,
+        LocalTime timeTo,
+        WaitlistStatus status,
+        UUID appointmentId,
+        LocalDateTime createdAt) {}
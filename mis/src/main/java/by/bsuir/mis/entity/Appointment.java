@@ -83,4 +83,23 @@ public class Appointment {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private AppointmentDailyStatsId recordedStatsKey;
+
+    public AppointmentDailyStatsId statsKey() {
+        return new AppointmentDailyStatsId(
+                appointmentDate,
+                employee != null ? employee.getId() : null,
+                service != null ? service.getId() : null,
+                status,
+                source,
+                isPaid);
+    }
+
+    @PostLoad
+    public void markStatsRecorded() {
+        recordedStatsKey = statsKey();
+    }
 }
@@ -0,0 +1,22 @@
+package by.bsuir.mis.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(
+        name = "appointment_daily_stats",
+        indexes = {@Index(name = "idx_ads_employee", columnList = "employee_id, stat_date")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AppointmentDailyStats {
+
+    @EmbeddedId
+    private AppointmentDailyStatsId id;
+
+    @Column(name = "appointment_count", nullable = false)
+    private Long appointmentCount;
+}
@@ -0,0 +1,37 @@
+package by.bsuir.mis.entity;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.*;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AppointmentDailyStatsId implements Serializable {
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(name = "service_id", nullable = false)
+    private UUID serviceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AppointmentStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AppointmentSource source;
+
+    @Column(name = "is_paid", nullable = false)
+    private Boolean isPaid;
+}
@@ -0,0 +1,43 @@
+package by.bsuir.mis.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(
+        name = "appointment_flow_stats",
+        indexes = {@Index(name = "idx_afs_employee", columnList = "employee_id, stat_date")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AppointmentFlowStats implements Persistable<AppointmentFlowStatsId> {
+
+    @EmbeddedId
+    private AppointmentFlowStatsId id;
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Column(name = "histogram", nullable = false)
+    private byte[] histogram;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -66,4 +66,13 @@ public class Employee {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Boolean recordedActive;
+
+    @PostLoad
+    public void markActiveRecorded() {
+        recordedActive = isActive;
+    }
 }
@@ -0,0 +1,55 @@
+package by.bsuir.mis.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "patient_risk_scores")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PatientRiskScore implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "patient_id")
+    private UUID patientId;
+
+    @Column(name = "score", nullable = false)
+    private Short score;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    @Column(name = "no_show_count", nullable = false)
+    private Integer noShowCount;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean isNew = true;
+
+    @Override
+    public UUID getId() {
+        return patientId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
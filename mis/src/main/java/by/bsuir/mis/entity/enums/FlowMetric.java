@@ -0,0 +1,7 @@
+package by.bsuir.mis.entity.enums;
+
+public enum FlowMetric {
+    LEAD_TIME,
+    START_DELAY,
+    VISIT_DURATION
+}
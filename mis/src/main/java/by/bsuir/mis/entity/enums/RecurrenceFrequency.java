@@ -0,0 +1,6 @@
+package by.bsuir.mis.entity.enums;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY
+}
@@ -0,0 +1,8 @@
+package by.bsuir.mis.entity.enums;
+
+public enum WaitlistStatus {
+    WAITING,
+    BOOKED,
+    CANCELLED,
+    EXPIRED
+}
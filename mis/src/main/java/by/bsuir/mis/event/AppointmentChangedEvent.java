@@ -0,0 +1,54 @@
+package by.bsuir.mis.event;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AppointmentChangedEvent(
+        ChangeType type,
+        UUID appointmentId,
+        UUID employeeId,
+        UUID serviceId,
+        LocalDate appointmentDate,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        AppointmentStatus status,
+        UUID patientId,
+        AppointmentSource source,
+        Boolean isPaid) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static AppointmentChangedEvent of(ChangeType type, Appointment appointment) {
+        return new AppointmentChangedEvent(
+                type,
+                appointment.getId(),
+                appointment.getEmployee() != null ? appointment.getEmployee().getId() : null,
+                appointment.getService() != null ? appointment.getService().getId() : null,
+                appointment.getAppointmentDate(),
+                appointment.getStartTime(),
+                appointment.getEndTime(),
+                appointment.getStatus(),
+                appointment.getPatient() != null ? appointment.getPatient().getId() : null,
+                appointment.getSource(),
+                appointment.getIsPaid());
+    }
+
+    public static AppointmentChangedEvent deleted(UUID appointmentId) {
+        return new AppointmentChangedEvent(
+                ChangeType.DELETED, appointmentId, null, null, null, null, null, null, null, null, null);
+    }
+
+    public boolean occupiesTime() {
+        return type != ChangeType.DELETED
+                && status != AppointmentStatus.CANCELLED
+                && status != AppointmentStatus.RESCHEDULED;
+    }
+}
@@ -0,0 +1,10 @@
+package by.bsuir.mis.event;
+
+import java.util.UUID;
+
+public record ScheduleChangedEvent(UUID employeeId, UUID scheduleId) {
+
+    public static ScheduleChangedEvent forEmployee(UUID employeeId) {
+        return new ScheduleChangedEvent(employeeId, null);
+    }
+}
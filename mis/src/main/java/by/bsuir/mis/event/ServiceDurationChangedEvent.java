@@ -0,0 +1,5 @@
+package by.bsuir.mis.event;
+
+import java.util.UUID;
+
+public record ServiceDurationChangedEvent(UUID serviceId) {}
@@ -0,0 +1,8 @@
+package by.bsuir.mis.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -41,11 +41,15 @@ public class EmployeeMapper {
                 employee.getSpecialty() != null ? employee.getSpecialty().getName() : null);
     }
 
-    private String getFullName(Employee employee) {
+    public static String getFullName(Employee employee) {
+        return getFullName(employee.getLastName(), employee.getFirstName(), employee.getMiddleName());
+    }
+
+    public static String getFullName(String lastName, String firstName, String middleName) {
         StringBuilder sb = new StringBuilder();
-        sb.append(employee.getLastName()).append(" ").append(employee.getFirstName());
-        if (employee.getMiddleName() != null && !employee.getMiddleName().isBlank()) {
-            sb.append(" ").append(employee.getMiddleName());
+        sb.append(lastName).append(" ").append(firstName);
+        if (middleName != null && !middleName.isBlank()) {
+            sb.append(" ").append(middleName);
         }
         return sb.toString();
     }
@@ -3,13 +3,18 @@ package by.bsuir.mis.mapper;
 import by.bsuir.mis.dto.response.PatientResponse;
 import by.bsuir.mis.dto.response.PatientShortResponse;
 import by.bsuir.mis.entity.Patient;
+import by.bsuir.mis.service.NoShowRiskService;
 import java.time.LocalDate;
 import java.time.Period;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class PatientMapper {
 
+    private final NoShowRiskService noShowRiskService;
+
     public PatientResponse toResponse(Patient patient) {
         if (patient == null) return null;
         return new PatientResponse(
@@ -26,6 +31,7 @@ public class PatientMapper {
                 patient.getPhone(),
                 patient.getEmail(),
                 patient.getAddress(),
+                noShowRiskService.getRiskPercent(patient.getId()),
                 patient.getCreatedAt(),
                 patient.getUpdatedAt());
     }
@@ -33,10 +39,14 @@ public class PatientMapper {
     public PatientShortResponse toShortResponse(Patient patient) {
         if (patient == null) return null;
         return new PatientShortResponse(
-                patient.getId(), getFullName(patient), patient.getBirthDate(), patient.getPhone());
+                patient.getId(),
+                getFullName(patient),
+                patient.getBirthDate(),
+                patient.getPhone(),
+                noShowRiskService.getRiskPercent(patient.getId()));
     }
 
-    private String getFullName(Patient patient) {
+    public static String getFullName(Patient patient) {
         StringBuilder sb = new StringBuilder();
         sb.append(patient.getLastName()).append(" ").append(patient.getFirstName());
         if (patient.getMiddleName() != null && !patient.getMiddleName().isBlank()) {
@@ -0,0 +1,28 @@
+package by.bsuir.mis.mapper;
+
+import by.bsuir.mis.dto.response.WaitlistEntryResponse;
+import by.bsuir.mis.entity.WaitlistEntry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WaitlistEntryMapper {
+
+    public WaitlistEntryResponse toResponse(WaitlistEntry entry) {
+        if (entry == null) return null;
+        return new WaitlistEntryResponse(
+                entry.getId(),
+                entry.getPatient() != null ? entry.getPatient().getId() : null,
+                entry.getPatient() != null ? PatientMapper.getFullName(entry.getPatient()) : null,
+                entry.getService() != null ? entry.getService().getId() : null,
+                entry.getService() != null ? entry.getService().getName() : null,
+                entry.getEmployee() != null ? entry.getEmployee().getId() : null,
+                entry.getEmployee() != null ? EmployeeMapper.getFullName(entry.getEmployee()) : null,
+                entry.getDateFrom(),
+                entry.getDateTo(),
+                entry.getTimeFrom(),
+                entry.getTimeTo(),
+                entry.getStatus(),
+                entry.getAppointment() != null ? entry.getAppointment().getId() : null,
+                entry.getCreatedAt());
+    }
+}
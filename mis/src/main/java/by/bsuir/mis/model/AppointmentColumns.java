@@ -0,0 +1,238 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+public class AppointmentColumns {
+
+    public static final int STATUS_COUNT = AppointmentStatus.values().length;
+    public static final int SOURCE_COUNT = AppointmentSource.values().length;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int CHUNK_SIZE = 1 << 15;
+    private static final int NONE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> rows = new HashMap<>();
+    private final Dictionary employees = new Dictionary();
+    private final Dictionary services = new Dictionary();
+    private final Dictionary patients = new Dictionary();
+
+    private int size;
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private byte[] sources = new byte[INITIAL_CAPACITY];
+    private int[] employeeCodes = new int[INITIAL_CAPACITY];
+    private int[] serviceCodes = new int[INITIAL_CAPACITY];
+    private int[] patientCodes = new int[INITIAL_CAPACITY];
+    private final BitSet paid = new BitSet(INITIAL_CAPACITY);
+    private final BitSet deleted = new BitSet(INITIAL_CAPACITY);
+
+    public void upsert(
+            UUID appointmentId,
+            LocalDate date,
+            AppointmentStatus status,
+            AppointmentSource source,
+            UUID employeeId,
+            UUID serviceId,
+            UUID patientId,
+            boolean isPaid) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rows.get(appointmentId);
+            int row;
+            if (existing != null) {
+                row = existing;
+            } else {
+                row = size++;
+                ensureCapacity(size);
+                rows.put(appointmentId, row);
+            }
+            epochDays[row] = (int) date.toEpochDay();
+            statuses[row] = (byte) status.ordinal();
+            sources[row] = (byte) (source != null ? source.ordinal() : NONE);
+            employeeCodes[row] = employees.encode(employeeId);
+            serviceCodes[row] = services.encode(serviceId);
+            patientCodes[row] = patients.encode(patientId);
+            paid.set(row, isPaid);
+            deleted.clear(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID appointmentId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.remove(appointmentId);
+            if (row == null) {
+                return false;
+            }
+            deleted.set(row);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] countByDay(LocalDate dateFrom, LocalDate dateTo) {
+        int first = (int) dateFrom.toEpochDay();
+        int days = (int) (dateTo.toEpochDay() - first + 1);
+        return scan(dateFrom, dateTo, () -> days, (counts, row) -> counts[epochDays[row] - first]++);
+    }
+
+    public long[] countByStatus(LocalDate dateFrom, LocalDate dateTo) {
+        return scan(dateFrom, dateTo, () -> STATUS_COUNT, (counts, row) -> counts[statuses[row]]++);
+    }
+
+    public long[] countBySource(LocalDate dateFrom, LocalDate dateTo) {
+        return scan(dateFrom, dateTo, () -> SOURCE_COUNT, (counts, row) -> {
+            if (sources[row] != NONE) {
+                counts[sources[row]]++;
+            }
+        });
+    }
+
+    public Map<UUID, long[]> countByEmployeeAndStatus(LocalDate dateFrom, LocalDate dateTo) {
+        lock.readLock().lock();
+        try {
+            long[] counts = scan(dateFrom, dateTo, () -> employees.size() * STATUS_COUNT, (acc, row) -> {
+                if (employeeCodes[row] != NONE) {
+                    acc[employeeCodes[row] * STATUS_COUNT + statuses[row]]++;
+                }
+            });
+            return decode(employees, counts, STATUS_COUNT);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<UUID, long[]> countByServiceAndPaid(LocalDate dateFrom, LocalDate dateTo) {
+        lock.readLock().lock();
+        try {
+            long[] counts = scan(dateFrom, dateTo, () -> services.size() * 2, (acc, row) -> {
+                if (serviceCodes[row] != NONE) {
+                    acc[serviceCodes[row] * 2]++;
+                    if (paid.get(row)) {
+                        acc[serviceCodes[row] * 2 + 1]++;
+                    }
+                }
+            });
+            return decode(services, counts, 2);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] scan(LocalDate dateFrom, LocalDate dateTo, Width width, RowVisitor visitor) {
+        int first = dateFrom != null ? (int) dateFrom.toEpochDay() : Integer.MIN_VALUE;
+        int last = dateTo != null ? (int) dateTo.toEpochDay() : Integer.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            int rowCount = size;
+            int cells = width.get();
+            int chunks = (rowCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            return IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> {
+                        long[] acc = new long[cells];
+                        int end = Math.min(rowCount, (chunk + 1) * CHUNK_SIZE);
+                        for (int row = chunk * CHUNK_SIZE; row < end; row++) {
+                            int day = epochDays[row];
+                            if (day >= first && day <= last && !deleted.get(row)) {
+                                visitor.visit(acc, row);
+                            }
+                        }
+                        return acc;
+                    })
+                    .reduce((left, right) -> {
+                        for (int i = 0; i < left.length; i++) {
+                            left[i] += right[i];
+                        }
+                        return left;
+                    })
+                    .orElseGet(() -> new long[cells]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<UUID, long[]> decode(Dictionary dictionary, long[] counts, int stride) {
+        Map<UUID, long[]> result = new HashMap<>();
+        for (int code = 0; code < dictionary.size(); code++) {
+            long[] slice = Arrays.copyOfRange(counts, code * stride, (code + 1) * stride);
+            if (Arrays.stream(slice).anyMatch(count -> count > 0)) {
+                result.put(dictionary.decode(code), slice);
+            }
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= epochDays.length) {
+            return;
+        }
+        int capacity = Math.max(required, epochDays.length * 2);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        sources = Arrays.copyOf(sources, capacity);
+        employeeCodes = Arrays.copyOf(employeeCodes, capacity);
+        serviceCodes = Arrays.copyOf(serviceCodes, capacity);
+        patientCodes = Arrays.copyOf(patientCodes, capacity);
+    }
+
+    @FunctionalInterface
+    private interface Width {
+        int get();
+    }
+
+    @FunctionalInterface
+    private interface RowVisitor {
+        void visit(long[] acc, int row);
+    }
+
+    private static final class Dictionary {
+
+        private final Map<UUID, Integer> codes = new HashMap<>();
+        private final List<UUID> values = new ArrayList<>();
+
+        private int encode(UUID value) {
+            if (value == null) {
+                return NONE;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        private UUID decode(int code) {
+            return values.get(code);
+        }
+
+        private int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package by.bsuir.mis.model;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record BucketedCounts(Granularity granularity, Map<LocalDate, Long> counts) {}
@@ -0,0 +1,12 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.util.Map;
+
+public record DashboardCounters(
+        long totalPatients, long totalEmployees, long activeEmployees, Map<AppointmentStatus, Long> todayByStatus) {
+
+    public long todayAppointments() {
+        return todayByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
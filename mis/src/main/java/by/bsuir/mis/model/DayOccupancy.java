@@ -0,0 +1,131 @@
+package by.bsuir.mis.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class DayOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS = (MINUTES_PER_DAY + 63) >>> 6;
+
+    private final long[] words = new long[WORDS];
+    private final Map<UUID, int[]> intervals = new HashMap<>();
+
+    public synchronized void occupy(UUID appointmentId, int from, int to) {
+        if (intervals.containsKey(appointmentId)) {
+            release(appointmentId);
+        }
+        intervals.put(appointmentId, new int[] {from, to});
+        setRange(from, to);
+    }
+
+    public synchronized boolean tryOccupy(UUID id, int from, int to) {
+        if (!isFree(from, to)) {
+            return false;
+        }
+        occupy(id, from, to);
+        return true;
+    }
+
+    public synchronized boolean release(UUID appointmentId) {
+        if (intervals.remove(appointmentId) == null) {
+            return false;
+        }
+        Arrays.fill(words, 0L);
+        for (int[] interval : intervals.values()) {
+            setRange(interval[0], interval[1]);
+        }
+        return true;
+    }
+
+    public synchronized DayOccupancy copy() {
+        DayOccupancy copy = new DayOccupancy();
+        System.arraycopy(words, 0, copy.words, 0, WORDS);
+        intervals.forEach((id, interval) -> copy.intervals.put(id, interval.clone()));
+        return copy;
+    }
+
+    public synchronized void replace(Collection<UUID> removedIds, DayOccupancy snapshot) {
+        removedIds.forEach(intervals::remove);
+        synchronized (snapshot) {
+            snapshot.intervals.forEach((id, interval) -> intervals.put(id, interval.clone()));
+        }
+        Arrays.fill(words, 0L);
+        for (int[] interval : intervals.values()) {
+            setRange(interval[0], interval[1]);
+        }
+    }
+
+    public synchronized boolean contains(UUID appointmentId) {
+        return intervals.containsKey(appointmentId);
+    }
+
+    public synchronized Set<UUID> ids() {
+        return new HashSet<>(intervals.keySet());
+    }
+
+    public synchronized boolean isFree(int from, int to) {
+        if (from >= to) {
+            return true;
+        }
+        for (int i = from >>> 6; i <= (to - 1) >>> 6; i++) {
+            if ((words[i] & mask(i, from, to)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized boolean isFreeExcept(int from, int to, UUID appointmentId) {
+        if (appointmentId == null || !intervals.containsKey(appointmentId)) {
+            return isFree(from, to);
+        }
+        for (Map.Entry<UUID, int[]> entry : intervals.entrySet()) {
+            int[] interval = entry.getValue();
+            if (!entry.getKey().equals(appointmentId) && interval[0] < to && interval[1] > from) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized int occupiedMinutes(int from, int to) {
+        int count = 0;
+        for (int i = from >>> 6; from < to && i <= (to - 1) >>> 6; i++) {
+            count += Long.bitCount(words[i] & mask(i, from, to));
+        }
+        return count;
+    }
+
+    public static int minuteOf(LocalDate date, LocalDateTime dateTime) {
+        if (dateTime.toLocalDate().isBefore(date)) {
+            return 0;
+        }
+        if (dateTime.toLocalDate().isAfter(date)) {
+            return MINUTES_PER_DAY;
+        }
+        return dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    private void setRange(int from, int to) {
+        for (int i = from >>> 6; from < to && i <= (to - 1) >>> 6; i++) {
+            words[i] |= mask(i, from, to);
+        }
+    }
+
+    private static long mask(int word, int from, int to) {
+        int base = word << 6;
+        int lo = Math.max(from, base) - base;
+        int hi = Math.min(to, base + 64) - base;
+        long upper = hi == 64 ? -1L : (1L << hi) - 1;
+        return upper & (-1L << lo);
+    }
+}
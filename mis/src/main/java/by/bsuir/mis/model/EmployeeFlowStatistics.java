@@ -0,0 +1,7 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.entity.enums.FlowMetric;
+import java.util.Map;
+import java.util.UUID;
+
+public record EmployeeFlowStatistics(UUID employeeId, String fullName, Map<FlowMetric, FlowSummary> metrics) {}
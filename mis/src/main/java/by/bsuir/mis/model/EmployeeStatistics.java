@@ -0,0 +1,8 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.util.Map;
+import java.util.UUID;
+
+public record EmployeeStatistics(
+        UUID employeeId, String fullName, String specialty, long total, Map<AppointmentStatus, Long> byStatus) {}
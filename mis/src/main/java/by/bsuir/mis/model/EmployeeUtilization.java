@@ -0,0 +1,21 @@
+package by.bsuir.mis.model;
+
+import java.util.UUID;
+
+public record EmployeeUtilization(
+        UUID employeeId,
+        String fullName,
+        String specialty,
+        long scheduledMinutes,
+        long bookedMinutes,
+        long bookedInScheduleMinutes,
+        long appointments) {
+
+    public long freeMinutes() {
+        return Math.max(0, scheduledMinutes - bookedInScheduleMinutes);
+    }
+
+    public double utilizationPercent() {
+        return scheduledMinutes > 0 ? (double) bookedInScheduleMinutes / scheduledMinutes * 100 : 0;
+    }
+}
@@ -0,0 +1,13 @@
+package by.bsuir.mis.model;
+
+public record FlowSummary(long count, double mean, long p50, long p90, long p99) {
+
+    public static FlowSummary of(LogHistogram histogram) {
+        return new FlowSummary(
+                histogram.count(),
+                histogram.mean(),
+                histogram.percentile(50),
+                histogram.percentile(90),
+                histogram.percentile(99));
+    }
+}
@@ -0,0 +1,64 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.exception.BadRequestException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum Granularity {
+    DAY,
+    WEEK,
+    MONTH,
+    QUARTER;
+
+    public String unit() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case QUARTER -> date.withDayOfMonth(1).withMonth((date.getMonthValue() - 1) / 3 * 3 + 1);
+        };
+    }
+
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+            case QUARTER -> bucketStart.plusMonths(3);
+        };
+    }
+
+    public long buckets(LocalDate dateFrom, LocalDate dateTo) {
+        LocalDate first = start(dateFrom);
+        LocalDate last = start(dateTo);
+        if (first.isAfter(last)) {
+            return 0;
+        }
+        return switch (this) {
+            case DAY -> ChronoUnit.DAYS.between(first, last) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(first, last) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(first, last) + 1;
+            case QUARTER -> ChronoUnit.MONTHS.between(first, last) / 3 + 1;
+        };
+    }
+
+    public Granularity coarser() {
+        return this == QUARTER ? QUARTER : values()[ordinal() + 1];
+    }
+
+    public static Granularity from(String value) {
+        return Arrays.stream(values())
+                .filter(g -> g.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(
+                        "Invalid granularity: " + value + ". Valid values: day, week, month, quarter"));
+    }
+}
@@ -0,0 +1,70 @@
+package by.bsuir.mis.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final List<Set<K>> buckets;
+    private final long startMillis;
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private final Map<K, Integer> bucketOf = new HashMap<>();
+    private long currentTick;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+    }
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max((deadlineMillis - startMillis + tickMillis - 1) / tickMillis, currentTick);
+        int bucket = (int) (tick % buckets.size());
+        buckets.get(bucket).add(key);
+        deadlines.put(key, deadlineMillis);
+        bucketOf.put(key, bucket);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Integer bucket = bucketOf.remove(key);
+        if (bucket == null) {
+            return false;
+        }
+        buckets.get(bucket).remove(key);
+        deadlines.remove(key);
+        return true;
+    }
+
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        long last = Math.min(targetTick, currentTick + buckets.size() - 1);
+        for (long tick = currentTick; tick <= last; tick++) {
+            Set<K> bucket = buckets.get((int) (tick % buckets.size()));
+            bucket.removeIf(key -> {
+                if (deadlines.get(key) > nowMillis) {
+                    return false;
+                }
+                deadlines.remove(key);
+                bucketOf.remove(key);
+                expired.add(key);
+                return true;
+            });
+        }
+        currentTick = Math.max(currentTick, targetTick + 1);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+}
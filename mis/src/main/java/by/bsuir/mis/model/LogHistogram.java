@@ -0,0 +1,186 @@
+package by.bsuir.mis.model;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+public class LogHistogram {
+
+    private static final int LINEAR_LIMIT = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BITS = 4;
+    private static final int BUCKETS = LINEAR_LIMIT + (Long.SIZE - 1 - LINEAR_BITS) * SUB_BUCKETS;
+
+    // Only non-empty buckets are kept, as parallel arrays sorted by bucket index.
+    private int[] indices = new int[4];
+    private long[] counts = new long[4];
+    private int size;
+    private long total;
+    private long sum;
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        int index = indexOf(clamped);
+        int position = Arrays.binarySearch(indices, 0, size, index);
+        if (position >= 0) {
+            counts[position]++;
+        } else {
+            insert(-position - 1, index, 1);
+        }
+        total++;
+        sum += clamped;
+    }
+
+    public LogHistogram merge(LogHistogram other) {
+        int[] mergedIndices = new int[size + other.size];
+        long[] mergedCounts = new long[size + other.size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && indices[i] < other.indices[j])) {
+                mergedIndices[k] = indices[i];
+                mergedCounts[k++] = counts[i++];
+            } else if (i == size || other.indices[j] < indices[i]) {
+                mergedIndices[k] = other.indices[j];
+                mergedCounts[k++] = other.counts[j++];
+            } else {
+                mergedIndices[k] = indices[i];
+                mergedCounts[k++] = counts[i++] + other.counts[j++];
+            }
+        }
+        indices = mergedIndices;
+        counts = mergedCounts;
+        size = k;
+        total += other.total;
+        sum += other.sum;
+        return this;
+    }
+
+    public long count() {
+        return total;
+    }
+
+    public double mean() {
+        return total > 0 ? (double) sum / total : 0;
+    }
+
+    public long percentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < size; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (lowerBound(indices[i]) + upperBound(indices[i])) / 2;
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarLong(out, sum);
+        int previous = -1;
+        for (int i = 0; i < size; i++) {
+            writeVarLong(out, indices[i] - previous);
+            writeVarLong(out, counts[i]);
+            previous = indices[i];
+        }
+        return out.toByteArray();
+    }
+
+    public static LogHistogram fromBytes(byte[] bytes) {
+        LogHistogram histogram = new LogHistogram();
+        int[] position = {0};
+        histogram.sum = readVarLong(bytes, position);
+        int index = -1;
+        while (position[0] < bytes.length) {
+            index += (int) readVarLong(bytes, position);
+            long count = readVarLong(bytes, position);
+            histogram.insert(histogram.size, index, count);
+            histogram.total += count;
+        }
+        return histogram;
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        return (1L << exponent) + ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+    }
+
+    static long upperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+        return lowerBound(index) + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private void insert(int position, int index, long count) {
+        if (size == indices.length) {
+            int capacity = Math.max(4, size * 2);
+            indices = Arrays.copyOf(indices, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        System.arraycopy(indices, position, indices, position + 1, size - position);
+        System.arraycopy(counts, position, counts, position + 1, size - position);
+        indices[position] = index;
+        counts[position] = count;
+        size++;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LogHistogram other
+                && total == other.total
+                && sum == other.sum
+                && Arrays.equals(indices, 0, size, other.indices, 0, other.size)
+                && Arrays.equals(counts, 0, size, other.counts, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Long.hashCode(total);
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + indices[i];
+            hash = 31 * hash + Long.hashCode(counts[i]);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,6 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.Appointment;
+
+public record ReassignmentProposal(Appointment appointment, SlotResponse slot) {}
@@ -0,0 +1,21 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.entity.enums.RecurrenceFrequency;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public record RecurrenceRule(RecurrenceFrequency frequency, int interval, Integer count, LocalDate until) {
+
+    public List<LocalDate> datesFrom(LocalDate firstDate, int maxOccurrences) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = firstDate;
+        while (dates.size() < maxOccurrences
+                && (count == null || dates.size() < count)
+                && (until == null || !date.isAfter(until))) {
+            dates.add(date);
+            date = frequency == RecurrenceFrequency.DAILY ? date.plusDays(interval) : date.plusWeeks(interval);
+        }
+        return dates;
+    }
+}
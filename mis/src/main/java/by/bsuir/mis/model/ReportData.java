@@ -0,0 +1,16 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record ReportData(
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        DashboardCounters dashboard,
+        BucketedCounts dynamics,
+        Map<AppointmentStatus, Long> byStatus,
+        List<ServiceStatistics> byService,
+        List<EmployeeStatistics> byEmployee,
+        List<EmployeeUtilization> utilization) {}
@@ -0,0 +1,68 @@
+package by.bsuir.mis.model;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class ReportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final UUID id;
+    private final String key;
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+    private final List<String> sections;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int progress;
+    private volatile Path file;
+    private volatile long size;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    public ReportJob(String key, LocalDate dateFrom, LocalDate dateTo, List<String> sections) {
+        this.id = UUID.randomUUID();
+        this.key = key;
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+        this.sections = List.copyOf(sections);
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        status = Status.RUNNING;
+    }
+
+    public void setProgress(int progress) {
+        this.progress = Math.clamp(progress, 0, 100);
+    }
+
+    public void complete(Path file, long size) {
+        this.file = file;
+        this.size = size;
+        this.progress = 100;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
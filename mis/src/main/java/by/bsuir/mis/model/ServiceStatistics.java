@@ -0,0 +1,5 @@
+package by.bsuir.mis.model;
+
+import java.util.UUID;
+
+public record ServiceStatistics(UUID serviceId, String serviceName, long total, long paidCount) {}
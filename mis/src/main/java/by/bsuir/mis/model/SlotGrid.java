@@ -0,0 +1,115 @@
+package by.bsuir.mis.model;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.entity.ServiceDuration;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+public final class SlotGrid {
+
+    public static final int DEFAULT_DURATION_MIN = 30;
+
+    private SlotGrid() {}
+
+    public static List<SlotResponse> freeSlots(
+            List<SlotResponse> grid, DayOccupancy occupancy, LocalDateTime notBefore, int limit) {
+        List<SlotResponse> slots = new ArrayList<>();
+        for (SlotResponse slot : grid) {
+            if (slots.size() >= limit) {
+                break;
+            }
+            if (slot.date().atTime(slot.startTime()).isBefore(notBefore)) {
+                continue;
+            }
+            int start = toMinutes(slot.startTime());
+            if (occupancy.isFree(
+                    start,
+                    start
+                            + (int) Duration.between(slot.startTime(), slot.endTime())
+                                    .toMinutes())) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    public static boolean isOnLeave(List<ScheduleException> exceptions, LocalDate date) {
+        return exceptions.stream()
+                .anyMatch(
+                        se -> !se.getDateFrom().isAfter(date) && !se.getDateTo().isBefore(date));
+    }
+
+    public static List<DoctorSchedule> schedulesOn(List<DoctorSchedule> schedules, LocalDate date) {
+        return schedules.stream()
+                .filter(ds -> ds.getDayOfWeek() == date.getDayOfWeek().getValue()
+                        && !ds.getEffectiveFrom().isAfter(date)
+                        && (ds.getEffectiveTo() == null || !ds.getEffectiveTo().isBefore(date)))
+                .toList();
+    }
+
+    public static int durationOn(List<ServiceDuration> durations, LocalDate date) {
+        return durations.stream()
+                .filter(sd -> !sd.getEffectiveFrom().isAfter(date)
+                        && (sd.getEffectiveTo() == null || !sd.getEffectiveTo().isBefore(date)))
+                .findFirst()
+                .map(ServiceDuration::getDurationMin)
+                .orElse(DEFAULT_DURATION_MIN);
+    }
+
+    public static List<SlotResponse> buildSlots(
+            UUID employeeId,
+            LocalDate date,
+            List<DoctorSchedule> schedules,
+            int durationMin,
+            DayOccupancy occupancy,
+            LocalDateTime notBefore) {
+        List<DoctorSchedule> sortedSchedules = schedules.stream()
+                .sorted(Comparator.comparing(DoctorSchedule::getStartTime))
+                .toList();
+
+        List<SlotResponse> slots = new ArrayList<>();
+
+        for (DoctorSchedule schedule : sortedSchedules) {
+            int from = toMinutes(schedule.getStartTime());
+            int to = toMinutes(schedule.getEndTime());
+
+            for (int start = from; start + durationMin <= to; start += durationMin) {
+                LocalDateTime slotStart = date.atTime(LocalTime.ofSecondOfDay(start * 60L));
+                LocalDateTime slotEnd = slotStart.plusMinutes(durationMin);
+
+                if (slotStart.isBefore(notBefore) || !occupancy.isFree(start, start + durationMin)) {
+                    continue;
+                }
+
+                slots.add(new SlotResponse(
+                        employeeId,
+                        schedule.getId(),
+                        date,
+                        slotStart.toLocalTime(),
+                        slotEnd.toLocalTime(),
+                        schedule.getCabinet(),
+                        isPaid(schedule, start, start + durationMin)));
+            }
+        }
+        return slots;
+    }
+
+    private static boolean isPaid(DoctorSchedule schedule, int start, int end) {
+        if (schedule.getPaidStartTime() == null || schedule.getPaidEndTime() == null) {
+            return false;
+        }
+        return start >= toMinutes(schedule.getPaidStartTime()) && end <= toMinutes(schedule.getPaidEndTime());
+    }
+
+    private static int toMinutes(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+}
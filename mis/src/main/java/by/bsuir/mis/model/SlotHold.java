@@ -0,0 +1,15 @@
+package by.bsuir.mis.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SlotHold(
+        UUID id,
+        UUID employeeId,
+        UUID serviceId,
+        LocalDate date,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        UUID userId,
+        LocalDateTime expiresAt) {}
@@ -0,0 +1,21 @@
+package by.bsuir.mis.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record WaitlistCandidate(
+        UUID entryId,
+        UUID serviceId,
+        UUID employeeId,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        LocalTime timeFrom,
+        LocalTime timeTo,
+        LocalDateTime createdAt) {
+
+    public boolean accepts(LocalTime startTime, LocalTime endTime) {
+        return (timeFrom == null || !startTime.isBefore(timeFrom)) && (timeTo == null || !endTime.isAfter(timeTo));
+    }
+}
@@ -0,0 +1,137 @@
+package by.bsuir.mis.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+public class WaitlistIndex {
+
+    private static final Comparator<WaitlistCandidate> QUEUE_ORDER = Comparator.comparing(
+                    WaitlistCandidate::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(WaitlistCandidate::entryId);
+
+    private final Map<Bucket, TimeWindows> buckets = new HashMap<>();
+    private final Map<UUID, WaitlistCandidate> candidates = new HashMap<>();
+
+    public synchronized void add(WaitlistCandidate candidate) {
+        remove(candidate.entryId());
+        candidates.put(candidate.entryId(), candidate);
+        for (LocalDate date = candidate.dateFrom(); !date.isAfter(candidate.dateTo()); date = date.plusDays(1)) {
+            buckets.computeIfAbsent(
+                            new Bucket(candidate.serviceId(), candidate.employeeId(), date), k -> new TimeWindows())
+                    .add(candidate);
+        }
+    }
+
+    public synchronized boolean remove(UUID entryId) {
+        WaitlistCandidate candidate = candidates.remove(entryId);
+        if (candidate == null) {
+            return false;
+        }
+        for (LocalDate date = candidate.dateFrom(); !date.isAfter(candidate.dateTo()); date = date.plusDays(1)) {
+            Bucket bucket = new Bucket(candidate.serviceId(), candidate.employeeId(), date);
+            TimeWindows windows = buckets.get(bucket);
+            if (windows != null) {
+                windows.remove(candidate);
+                if (windows.isEmpty()) {
+                    buckets.remove(bucket);
+                }
+            }
+        }
+        return true;
+    }
+
+    public synchronized Optional<WaitlistCandidate> poll(
+            UUID serviceId, UUID employeeId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        WaitlistCandidate forDoctor = first(new Bucket(serviceId, employeeId, date), startTime, endTime);
+        WaitlistCandidate forAnyDoctor = first(new Bucket(serviceId, null, date), startTime, endTime);
+
+        WaitlistCandidate match = forDoctor;
+        if (match == null || (forAnyDoctor != null && QUEUE_ORDER.compare(forAnyDoctor, match) < 0)) {
+            match = forAnyDoctor;
+        }
+        if (match != null) {
+            remove(match.entryId());
+        }
+        return Optional.ofNullable(match);
+    }
+
+    public synchronized void evictBefore(LocalDate date) {
+        buckets.keySet().removeIf(bucket -> bucket.date().isBefore(date));
+        candidates.values().removeIf(candidate -> candidate.dateTo().isBefore(date));
+    }
+
+    public synchronized int size() {
+        return candidates.size();
+    }
+
+    private WaitlistCandidate first(Bucket bucket, LocalTime startTime, LocalTime endTime) {
+        TimeWindows windows = buckets.get(bucket);
+        return windows != null ? windows.first(startTime, endTime) : null;
+    }
+
+    // Candidates grouped by their time window, so a match visits only windows that contain the slot.
+    private static final class TimeWindows {
+
+        private final NavigableMap<LocalTime, NavigableMap<LocalTime, NavigableSet<WaitlistCandidate>>> byStart =
+                new TreeMap<>();
+
+        void add(WaitlistCandidate candidate) {
+            byStart.computeIfAbsent(start(candidate), k -> new TreeMap<>())
+                    .computeIfAbsent(end(candidate), k -> new TreeSet<>(QUEUE_ORDER))
+                    .add(candidate);
+        }
+
+        void remove(WaitlistCandidate candidate) {
+            NavigableMap<LocalTime, NavigableSet<WaitlistCandidate>> byEnd = byStart.get(start(candidate));
+            if (byEnd == null) {
+                return;
+            }
+            NavigableSet<WaitlistCandidate> queue = byEnd.get(end(candidate));
+            if (queue != null && queue.remove(candidate) && queue.isEmpty()) {
+                byEnd.remove(end(candidate));
+                if (byEnd.isEmpty()) {
+                    byStart.remove(start(candidate));
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return byStart.isEmpty();
+        }
+
+        WaitlistCandidate first(LocalTime startTime, LocalTime endTime) {
+            WaitlistCandidate first = null;
+            for (NavigableMap<LocalTime, NavigableSet<WaitlistCandidate>> byEnd :
+                    byStart.headMap(startTime, true).values()) {
+                for (NavigableSet<WaitlistCandidate> queue :
+                        byEnd.tailMap(endTime, true).values()) {
+                    WaitlistCandidate head = queue.first();
+                    if (first == null || QUEUE_ORDER.compare(head, first) < 0) {
+                        first = head;
+                    }
+                }
+            }
+            return first;
+        }
+
+        private static LocalTime start(WaitlistCandidate candidate) {
+            return candidate.timeFrom() != null ? candidate.timeFrom() : LocalTime.MIN;
+        }
+
+        private static LocalTime end(WaitlistCandidate candidate) {
+            return candidate.timeTo() != null ? candidate.timeTo() : LocalTime.MAX;
+        }
+    }
+
+    private record Bucket(UUID serviceId, UUID employeeId, LocalDate date) {}
+}
@@ -0,0 +1,102 @@
+package by.bsuir.mis.repository;
+
+import by.bsuir.mis.entity.AppointmentDailyStats;
+import by.bsuir.mis.entity.AppointmentDailyStatsId;
+import by.bsuir.mis.repository.projection.DailyCount;
+import by.bsuir.mis.repository.projection.EmployeeStatusCount;
+import by.bsuir.mis.repository.projection.ServiceCount;
+import by.bsuir.mis.repository.projection.SourceCount;
+import by.bsuir.mis.repository.projection.StatusCount;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AppointmentDailyStatsRepository extends JpaRepository<AppointmentDailyStats, AppointmentDailyStatsId> {
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO appointment_daily_stats "
+                            + "(stat_date, employee_id, service_id, status, source, is_paid, appointment_count) "
+                            + "VALUES (:statDate, :employeeId, :serviceId, :status, :source, :isPaid, :delta) "
+                            + "ON CONFLICT (stat_date, employee_id, service_id, status, source, is_paid) "
+                            + "DO UPDATE SET appointment_count = appointment_daily_stats.appointment_count + EXCLUDED.appointment_count",
+            nativeQuery = true)
+    int adjust(
+            @Param("statDate") LocalDate statDate,
+            @Param("employeeId") UUID employeeId,
+            @Param("serviceId") UUID serviceId,
+            @Param("status") String status,
+            @Param("source") String source,
+            @Param("isPaid") boolean isPaid,
+            @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "LOCK TABLE appointments IN SHARE MODE", nativeQuery = true)
+    void lockAppointments();
+
+    @Modifying
+    @Query(value = "DELETE FROM appointment_daily_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO appointment_daily_stats "
+                    + "(stat_date, employee_id, service_id, status, source, is_paid, appointment_count) "
+                    + "SELECT appointment_date, employee_id, service_id, status, source, is_paid, COUNT(*) "
+                    + "FROM appointments "
+                    + "GROUP BY appointment_date, employee_id, service_id, status, source, is_paid",
+            nativeQuery = true)
+    int insertFromAppointments();
+
+    @Query("SELECT s.id.statDate AS appointmentDate, SUM(s.appointmentCount) AS total FROM AppointmentDailyStats s "
+            + "WHERE s.id.statDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY s.id.statDate")
+    List<DailyCount> countByDate(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(
+            value = "SELECT CAST(date_trunc(:unit, s.stat_date) AS DATE) AS \"appointmentDate\", "
+                    + "CAST(SUM(s.appointment_count) AS BIGINT) AS \"total\" "
+                    + "FROM appointment_daily_stats s WHERE "
+                    + "s.stat_date BETWEEN :startDate AND :endDate "
+                    + "GROUP BY 1",
+            nativeQuery = true)
+    List<DailyCount> countByPeriod(
+            @Param("unit") String unit, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT s.id.status AS status, SUM(s.appointmentCount) AS total FROM AppointmentDailyStats s "
+            + "WHERE s.id.statDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY s.id.status "
+            + "HAVING SUM(s.appointmentCount) > 0")
+    List<StatusCount> countByStatus(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT s.id.source AS source, SUM(s.appointmentCount) AS total FROM AppointmentDailyStats s "
+            + "WHERE s.id.statDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY s.id.source "
+            + "HAVING SUM(s.appointmentCount) > 0")
+    List<SourceCount> countBySource(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT e.id AS employeeId, e.lastName AS lastName, e.firstName AS firstName, "
+            + "e.middleName AS middleName, sp.name AS specialtyName, s.id.status AS status, "
+            + "SUM(s.appointmentCount) AS total "
+            + "FROM AppointmentDailyStats s JOIN Employee e ON e.id = s.id.employeeId LEFT JOIN e.specialty sp "
+            + "WHERE s.id.statDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY e.id, e.lastName, e.firstName, e.middleName, sp.name, s.id.status "
+            + "HAVING SUM(s.appointmentCount) > 0")
+    List<EmployeeStatusCount> countByEmployeeAndStatus(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT sv.id AS serviceId, sv.name AS serviceName, SUM(s.appointmentCount) AS total, "
+            + "SUM(CASE WHEN s.id.isPaid = true THEN s.appointmentCount ELSE 0 END) AS paidCount "
+            + "FROM AppointmentDailyStats s JOIN Service sv ON sv.id = s.id.serviceId "
+            + "WHERE s.id.statDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY sv.id, sv.name "
+            + "HAVING SUM(s.appointmentCount) > 0")
+    List<ServiceCount> countByService(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
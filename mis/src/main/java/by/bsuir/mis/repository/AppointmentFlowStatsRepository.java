@@ -0,0 +1,29 @@
+package by.bsuir.mis.repository;
+
+import by.bsuir.mis.entity.AppointmentFlowStats;
+import by.bsuir.mis.entity.AppointmentFlowStatsId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AppointmentFlowStatsRepository extends JpaRepository<AppointmentFlowStats, AppointmentFlowStatsId> {
+
+    @Modifying
+    @Query("DELETE FROM AppointmentFlowStats s WHERE s.id.statDate BETWEEN :startDate AND :endDate")
+    int deleteInDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT s FROM AppointmentFlowStats s WHERE s.id.statDate BETWEEN :startDate AND :endDate AND "
+            + "(:employeeId IS NULL OR s.id.employeeId = :employeeId) AND "
+            + "(:serviceId IS NULL OR s.id.serviceId = :serviceId)")
+    List<AppointmentFlowStats> findInDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("employeeId") UUID employeeId,
+            @Param("serviceId") UUID serviceId);
+}
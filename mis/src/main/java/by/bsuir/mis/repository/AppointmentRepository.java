@@ -1,14 +1,26 @@
 package by.bsuir.mis.repository;
 
 import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.AppointmentDailyStatsId;
 import by.bsuir.mis.entity.enums.AppointmentSource;
 import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.repository.projection.AppointmentFact;
+import by.bsuir.mis.repository.projection.AppointmentInterval;
+import by.bsuir.mis.repository.projection.DailyBookedMinutes;
+import by.bsuir.mis.repository.projection.FlowSample;
+import by.bsuir.mis.repository.projection.NoShowSample;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -43,6 +55,75 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime);
 
+    @Query(value = "SELECT COUNT(*) FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    long acquireAdvisoryLock(@Param("key") long key);
+
+    @Query("SELECT a FROM Appointment a WHERE " + "a.employee.id = :employeeId AND "
+            + "a.appointmentDate = :date AND "
+            + "a.status NOT IN ('CANCELLED', 'RESCHEDULED') "
+            + "ORDER BY a.startTime")
+    List<Appointment> findActiveByEmployeeIdAndDate(
+            @Param("employeeId") UUID employeeId, @Param("date") LocalDate date);
+
+    @Query("SELECT a FROM Appointment a WHERE " + "a.employee.id IN :employeeIds AND "
+            + "a.appointmentDate BETWEEN :startDate AND :endDate AND "
+            + "a.status NOT IN ('CANCELLED', 'RESCHEDULED')")
+    List<Appointment> findActiveByEmployeeIdsAndDateRange(
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query(
+            value = "SELECT a.employee_id AS \"employeeId\", a.appointment_date AS \"appointmentDate\", "
+                    + "CAST(SUM(EXTRACT(EPOCH FROM (a.end_time - a.start_time)) / 60) AS BIGINT) AS \"bookedMinutes\" "
+                    + "FROM appointments a WHERE "
+                    + "a.employee_id IN (:employeeIds) AND "
+                    + "a.appointment_date BETWEEN :startDate AND :endDate AND "
+                    + "a.status NOT IN ('CANCELLED', 'RESCHEDULED') "
+                    + "GROUP BY a.employee_id, a.appointment_date",
+            nativeQuery = true)
+    List<DailyBookedMinutes> sumBookedMinutesByEmployeeAndDate(
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a.id AS id, a.employee.id AS employeeId, a.appointmentDate AS appointmentDate, "
+            + "a.startTime AS startTime, a.endTime AS endTime FROM Appointment a WHERE "
+            + "a.appointmentDate BETWEEN :startDate AND :endDate AND "
+            + "a.status NOT IN ('CANCELLED', 'RESCHEDULED')")
+    List<AppointmentInterval> findActiveIntervalsInDateRange(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id AS id, a.appointmentDate AS appointmentDate, a.status AS status, a.source AS source, "
+            + "a.employee.id AS employeeId, a.service.id AS serviceId, a.patient.id AS patientId, "
+            + "a.isPaid AS isPaid FROM Appointment a")
+    Stream<AppointmentFact> streamFacts();
+
+    @Query("SELECT MIN(a.appointmentDate) FROM Appointment a")
+    Optional<LocalDate> findEarliestAppointmentDate();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.employee.id AS employeeId, a.service.id AS serviceId, a.appointmentDate AS appointmentDate, "
+            + "a.createdAt AS createdAt, a.startTime AS startTime, "
+            + "MIN(CASE WHEN h.newStatus = 'IN_PROGRESS' THEN h.createdAt END) AS startedAt, "
+            + "MAX(CASE WHEN h.newStatus = 'COMPLETED' THEN h.createdAt END) AS completedAt "
+            + "FROM Appointment a LEFT JOIN AppointmentStatusHistory h ON h.appointment = a WHERE "
+            + "a.appointmentDate BETWEEN :startDate AND :endDate AND "
+            + "a.status NOT IN ('CANCELLED', 'RESCHEDULED') "
+            + "GROUP BY a.id, a.employee.id, a.service.id, a.appointmentDate, a.createdAt, a.startTime "
+            + "ORDER BY a.appointmentDate")
+    Stream<FlowSample> streamFlowSamples(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.patient.id AS patientId, a.appointmentDate AS appointmentDate, a.startTime AS startTime, "
+            + "a.status AS status, MAX(h.createdAt) AS cancelledAt FROM Appointment a "
+            + "LEFT JOIN AppointmentStatusHistory h ON h.appointment = a AND h.newStatus = 'CANCELLED' WHERE "
+            + "a.appointmentDate < :beforeDate AND a.status IN ('COMPLETED', 'NO_SHOW', 'CANCELLED') "
+            + "GROUP BY a.id, a.patient.id, a.appointmentDate, a.startTime, a.status "
+            + "ORDER BY a.patient.id")
+    Stream<NoShowSample> streamNoShowSamples(@Param("beforeDate") LocalDate beforeDate);
+
     @Query("SELECT a FROM Appointment a WHERE " + "a.patient.id = :patientId AND "
             + "a.status IN ('WAITING', 'IN_PROGRESS') AND "
             + "a.appointmentDate >= :fromDate "
@@ -64,4 +145,9 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
             @Param("patientId") UUID patientId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new by.bsuir.mis.entity.AppointmentDailyStatsId("
+            + "a.appointmentDate, a.employee.id, a.service.id, a.status, a.source, a.isPaid) "
+            + "FROM Appointment a WHERE a.id = :id")
+    Optional<AppointmentDailyStatsId> findStatsKeyById(@Param("id") UUID id);
 }
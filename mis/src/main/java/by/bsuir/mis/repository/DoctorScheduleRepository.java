@@ -2,6 +2,7 @@ package by.bsuir.mis.repository;
 
 import by.bsuir.mis.entity.DoctorSchedule;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,4 +29,17 @@ public interface DoctorScheduleRepository extends JpaRepository<DoctorSchedule,
             + "(ds.effectiveTo IS NULL OR ds.effectiveTo >= :date)")
     List<DoctorSchedule> findActiveByEmployeeOnDate(
             @Param("employeeId") UUID employeeId, @Param("date") LocalDate date);
+
+    @Query("SELECT ds FROM DoctorSchedule ds WHERE " + "ds.employee.id IN :employeeIds AND "
+            + "ds.effectiveFrom <= :endDate AND "
+            + "(ds.effectiveTo IS NULL OR ds.effectiveTo >= :startDate)")
+    List<DoctorSchedule> findActiveByEmployeeIdsInDateRange(
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT ds FROM DoctorSchedule ds WHERE " + "ds.effectiveFrom <= :endDate AND "
+            + "(ds.effectiveTo IS NULL OR ds.effectiveTo >= :startDate)")
+    List<DoctorSchedule> findActiveInDateRange(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
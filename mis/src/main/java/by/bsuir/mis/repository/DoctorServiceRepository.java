@@ -1,10 +1,13 @@
 package by.bsuir.mis.repository;
 
 import by.bsuir.mis.entity.DoctorService;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,4 +22,7 @@ public interface DoctorServiceRepository extends JpaRepository<DoctorService, UU
     Optional<DoctorService> findByEmployee_IdAndService_Id(UUID employeeId, UUID serviceId);
 
     boolean existsByEmployee_IdAndService_Id(UUID employeeId, UUID serviceId);
+
+    @Query("SELECT ds FROM DoctorService ds WHERE " + "ds.service.id IN :serviceIds AND " + "ds.isActive = true")
+    List<DoctorService> findActiveByServiceIds(@Param("serviceIds") Collection<UUID> serviceIds);
 }
@@ -18,6 +18,14 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     List<Employee> findByIsActive(Boolean isActive);
 
+    long countByIsActive(Boolean isActive);
+
+    @Query("SELECT e.isActive FROM Employee e WHERE e.id = :id")
+    Optional<Boolean> findIsActiveById(@Param("id") UUID id);
+
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.specialty")
+    List<Employee> findAllWithSpecialty();
+
     List<Employee> findBySpecialty_IdAndIsActive(UUID specialtyId, Boolean isActive);
 
     @Query("SELECT e FROM Employee e WHERE " + "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :term, '%')) OR "
@@ -0,0 +1,9 @@
+package by.bsuir.mis.repository;
+
+import by.bsuir.mis.entity.PatientRiskScore;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PatientRiskScoreRepository extends JpaRepository<PatientRiskScore, UUID> {}
@@ -3,6 +3,7 @@ package by.bsuir.mis.repository;
 import by.bsuir.mis.entity.ScheduleException;
 import by.bsuir.mis.entity.enums.ExceptionType;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -30,4 +31,16 @@ public interface ScheduleExceptionRepository extends JpaRepository<ScheduleExcep
             @Param("employeeId") UUID employeeId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT se FROM ScheduleException se WHERE " + "se.employee.id IN :employeeIds AND "
+            + "se.dateFrom <= :endDate AND "
+            + "se.dateTo >= :startDate")
+    List<ScheduleException> findByEmployeeIdsInDateRange(
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT se FROM ScheduleException se WHERE " + "se.dateFrom <= :endDate AND " + "se.dateTo >= :startDate")
+    List<ScheduleException> findInDateRange(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,32 @@
+package by.bsuir.mis.repository;
+
+import by.bsuir.mis.entity.WaitlistEntry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
+
+    List<WaitlistEntry> findByPatient_IdOrderByCreatedAtDesc(UUID patientId);
+
+    @Query("SELECT w FROM WaitlistEntry w WHERE " + "w.status = 'WAITING' AND " + "w.dateTo >= :date")
+    List<WaitlistEntry> findWaitingFrom(@Param("date") LocalDate date);
+
+    @Query("SELECT w FROM WaitlistEntry w " + "JOIN FETCH w.patient "
+            + "JOIN FETCH w.service "
+            + "LEFT JOIN FETCH w.employee "
+            + "JOIN FETCH w.createdBy "
+            + "WHERE w.id = :id")
+    Optional<WaitlistEntry> findWithDetailsById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = 'EXPIRED' WHERE " + "w.status = 'WAITING' AND " + "w.dateTo < :date")
+    int expireBefore(@Param("date") LocalDate date);
+}
@@ -0,0 +1,25 @@
+package by.bsuir.mis.repository.projection;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface AppointmentFact {
+
+    UUID getId();
+
+    LocalDate getAppointmentDate();
+
+    AppointmentStatus getStatus();
+
+    AppointmentSource getSource();
+
+    UUID getEmployeeId();
+
+    UUID getServiceId();
+
+    UUID getPatientId();
+
+    Boolean getIsPaid();
+}
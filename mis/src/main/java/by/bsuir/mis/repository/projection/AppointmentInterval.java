@@ -0,0 +1,18 @@
+package by.bsuir.mis.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface AppointmentInterval {
+
+    UUID getId();
+
+    UUID getEmployeeId();
+
+    LocalDate getAppointmentDate();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
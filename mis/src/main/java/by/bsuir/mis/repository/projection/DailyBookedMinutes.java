@@ -0,0 +1,13 @@
+package by.bsuir.mis.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface DailyBookedMinutes {
+
+    UUID getEmployeeId();
+
+    LocalDate getAppointmentDate();
+
+    long getBookedMinutes();
+}
@@ -0,0 +1,10 @@
+package by.bsuir.mis.repository.projection;
+
+import java.time.LocalDate;
+
+public interface DailyCount {
+
+    LocalDate getAppointmentDate();
+
+    long getTotal();
+}
@@ -0,0 +1,21 @@
+package by.bsuir.mis.repository.projection;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.util.UUID;
+
+public interface EmployeeStatusCount {
+
+    UUID getEmployeeId();
+
+    String getLastName();
+
+    String getFirstName();
+
+    String getMiddleName();
+
+    String getSpecialtyName();
+
+    AppointmentStatus getStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,22 @@
+package by.bsuir.mis.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface FlowSample {
+
+    UUID getEmployeeId();
+
+    UUID getServiceId();
+
+    LocalDate getAppointmentDate();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getStartedAt();
+
+    LocalDateTime getCompletedAt();
+}
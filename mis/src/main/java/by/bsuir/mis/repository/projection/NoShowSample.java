@@ -0,0 +1,19 @@
+package by.bsuir.mis.repository.projection;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface NoShowSample {
+
+    UUID getPatientId();
+
+    LocalDate getAppointmentDate();
+
+    LocalDateTime getStartTime();
+
+    AppointmentStatus getStatus();
+
+    LocalDateTime getCancelledAt();
+}
@@ -0,0 +1,14 @@
+package by.bsuir.mis.repository.projection;
+
+import java.util.UUID;
+
+public interface ServiceCount {
+
+    UUID getServiceId();
+
+    String getServiceName();
+
+    long getTotal();
+
+    long getPaidCount();
+}
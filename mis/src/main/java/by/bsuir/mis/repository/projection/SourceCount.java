@@ -0,0 +1,10 @@
+package by.bsuir.mis.repository.projection;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+
+public interface SourceCount {
+
+    AppointmentSource getSource();
+
+    long getTotal();
+}
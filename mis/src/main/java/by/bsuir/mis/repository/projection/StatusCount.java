@@ -0,0 +1,10 @@
+package by.bsuir.mis.repository.projection;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+
+public interface StatusCount {
+
+    AppointmentStatus getStatus();
+
+    long getTotal();
+}
@@ -11,6 +11,8 @@ public interface AppointmentService {
 
     Appointment save(Appointment appointment);
 
+    List<Appointment> saveAll(List<Appointment> appointments);
+
     Optional<Appointment> findById(UUID id);
 
     List<Appointment> findAll();
@@ -23,10 +25,14 @@ public interface AppointmentService {
 
     List<Appointment> findByEmployeeIdAndDate(UUID employeeId, LocalDate date);
 
+    List<Appointment> findByEmployeeIdAndDateRange(UUID employeeId, LocalDate startDate, LocalDate endDate);
+
     List<Appointment> findByStatus(AppointmentStatus status);
 
     Appointment update(Appointment appointment);
 
+    List<Appointment> updateAll(List<Appointment> appointments);
+
     void deleteById(UUID id);
 
     Appointment updateStatus(UUID id, AppointmentStatus status, String reason);
@@ -9,6 +9,8 @@ public interface AppointmentStatusHistoryService {
 
     AppointmentStatusHistory save(AppointmentStatusHistory history);
 
+    List<AppointmentStatusHistory> saveAll(List<AppointmentStatusHistory> histories);
+
     Optional<AppointmentStatusHistory> findById(UUID id);
 
     List<AppointmentStatusHistory> findAll();
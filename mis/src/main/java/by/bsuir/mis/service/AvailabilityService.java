@@ -0,0 +1,12 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.dto.response.DayAvailabilityResponse;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AvailabilityService {
+
+    List<DayAvailabilityResponse> getMonthAvailability(Collection<UUID> employeeIds, UUID serviceId, YearMonth month);
+}
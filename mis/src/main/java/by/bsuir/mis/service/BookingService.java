@@ -0,0 +1,19 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.User;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface BookingService {
+
+    Appointment book(Appointment appointment);
+
+    Appointment confirmHold(Appointment appointment, UUID holdId);
+
+    List<Appointment> bookSeries(Appointment template, LocalTime startTime, LocalTime endTime, List<LocalDate> dates);
+
+    List<Appointment> reassign(List<Appointment> appointments, User changedBy, String reason);
+}
@@ -0,0 +1,32 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.event.ScheduleChangedEvent;
+import by.bsuir.mis.event.ServiceDurationChangedEvent;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface CalendarService {
+
+    List<DoctorSchedule> getWorkingSchedules(UUID employeeId, LocalDate date);
+
+    Map<UUID, Map<LocalDate, List<DoctorSchedule>>> getWorkingSchedules(
+            Collection<UUID> employeeIds, LocalDate startDate, LocalDate endDate);
+
+    int getDurationMin(UUID serviceId, LocalDate date);
+
+    List<SlotResponse> getSlotGrid(UUID employeeId, LocalDate date, int durationMin);
+
+    List<SlotResponse> getSlotGrid(
+            UUID employeeId, LocalDate date, int durationMin, List<DoctorSchedule> workingSchedules);
+
+    void refresh();
+
+    void apply(ScheduleChangedEvent event);
+
+    void apply(ServiceDurationChangedEvent event);
+}
@@ -0,0 +1,8 @@
+package by.bsuir.mis.service;
+
+public interface ColumnarStatisticsService extends StatisticsService {
+
+    int reload();
+
+    int size();
+}
@@ -0,0 +1,14 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.entity.AppointmentDailyStatsId;
+
+public interface DailyStatsService {
+
+    void increment(AppointmentDailyStatsId key);
+
+    void decrement(AppointmentDailyStatsId key);
+
+    void move(AppointmentDailyStatsId from, AppointmentDailyStatsId to);
+
+    int rebuild();
+}
@@ -0,0 +1,18 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.DashboardCounters;
+import java.time.LocalDate;
+
+public interface DashboardService {
+
+    DashboardCounters getCounters();
+
+    void patientsChanged(long delta);
+
+    void employeesChanged(long totalDelta, long activeDelta);
+
+    void appointmentsChanged(LocalDate date, AppointmentStatus status, long delta);
+
+    void reconcile();
+}
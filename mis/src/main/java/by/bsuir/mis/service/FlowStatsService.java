@@ -0,0 +1,20 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.entity.enums.FlowMetric;
+import by.bsuir.mis.model.EmployeeFlowStatistics;
+import by.bsuir.mis.model.FlowSummary;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface FlowStatsService {
+
+    Map<FlowMetric, FlowSummary> getSummary(LocalDate dateFrom, LocalDate dateTo, UUID employeeId, UUID serviceId);
+
+    List<EmployeeFlowStatistics> getSummaryByEmployee(LocalDate dateFrom, LocalDate dateTo);
+
+    int rollup(LocalDate dateFrom, LocalDate dateTo);
+
+    int rebuild();
+}
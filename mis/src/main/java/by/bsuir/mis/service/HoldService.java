@@ -0,0 +1,25 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.model.SlotHold;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface HoldService {
+
+    SlotHold hold(
+            UUID employeeId,
+            UUID serviceId,
+            LocalDate date,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            UUID userId);
+
+    Optional<SlotHold> findActive(UUID holdId);
+
+    void release(UUID holdId);
+
+    Appointment confirm(UUID holdId, Appointment appointment);
+}
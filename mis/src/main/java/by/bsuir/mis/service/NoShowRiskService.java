@@ -0,0 +1,10 @@
+package by.bsuir.mis.service;
+
+import java.util.UUID;
+
+public interface NoShowRiskService {
+
+    Integer getRiskPercent(UUID patientId);
+
+    int recompute();
+}
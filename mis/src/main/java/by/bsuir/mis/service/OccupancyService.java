@@ -0,0 +1,26 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.model.DayOccupancy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface OccupancyService {
+
+    DayOccupancy getDay(UUID employeeId, LocalDate date);
+
+    DayOccupancy refresh(UUID employeeId, LocalDate date);
+
+    boolean isFree(UUID employeeId, LocalDate date, LocalDateTime startTime, LocalDateTime endTime);
+
+    boolean isFree(
+            UUID employeeId, LocalDate date, LocalDateTime startTime, LocalDateTime endTime, UUID ignoredAppointmentId);
+
+    void preload(Collection<UUID> employeeIds, LocalDate startDate, LocalDate endDate);
+
+    void apply(AppointmentChangedEvent event);
+
+    void evictBefore(LocalDate date);
+}
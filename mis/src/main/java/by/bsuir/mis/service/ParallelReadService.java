@@ -0,0 +1,9 @@
+package by.bsuir.mis.service;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+public interface ParallelReadService {
+
+    Map<String, Object> runAll(Map<String, Supplier<?>> tasks);
+}
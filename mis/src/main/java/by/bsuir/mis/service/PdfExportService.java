@@ -1,13 +1,15 @@
 package by.bsuir.mis.service;
 
-import by.bsuir.mis.entity.Appointment;
-import by.bsuir.mis.entity.DoctorSchedule;
-import by.bsuir.mis.entity.Employee;
 import by.bsuir.mis.entity.enums.AppointmentStatus;
-import by.bsuir.mis.repository.EmployeeRepository;
-import by.bsuir.mis.repository.PatientRepository;
+import by.bsuir.mis.model.DashboardCounters;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.EmployeeUtilization;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ReportData;
+import by.bsuir.mis.model.ServiceStatistics;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
 import com.itextpdf.io.font.PdfEncodings;
-import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.font.PdfFont;
@@ -18,108 +20,295 @@ import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.*;
+import com.itextpdf.layout.font.FontProvider;
 import com.itextpdf.layout.properties.HorizontalAlignment;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
+import com.itextpdf.svg.converter.SvgConverter;
+import com.itextpdf.svg.exceptions.SvgProcessingException;
+import com.itextpdf.svg.processors.impl.SvgConverterProperties;
+import jakarta.annotation.PreDestroy;
 import java.awt.Color;
 import java.awt.Font;
-import java.io.ByteArrayOutputStream;
+import java.awt.geom.Rectangle2D;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jfree.chart.ChartFactory;
-import org.jfree.chart.ChartUtils;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PiePlot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.category.StandardBarPainter;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.svg.SVGGraphics2D;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PdfExportService {
 
-    private final AppointmentService appointmentService;
-    private final EmployeeRepository employeeRepository;
-    private final PatientRepository patientRepository;
-    private final DoctorScheduleService doctorScheduleService;
-
+    private static final int FLUSH_ROWS = 50;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter CHART_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+    private static final Map<Granularity, String> PERIOD_NAMES = Map.of(
+            Granularity.DAY, "дням",
+            Granularity.WEEK, "неделям",
+            Granularity.MONTH, "месяцам",
+            Granularity.QUARTER, "кварталам");
+
+    private static final Map<AppointmentStatus, String> STATUS_NAMES = Map.of(
+            AppointmentStatus.WAITING, "Ожидание",
+            AppointmentStatus.IN_PROGRESS, "На приёме",
+            AppointmentStatus.COMPLETED, "Завершено",
+            AppointmentStatus.NO_SHOW, "Неявка",
+            AppointmentStatus.CANCELLED, "Отменено",
+            AppointmentStatus.RESCHEDULED, "Перенесено");
+    private static final List<String> REGULAR_FONTS =
+            List.of("C:/Windows/Fonts/arial.ttf", "/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf");
+    private static final List<String> BOLD_FONTS =
+            List.of("C:/Windows/Fonts/arialbd.ttf", "/usr/share/fonts/truetype/dejavu/DejaVuSans-Bold.ttf");
+
+    private final ReportDataService reportDataService;
+
+    private final Map<List<String>, Optional<FontProgram>> fontPrograms = new ConcurrentHashMap<>();
+    private final ExecutorService chartExecutor = Executors.newFixedThreadPool(
+            Math.min(4, Runtime.getRuntime().availableProcessors()),
+            Thread.ofPlatform().name("report-chart-", 0).daemon().factory());
+
+    private record ReportFonts(PdfFont regular, PdfFont bold, FontProvider charts) {}
+
+    private final Map<String, CompletableFuture<String>> chartCache =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<String>> eldest) {
+                    return size() > chartCacheSize;
+                }
+            });
+
+    @Value("${reports.chart-cache-size:128}")
+    private int chartCacheSize = 128;
+
+    private enum ChartType {
+        LINE,
+        PIE,
+        BAR
+    }
+
+    private record ChartSpec(
+            ChartType type, String title, String categoryLabel, String valueLabel, Map<String, Long> data) {
+
+        int width() {
+            return type == ChartType.PIE ? 400 : 600;
+        }
+
+        int height() {
+            return type == ChartType.BAR ? Math.max(300, data.size() * 40) : 300;
+        }
+
+        String hash() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                update(digest, type.name());
+                update(digest, title);
+                update(digest, categoryLabel);
+                update(digest, valueLabel);
+                data.forEach((label, value) -> {
+                    update(digest, label);
+                    update(digest, String.valueOf(value));
+                });
+                return HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
 
-    private PdfFont font;
-    private PdfFont fontBold;
+        private static void update(MessageDigest digest, String value) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    public void generateAnalyticsReport(
+            LocalDate dateFrom, LocalDate dateTo, List<String> sections, OutputStream out, IntConsumer progress) {
+        writeAnalyticsReport(reportDataService.load(dateFrom, dateTo, sections), sections, out, progress);
+    }
 
-    public byte[] generateAnalyticsReport(LocalDate dateFrom, LocalDate dateTo, List<String> sections) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(baos);
+    public void writeAnalyticsReport(ReportData data, List<String> sections, OutputStream out, IntConsumer progress) {
+        Map<String, CompletableFuture<String>> charts = renderCharts(data, sections);
+        try {
+            PdfWriter writer = new PdfWriter(out);
             PdfDocument pdfDoc = new PdfDocument(writer);
             Document document = new Document(pdfDoc, PageSize.A4);
             document.setMargins(40, 40, 40, 40);
 
-            initFonts();
-            document.setFont(font);
+            ReportFonts fonts =
+                    new ReportFonts(createFont(REGULAR_FONTS), createFont(BOLD_FONTS), createChartFontProvider());
+            document.setFont(fonts.regular());
+
+            int steps = sections.size() + 1;
 
-            addHeader(document, dateFrom, dateTo);
+            addHeader(document, fonts, data.dateFrom(), data.dateTo());
 
-            for (String section : sections) {
-                switch (section.toLowerCase()) {
-                    case "dashboard" -> addDashboardSection(document);
-                    case "dynamics" -> addDynamicsSection(document, dateFrom, dateTo);
-                    case "statuses" -> addStatusesSection(document, dateFrom, dateTo);
-                    case "services" -> addServicesSection(document, dateFrom, dateTo);
-                    case "employees" -> addEmployeesSection(document, dateFrom, dateTo);
-                    case "noshow" -> addNoShowSection(document, dateFrom, dateTo);
-                    case "workload" -> addWorkloadSection(document);
+            for (int i = 0; i < sections.size(); i++) {
+                String section = sections.get(i).toLowerCase();
+                switch (section) {
+                    case "dashboard" -> addDashboardSection(document, fonts, data.dashboard());
+                    case "dynamics" -> addDynamicsSection(document, fonts, data, charts.get(section));
+                    case "statuses" -> addStatusesSection(document, fonts, data.byStatus(), charts.get(section));
+                    case "services" -> addServicesSection(document, fonts, data.byService(), charts.get(section));
+                    case "employees" -> addEmployeesSection(document, fonts, data.byEmployee(), charts.get(section));
+                    case "noshow" -> addNoShowSection(document, fonts, data.byStatus());
+                    case "workload" -> addWorkloadSection(document, fonts, data.utilization());
                 }
+                writer.flush();
+                progress.accept(100 * (i + 1) / steps);
             }
 
-            addFooter(document);
+            addFooter(document, fonts);
 
             document.close();
-            return baos.toByteArray();
+            progress.accept(100);
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate PDF report", e);
         }
     }
 
-    private void initFonts() throws IOException {
-        String fontPath = "C:/Windows/Fonts/arial.ttf";
-        String fontBoldPath = "C:/Windows/Fonts/arialbd.ttf";
+    private Map<String, CompletableFuture<String>> renderCharts(ReportData data, List<String> sections) {
+        Map<String, CompletableFuture<String>> charts = new HashMap<>();
+        for (String section : sections) {
+            String key = section.toLowerCase();
+            ChartSpec spec =
+                    switch (key) {
+                        case "dynamics" -> {
+                            Map<String, Long> byLabel = new LinkedHashMap<>();
+                            data.dynamics()
+                                    .counts()
+                                    .forEach((date, count) -> byLabel.put(date.format(CHART_DATE_FORMATTER), count));
+                            yield new ChartSpec(
+                                    ChartType.LINE,
+                                    "Записи по "
+                                            + PERIOD_NAMES.get(data.dynamics().granularity()),
+                                    "Дата",
+                                    "Количество",
+                                    byLabel);
+                        }
+                        case "statuses" ->
+                            new ChartSpec(
+                                    ChartType.PIE,
+                                    "Распределение по статусам",
+                                    null,
+                                    null,
+                                    statusChartData(data.byStatus()));
+                        case "services" ->
+                            new ChartSpec(
+                                    ChartType.PIE,
+                                    "Распределение по услугам",
+                                    null,
+                                    null,
+                                    serviceCounts(data.byService()));
+                        case "employees" ->
+                            new ChartSpec(
+                                    ChartType.BAR,
+                                    "Нагрузка по врачам",
+                                    "",
+                                    "Приёмов",
+                                    employeeCounts(data.byEmployee()));
+                        default -> null;
+                    };
+            if (spec != null) {
+                charts.computeIfAbsent(key, k -> renderChart(spec));
+            }
+        }
+        return charts;
+    }
 
-        try {
-            font = PdfFontFactory.createFont(fontPath, PdfEncodings.IDENTITY_H, EmbeddingStrategy.PREFER_EMBEDDED);
-            fontBold =
-                    PdfFontFactory.createFont(fontBoldPath, PdfEncodings.IDENTITY_H, EmbeddingStrategy.PREFER_EMBEDDED);
-        } catch (Exception e) {
+    private CompletableFuture<String> renderChart(ChartSpec spec) {
+        return chartCache.compute(
+                spec.hash(),
+                (key, cached) -> cached != null && !cached.isCompletedExceptionally()
+                        ? cached
+                        : CompletableFuture.supplyAsync(
+                                () -> toSvg(createChart(spec), spec.width(), spec.height()), chartExecutor));
+    }
+
+    private static String toSvg(JFreeChart chart, int width, int height) {
+        SVGGraphics2D graphics = new SVGGraphics2D(width, height);
+        chart.draw(graphics, new Rectangle2D.Double(0, 0, width, height));
+        return graphics.getSVGElement();
+    }
+
+    private PdfFont createFont(List<String> candidates) {
+        return fontPrograms
+                .computeIfAbsent(candidates, PdfExportService::loadFontProgram)
+                .map(program ->
+                        PdfFontFactory.createFont(program, PdfEncodings.IDENTITY_H, EmbeddingStrategy.PREFER_EMBEDDED))
+                .orElseGet(PdfExportService::createDefaultFont);
+    }
+
+    private FontProvider createChartFontProvider() {
+        FontProvider provider = new FontProvider();
+        for (List<String> candidates : List.of(REGULAR_FONTS, BOLD_FONTS)) {
+            fontPrograms
+                    .computeIfAbsent(candidates, PdfExportService::loadFontProgram)
+                    .ifPresent(program -> provider.addFont(program, PdfEncodings.IDENTITY_H));
+        }
+        if (provider.getFontSet().size() == 0) {
+            provider.addStandardPdfFonts();
+        }
+        return provider;
+    }
+
+    private static Optional<FontProgram> loadFontProgram(List<String> candidates) {
+        for (String candidate : candidates) {
+            Path path = Path.of(candidate);
+            if (!Files.isReadable(path)) {
+                continue;
+            }
             try {
-                font = PdfFontFactory.createFont(
-                        "/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf",
-                        PdfEncodings.IDENTITY_H,
-                        EmbeddingStrategy.PREFER_EMBEDDED);
-                fontBold = PdfFontFactory.createFont(
-                        "/usr/share/fonts/truetype/dejavu/DejaVuSans-Bold.ttf",
-                        PdfEncodings.IDENTITY_H,
-                        EmbeddingStrategy.PREFER_EMBEDDED);
-            } catch (Exception e2) {
-                font = PdfFontFactory.createFont();
-                fontBold = PdfFontFactory.createFont();
+                return Optional.of(FontProgramFactory.createFont(Files.readAllBytes(path)));
+            } catch (IOException e) {
+                log.warn("Font {} could not be loaded: {}", path, e.getMessage());
             }
         }
+        return Optional.empty();
     }
 
-    private void addHeader(Document document, LocalDate dateFrom, LocalDate dateTo) {
+    private static PdfFont createDefaultFont() {
+        try {
+            return PdfFontFactory.createFont();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void addHeader(Document document, ReportFonts fonts, LocalDate dateFrom, LocalDate dateTo) {
         Paragraph title = new Paragraph("Аналитический отчёт МИС")
-                .setFont(fontBold)
+                .setFont(fonts.bold())
                 .setFontSize(24)
                 .setTextAlignment(TextAlignment.CENTER)
                 .setMarginBottom(10);
@@ -127,7 +316,7 @@ public class PdfExportService {
 
         Paragraph period = new Paragraph(
                         "Период: " + dateFrom.format(DATE_FORMATTER) + " - " + dateTo.format(DATE_FORMATTER))
-                .setFont(font)
+                .setFont(fonts.regular())
                 .setFontSize(12)
                 .setTextAlignment(TextAlignment.CENTER)
                 .setMarginBottom(5);
@@ -135,7 +324,7 @@ public class PdfExportService {
 
         Paragraph generated = new Paragraph(
                         "Дата формирования: " + LocalDateTime.now().format(DATETIME_FORMATTER))
-                .setFont(font)
+                .setFont(fonts.regular())
                 .setFontSize(10)
                 .setTextAlignment(TextAlignment.CENTER)
                 .setFontColor(ColorConstants.GRAY)
@@ -145,225 +334,183 @@ public class PdfExportService {
         document.add(new LineSeparator(new com.itextpdf.kernel.pdf.canvas.draw.SolidLine(1)).setMarginBottom(20));
     }
 
-    private void addDashboardSection(Document document) {
-        addSectionTitle(document, "1. Общая статистика");
-
-        long totalPatients = patientRepository.count();
-        long totalEmployees = employeeRepository.count();
-        long activeEmployees = employeeRepository.findByIsActive(true).size();
-        List<Appointment> todayAppointments = appointmentService.findByDate(LocalDate.now());
+    private void addDashboardSection(Document document, ReportFonts fonts, DashboardCounters counters) {
+        addSectionTitle(document, fonts, "1. Общая статистика");
 
         Table table = new Table(UnitValue.createPercentArray(new float[] {60, 40}))
                 .setWidth(UnitValue.createPercentValue(80))
                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-        addTableRow(table, "Всего пациентов в системе", String.valueOf(totalPatients));
-        addTableRow(table, "Записей сегодня", String.valueOf(todayAppointments.size()));
-        addTableRow(table, "Активных врачей", String.valueOf(activeEmployees));
-        addTableRow(table, "Всего врачей", String.valueOf(totalEmployees));
+        addTableRow(fonts, table, "Всего пациентов в системе", String.valueOf(counters.totalPatients()));
+        addTableRow(fonts, table, "Записей сегодня", String.valueOf(counters.todayAppointments()));
+        addTableRow(fonts, table, "Активных врачей", String.valueOf(counters.activeEmployees()));
+        addTableRow(fonts, table, "Всего врачей", String.valueOf(counters.totalEmployees()));
 
         document.add(table);
         document.add(new Paragraph().setMarginBottom(20));
     }
 
-    private void addDynamicsSection(Document document, LocalDate dateFrom, LocalDate dateTo) {
-        addSectionTitle(document, "2. Динамика записей за период");
-
-        Map<LocalDate, Long> appointmentsByDate = new LinkedHashMap<>();
-        LocalDate current = dateFrom;
-        long total = 0;
+    private void addDynamicsSection(
+            Document document, ReportFonts fonts, ReportData data, CompletableFuture<String> chart) {
+        addSectionTitle(document, fonts, "2. Динамика записей за период");
 
-        while (!current.isAfter(dateTo)) {
-            long count = appointmentService.findByDate(current).size();
-            appointmentsByDate.put(current, count);
-            total += count;
-            current = current.plusDays(1);
-        }
+        Map<LocalDate, Long> appointmentsByDate = data.dynamics().counts();
+        long total =
+                appointmentsByDate.values().stream().mapToLong(Long::longValue).sum();
 
-        long days = appointmentsByDate.size();
+        long days = ChronoUnit.DAYS.between(data.dateFrom(), data.dateTo()) + 1;
         double average = days > 0 ? (double) total / days : 0;
 
         Table statsTable = new Table(UnitValue.createPercentArray(new float[] {60, 40}))
                 .setWidth(UnitValue.createPercentValue(60))
                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-        addTableRow(statsTable, "Общее количество записей", String.valueOf(total));
-        addTableRow(statsTable, "Среднее записей в день", String.format("%.1f", average));
+        addTableRow(fonts, statsTable, "Общее количество записей", String.valueOf(total));
+        addTableRow(fonts, statsTable, "Среднее записей в день", String.format("%.1f", average));
 
         document.add(statsTable);
         document.add(new Paragraph().setMarginBottom(10));
 
-        try {
-            byte[] chartImage = createLineChart(appointmentsByDate, "Записи по дням", "Дата", "Количество");
-            Image image = new Image(ImageDataFactory.create(chartImage))
-                    .setWidth(UnitValue.createPercentValue(90))
-                    .setHorizontalAlignment(HorizontalAlignment.CENTER);
-            document.add(image);
-        } catch (IOException e) {
-            document.add(
-                    new Paragraph("Не удалось создать график").setFont(font).setFontColor(ColorConstants.RED));
-        }
+        addChart(document, fonts, chart, 90, "Не удалось создать график");
 
         document.add(new Paragraph().setMarginBottom(20));
     }
 
-    private void addStatusesSection(Document document, LocalDate dateFrom, LocalDate dateTo) {
-        addSectionTitle(document, "3. Распределение по статусам");
-
-        List<Appointment> appointments = getAppointmentsForPeriod(dateFrom, dateTo);
-
-        Map<AppointmentStatus, Long> statusCounts =
-                appointments.stream().collect(Collectors.groupingBy(Appointment::getStatus, Collectors.counting()));
+    private void addStatusesSection(
+            Document document,
+            ReportFonts fonts,
+            Map<AppointmentStatus, Long> statusCounts,
+            CompletableFuture<String> chart) {
+        addSectionTitle(document, fonts, "3. Распределение по статусам");
 
         Table table = new Table(UnitValue.createPercentArray(new float[] {50, 30, 20}))
                 .setWidth(UnitValue.createPercentValue(80))
                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-        addTableHeader(table, "Статус", "Количество", "%");
+        addTableHeader(fonts, table, "Статус", "Количество", "%");
 
-        long total = appointments.size();
-        Map<String, String> statusNames = Map.of(
-                "WAITING", "Ожидание",
-                "IN_PROGRESS", "На приёме",
-                "COMPLETED", "Завершено",
-                "NO_SHOW", "Неявка",
-                "CANCELLED", "Отменено",
-                "RESCHEDULED", "Перенесено");
+        long total = statusCounts.values().stream().mapToLong(Long::longValue).sum();
 
         for (AppointmentStatus status : AppointmentStatus.values()) {
             long count = statusCounts.getOrDefault(status, 0L);
             double percent = total > 0 ? (double) count / total * 100 : 0;
-            table.addCell(createCell(statusNames.getOrDefault(status.name(), status.name())));
-            table.addCell(createCell(String.valueOf(count)));
-            table.addCell(createCell(String.format("%.1f%%", percent)));
+            table.addCell(createCell(fonts, STATUS_NAMES.getOrDefault(status, status.name())));
+            table.addCell(createCell(fonts, String.valueOf(count)));
+            table.addCell(createCell(fonts, String.format("%.1f%%", percent)));
         }
 
         document.add(table);
         document.add(new Paragraph().setMarginBottom(10));
 
-        try {
-            Map<String, Long> chartData = new LinkedHashMap<>();
-            for (AppointmentStatus status : AppointmentStatus.values()) {
-                long count = statusCounts.getOrDefault(status, 0L);
-                if (count > 0) {
-                    chartData.put(statusNames.getOrDefault(status.name(), status.name()), count);
-                }
-            }
-            byte[] chartImage = createPieChart(chartData, "Распределение по статусам");
-            Image image = new Image(ImageDataFactory.create(chartImage))
-                    .setWidth(UnitValue.createPercentValue(60))
-                    .setHorizontalAlignment(HorizontalAlignment.CENTER);
-            document.add(image);
-        } catch (IOException e) {
-            document.add(
-                    new Paragraph("Не удалось создать диаграмму").setFont(font).setFontColor(ColorConstants.RED));
-        }
+        addChart(document, fonts, chart, 60, "Не удалось создать диаграмму");
 
         document.add(new Paragraph().setMarginBottom(20));
     }
 
-    private void addServicesSection(Document document, LocalDate dateFrom, LocalDate dateTo) {
-        addSectionTitle(document, "4. Популярность услуг");
-
-        List<Appointment> appointments = getAppointmentsForPeriod(dateFrom, dateTo);
+    private void addServicesSection(
+            Document document, ReportFonts fonts, List<ServiceStatistics> services, CompletableFuture<String> chart) {
+        addSectionTitle(document, fonts, "4. Популярность услуг");
 
-        Map<String, Long> serviceCounts = appointments.stream()
-                .filter(a -> a.getService() != null)
-                .collect(Collectors.groupingBy(a -> a.getService().getName(), Collectors.counting()));
+        Map<String, Long> serviceCounts = serviceCounts(services);
 
-        Table table = new Table(UnitValue.createPercentArray(new float[] {60, 20, 20}))
+        Table table = new Table(UnitValue.createPercentArray(new float[] {60, 20, 20}), true)
                 .setWidth(UnitValue.createPercentValue(90))
                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-        addTableHeader(table, "Услуга", "Записей", "%");
+        addTableHeader(fonts, table, "Услуга", "Записей", "%");
+        document.add(table);
 
-        long total = appointments.stream().filter(a -> a.getService() != null).count();
+        long total = serviceCounts.values().stream().mapToLong(Long::longValue).sum();
 
-        serviceCounts.entrySet().stream()
+        List<Map.Entry<String, Long>> rows = serviceCounts.entrySet().stream()
                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .forEach(entry -> {
-                    double percent = total > 0 ? (double) entry.getValue() / total * 100 : 0;
-                    table.addCell(createCell(entry.getKey()));
-                    table.addCell(createCell(String.valueOf(entry.getValue())));
-                    table.addCell(createCell(String.format("%.1f%%", percent)));
-                });
+                .toList();
+        for (int i = 0; i < rows.size(); i++) {
+            Map.Entry<String, Long> entry = rows.get(i);
+            double percent = total > 0 ? (double) entry.getValue() / total * 100 : 0;
+            table.addCell(createCell(fonts, entry.getKey()));
+            table.addCell(createCell(fonts, String.valueOf(entry.getValue())));
+            table.addCell(createCell(fonts, String.format("%.1f%%", percent)));
+            flushRows(table, i);
+        }
+        table.complete();
 
-        document.add(table);
         document.add(new Paragraph().setMarginBottom(10));
 
-        try {
-            byte[] chartImage = createPieChart(serviceCounts, "Распределение по услугам");
-            Image image = new Image(ImageDataFactory.create(chartImage))
-                    .setWidth(UnitValue.createPercentValue(60))
-                    .setHorizontalAlignment(HorizontalAlignment.CENTER);
-            document.add(image);
-        } catch (IOException e) {
-            document.add(
-                    new Paragraph("Не удалось создать диаграмму").setFont(font).setFontColor(ColorConstants.RED));
-        }
+        addChart(document, fonts, chart, 60, "Не удалось создать диаграмму");
 
         document.add(new Paragraph().setMarginBottom(20));
     }
 
-    private void addEmployeesSection(Document document, LocalDate dateFrom, LocalDate dateTo) {
-        addSectionTitle(document, "5. Нагрузка по врачам");
-
-        List<Appointment> appointments = getAppointmentsForPeriod(dateFrom, dateTo);
+    private void addEmployeesSection(
+            Document document, ReportFonts fonts, List<EmployeeStatistics> employees, CompletableFuture<String> chart) {
+        addSectionTitle(document, fonts, "5. Нагрузка по врачам");
 
-        Map<UUID, List<Appointment>> byEmployee = appointments.stream()
-                .filter(a -> a.getEmployee() != null)
-                .collect(Collectors.groupingBy(a -> a.getEmployee().getId()));
-
-        Table table = new Table(UnitValue.createPercentArray(new float[] {40, 35, 25}))
+        Table table = new Table(UnitValue.createPercentArray(new float[] {40, 35, 25}), true)
                 .setWidth(UnitValue.createPercentValue(95))
                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-        addTableHeader(table, "Врач", "Специальность", "Приёмов");
+        addTableHeader(fonts, table, "Врач", "Специальность", "Приёмов");
+        document.add(table);
 
-        Map<String, Long> employeeCounts = new LinkedHashMap<>();
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeStatistics employee = employees.get(i);
+            String specialty = employee.specialty() != null ? employee.specialty() : "-";
 
-        byEmployee.entrySet().stream()
-                .sorted((a, b) ->
-                        Integer.compare(b.getValue().size(), a.getValue().size()))
-                .forEach(entry -> {
-                    Employee emp = entry.getValue().getFirst().getEmployee();
-                    String fullName = getFullName(emp);
-                    String specialty =
-                            emp.getSpecialty() != null ? emp.getSpecialty().getName() : "-";
+            table.addCell(createCell(fonts, employee.fullName()));
+            table.addCell(createCell(fonts, specialty));
+            table.addCell(createCell(fonts, String.valueOf(employee.total())));
+            flushRows(table, i);
+        }
+        table.complete();
 
-                    table.addCell(createCell(fullName));
-                    table.addCell(createCell(specialty));
-                    table.addCell(createCell(String.valueOf(entry.getValue().size())));
+        document.add(new Paragraph().setMarginBottom(10));
 
-                    employeeCounts.put(fullName, (long) entry.getValue().size());
-                });
+        addChart(document, fonts, chart, 90, "Не удалось создать диаграмму");
 
-        document.add(table);
-        document.add(new Paragraph().setMarginBottom(10));
+        document.add(new Paragraph().setMarginBottom(20));
+    }
 
+    private void addChart(
+            Document document, ReportFonts fonts, CompletableFuture<String> chart, float width, String error) {
         try {
-            byte[] chartImage = createHorizontalBarChart(employeeCounts, "Нагрузка по врачам", "Приёмов");
-            Image image = new Image(ImageDataFactory.create(chartImage))
-                    .setWidth(UnitValue.createPercentValue(90))
+            SvgConverterProperties properties = new SvgConverterProperties().setFontProvider(fonts.charts());
+            Image image = new Image(SvgConverter.convertToXObject(chart.join(), document.getPdfDocument(), properties))
+                    .setWidth(UnitValue.createPercentValue(width))
                     .setHorizontalAlignment(HorizontalAlignment.CENTER);
             document.add(image);
-        } catch (IOException e) {
-            document.add(
-                    new Paragraph("Не удалось создать диаграмму").setFont(font).setFontColor(ColorConstants.RED));
+        } catch (CompletionException | SvgProcessingException e) {
+            document.add(new Paragraph(error).setFont(fonts.regular()).setFontColor(ColorConstants.RED));
         }
+    }
 
-        document.add(new Paragraph().setMarginBottom(20));
+    private static Map<String, Long> statusChartData(Map<AppointmentStatus, Long> statusCounts) {
+        Map<String, Long> chartData = new LinkedHashMap<>();
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            long count = statusCounts.getOrDefault(status, 0L);
+            if (count > 0) {
+                chartData.put(STATUS_NAMES.getOrDefault(status, status.name()), count);
+            }
+        }
+        return chartData;
     }
 
-    private void addNoShowSection(Document document, LocalDate dateFrom, LocalDate dateTo) {
-        addSectionTitle(document, "6. Показатель неявок");
+    private static Map<String, Long> serviceCounts(List<ServiceStatistics> services) {
+        Map<String, Long> serviceCounts = new LinkedHashMap<>();
+        services.forEach(service -> serviceCounts.merge(service.serviceName(), service.total(), Long::sum));
+        return serviceCounts;
+    }
 
-        List<Appointment> appointments = getAppointmentsForPeriod(dateFrom, dateTo);
+    private static Map<String, Long> employeeCounts(List<EmployeeStatistics> employees) {
+        Map<String, Long> employeeCounts = new LinkedHashMap<>();
+        employees.forEach(employee -> employeeCounts.put(employee.fullName(), employee.total()));
+        return employeeCounts;
+    }
 
-        long total = appointments.size();
-        long noShow = appointments.stream()
-                .filter(a -> a.getStatus() == AppointmentStatus.NO_SHOW)
-                .count();
+    private void addNoShowSection(Document document, ReportFonts fonts, Map<AppointmentStatus, Long> statusCounts) {
+        addSectionTitle(document, fonts, "6. Показатель неявок");
+        long total = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        long noShow = statusCounts.getOrDefault(AppointmentStatus.NO_SHOW, 0L);
 
         double noShowRate = total > 0 ? (double) noShow / total * 100 : 0;
 
@@ -377,14 +524,14 @@ public class PdfExportService {
         }
 
         Paragraph rateParagraph = new Paragraph(String.format("%.1f%%", noShowRate))
-                .setFont(fontBold)
+                .setFont(fonts.bold())
                 .setFontSize(48)
                 .setFontColor(rateColor)
                 .setTextAlignment(TextAlignment.CENTER);
         document.add(rateParagraph);
 
         Paragraph rateLabel = new Paragraph("процент неявок")
-                .setFont(font)
+                .setFont(fonts.regular())
                 .setFontSize(14)
                 .setFontColor(ColorConstants.GRAY)
                 .setTextAlignment(TextAlignment.CENTER)
@@ -395,101 +542,80 @@ public class PdfExportService {
                 .setWidth(UnitValue.createPercentValue(50))
                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-        addTableRow(table, "Всего записей за период", String.valueOf(total));
-        addTableRow(table, "Количество неявок", String.valueOf(noShow));
+        addTableRow(fonts, table, "Всего записей за период", String.valueOf(total));
+        addTableRow(fonts, table, "Количество неявок", String.valueOf(noShow));
 
         document.add(table);
         document.add(new Paragraph().setMarginBottom(20));
     }
 
-    private void addWorkloadSection(Document document) {
-        addSectionTitle(document, "7. Загрузка сегодня");
+    private void addWorkloadSection(Document document, ReportFonts fonts, List<EmployeeUtilization> utilization) {
+        addSectionTitle(document, fonts, "7. Загрузка врачей");
 
-        LocalDate today = LocalDate.now();
-        List<Appointment> todayAppointments = appointmentService.findByDate(today);
-
-        Map<UUID, List<Appointment>> byEmployee = todayAppointments.stream()
-                .filter(a -> a.getEmployee() != null)
-                .collect(Collectors.groupingBy(a -> a.getEmployee().getId()));
-
-        int totalSlots = 0;
-        int totalOccupied = 0;
-
-        List<Map<String, Object>> employeeWorkloads = new ArrayList<>();
-
-        for (var entry : byEmployee.entrySet()) {
-            Employee emp = entry.getValue().getFirst().getEmployee();
-            List<DoctorSchedule> schedules = doctorScheduleService.findByEmployeeIdAndDayOfWeek(
-                    emp.getId(), today.getDayOfWeek().getValue());
-
-            int slots = 0;
-            for (DoctorSchedule schedule : schedules) {
-                long minutes = ChronoUnit.MINUTES.between(schedule.getStartTime(), schedule.getEndTime());
-                slots += (int) (minutes / 30);
-            }
-
-            int occupied = entry.getValue().size();
-            int free = Math.max(0, slots - occupied);
-            double loadPercent = slots > 0 ? (double) occupied / slots * 100 : 0;
-
-            totalSlots += slots;
-            totalOccupied += occupied;
-
-            Map<String, Object> workload = new HashMap<>();
-            workload.put("name", getFullName(emp));
-            workload.put("slots", slots);
-            workload.put("occupied", occupied);
-            workload.put("free", free);
-            workload.put("loadPercent", loadPercent);
-            employeeWorkloads.add(workload);
-        }
-
-        int totalFree = Math.max(0, totalSlots - totalOccupied);
-        double avgLoad = totalSlots > 0 ? (double) totalOccupied / totalSlots * 100 : 0;
+        long totalScheduled = utilization.stream()
+                .mapToLong(EmployeeUtilization::scheduledMinutes)
+                .sum();
+        long totalBooked = utilization.stream()
+                .mapToLong(EmployeeUtilization::bookedInScheduleMinutes)
+                .sum();
+        long totalFree = Math.max(0, totalScheduled - totalBooked);
+        double avgLoad = totalScheduled > 0 ? (double) totalBooked / totalScheduled * 100 : 0;
 
         Table summaryTable = new Table(UnitValue.createPercentArray(new float[] {25, 25, 25, 25}))
                 .setWidth(UnitValue.createPercentValue(90))
                 .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-        summaryTable.addHeaderCell(createHeaderCell("Всего слотов"));
-        summaryTable.addHeaderCell(createHeaderCell("Занято"));
-        summaryTable.addHeaderCell(createHeaderCell("Свободно"));
-        summaryTable.addHeaderCell(createHeaderCell("Средняя загрузка"));
+        summaryTable.addHeaderCell(createHeaderCell(fonts, "По графику (ч)"));
+        summaryTable.addHeaderCell(createHeaderCell(fonts, "Занято (ч)"));
+        summaryTable.addHeaderCell(createHeaderCell(fonts, "Свободно (ч)"));
+        summaryTable.addHeaderCell(createHeaderCell(fonts, "Средняя загрузка"));
 
-        summaryTable.addCell(createCell(String.valueOf(totalSlots)));
-        summaryTable.addCell(createCell(String.valueOf(totalOccupied)));
-        summaryTable.addCell(createCell(String.valueOf(totalFree)));
-        summaryTable.addCell(createCell(String.format("%.1f%%", avgLoad)));
+        summaryTable.addCell(createCell(fonts, formatHours(totalScheduled)));
+        summaryTable.addCell(createCell(fonts, formatHours(totalBooked)));
+        summaryTable.addCell(createCell(fonts, formatHours(totalFree)));
+        summaryTable.addCell(createCell(fonts, String.format("%.1f%%", avgLoad)));
 
         document.add(summaryTable);
         document.add(new Paragraph().setMarginBottom(15));
 
-        if (!employeeWorkloads.isEmpty()) {
-            Table detailTable = new Table(UnitValue.createPercentArray(new float[] {35, 15, 15, 15, 20}))
+        if (!utilization.isEmpty()) {
+            Table detailTable = new Table(UnitValue.createPercentArray(new float[] {35, 15, 15, 15, 20}), true)
                     .setWidth(UnitValue.createPercentValue(95))
                     .setHorizontalAlignment(HorizontalAlignment.CENTER);
 
-            addTableHeader(detailTable, "Врач", "Слоты", "Занято", "Свободно", "Загрузка");
+            addTableHeader(fonts, detailTable, "Врач", "График (ч)", "Занято (ч)", "Свободно (ч)", "Загрузка");
+            document.add(detailTable);
 
-            for (Map<String, Object> workload : employeeWorkloads) {
-                detailTable.addCell(createCell((String) workload.get("name")));
-                detailTable.addCell(createCell(String.valueOf(workload.get("slots"))));
-                detailTable.addCell(createCell(String.valueOf(workload.get("occupied"))));
-                detailTable.addCell(createCell(String.valueOf(workload.get("free"))));
-                detailTable.addCell(createCell(String.format("%.1f%%", (Double) workload.get("loadPercent"))));
+            for (int i = 0; i < utilization.size(); i++) {
+                EmployeeUtilization row = utilization.get(i);
+                detailTable.addCell(createCell(fonts, row.fullName()));
+                detailTable.addCell(createCell(fonts, formatHours(row.scheduledMinutes())));
+                detailTable.addCell(createCell(fonts, formatHours(row.bookedInScheduleMinutes())));
+                detailTable.addCell(createCell(fonts, formatHours(row.freeMinutes())));
+                detailTable.addCell(createCell(fonts, String.format("%.1f%%", row.utilizationPercent())));
+                flushRows(detailTable, i);
             }
-
-            document.add(detailTable);
+            detailTable.complete();
         }
 
         document.add(new Paragraph().setMarginBottom(20));
     }
 
-    private void addFooter(Document document) {
+    private static void flushRows(Table table, int rowIndex) {
+        if ((rowIndex + 1) % FLUSH_ROWS == 0) {
+            table.flush();
+        }
+    }
+
+    private static String formatHours(long minutes) {
+        return String.format("%.1f", minutes / 60.0);
+    }
+
+    private void addFooter(Document document, ReportFonts fonts) {
         document.add(new LineSeparator(new com.itextpdf.kernel.pdf.canvas.draw.SolidLine(1)).setMarginTop(20));
 
         Paragraph footer = new Paragraph("Сформировано системой МИС")
-                .setFont(font)
+                .setFont(fonts.regular())
                 .setFontSize(9)
                 .setFontColor(ColorConstants.GRAY)
                 .setTextAlignment(TextAlignment.CENTER)
@@ -497,62 +623,42 @@ public class PdfExportService {
         document.add(footer);
     }
 
-    private void addSectionTitle(Document document, String title) {
+    private void addSectionTitle(Document document, ReportFonts fonts, String title) {
         Paragraph sectionTitle = new Paragraph(title)
-                .setFont(fontBold)
+                .setFont(fonts.bold())
                 .setFontSize(16)
                 .setMarginTop(15)
                 .setMarginBottom(10);
         document.add(sectionTitle);
     }
 
-    private void addTableRow(Table table, String label, String value) {
-        table.addCell(createCell(label));
-        table.addCell(createCell(value).setTextAlignment(TextAlignment.RIGHT));
+    private void addTableRow(ReportFonts fonts, Table table, String label, String value) {
+        table.addCell(createCell(fonts, label));
+        table.addCell(createCell(fonts, value).setTextAlignment(TextAlignment.RIGHT));
     }
 
-    private void addTableHeader(Table table, String... headers) {
+    private void addTableHeader(ReportFonts fonts, Table table, String... headers) {
         for (String header : headers) {
-            table.addHeaderCell(createHeaderCell(header));
+            table.addHeaderCell(createHeaderCell(fonts, header));
         }
     }
 
-    private Cell createCell(String content) {
+    private Cell createCell(ReportFonts fonts, String content) {
         return new Cell()
-                .add(new Paragraph(content).setFont(font))
+                .add(new Paragraph(content).setFont(fonts.regular()))
                 .setPadding(5)
                 .setBorder(new com.itextpdf.layout.borders.SolidBorder(ColorConstants.LIGHT_GRAY, 0.5f));
     }
 
-    private Cell createHeaderCell(String content) {
+    private Cell createHeaderCell(ReportFonts fonts, String content) {
         return new Cell()
-                .add(new Paragraph(content).setFont(fontBold))
+                .add(new Paragraph(content).setFont(fonts.bold()))
                 .setBackgroundColor(new DeviceRgb(52, 58, 64))
                 .setFontColor(ColorConstants.WHITE)
                 .setPadding(8)
                 .setTextAlignment(TextAlignment.CENTER);
     }
 
-    private List<Appointment> getAppointmentsForPeriod(LocalDate dateFrom, LocalDate dateTo) {
-        List<Appointment> appointments = new ArrayList<>();
-        LocalDate current = dateFrom;
-        while (!current.isAfter(dateTo)) {
-            appointments.addAll(appointmentService.findByDate(current));
-            current = current.plusDays(1);
-        }
-        return appointments;
-    }
-
-    private String getFullName(Employee employee) {
-        if (employee == null) return "-";
-        StringBuilder sb = new StringBuilder();
-        sb.append(employee.getLastName()).append(" ").append(employee.getFirstName());
-        if (employee.getMiddleName() != null && !employee.getMiddleName().isBlank()) {
-            sb.append(" ").append(employee.getMiddleName());
-        }
-        return sb.toString();
-    }
-
     private Font getChartFont() {
         return new Font("Arial", Font.PLAIN, 12);
     }
@@ -561,16 +667,30 @@ public class PdfExportService {
         return new Font("Arial", Font.BOLD, 14);
     }
 
-    private byte[] createLineChart(Map<LocalDate, Long> data, String title, String xLabel, String yLabel)
-            throws IOException {
+    private JFreeChart createChart(ChartSpec spec) {
+        return switch (spec.type()) {
+            case LINE -> createLineChart(spec);
+            case PIE -> createPieChart(spec);
+            case BAR -> createHorizontalBarChart(spec);
+        };
+    }
+
+    private JFreeChart createLineChart(ChartSpec spec) {
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
 
-        for (Map.Entry<LocalDate, Long> entry : data.entrySet()) {
-            dataset.addValue(entry.getValue(), "Записи", entry.getKey().format(DateTimeFormatter.ofPattern("dd.MM")));
+        for (Map.Entry<String, Long> entry : spec.data().entrySet()) {
+            dataset.addValue(entry.getValue(), "Записи", entry.getKey());
         }
 
         JFreeChart chart = ChartFactory.createLineChart(
-                title, xLabel, yLabel, dataset, PlotOrientation.VERTICAL, false, true, false);
+                spec.title(),
+                spec.categoryLabel(),
+                spec.valueLabel(),
+                dataset,
+                PlotOrientation.VERTICAL,
+                false,
+                true,
+                false);
 
         chart.setBackgroundPaint(Color.WHITE);
         chart.getTitle().setFont(getChartTitleFont());
@@ -583,19 +703,17 @@ public class PdfExportService {
         plot.getRangeAxis().setTickLabelFont(getChartFont());
         plot.getRangeAxis().setLabelFont(getChartFont());
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ChartUtils.writeChartAsPNG(baos, chart, 600, 300);
-        return baos.toByteArray();
+        return chart;
     }
 
-    private byte[] createPieChart(Map<String, Long> data, String title) throws IOException {
+    private JFreeChart createPieChart(ChartSpec spec) {
         DefaultPieDataset<String> dataset = new DefaultPieDataset<>();
 
-        for (Map.Entry<String, Long> entry : data.entrySet()) {
+        for (Map.Entry<String, Long> entry : spec.data().entrySet()) {
             dataset.setValue(entry.getKey(), entry.getValue());
         }
 
-        JFreeChart chart = ChartFactory.createPieChart(title, dataset, true, true, false);
+        JFreeChart chart = ChartFactory.createPieChart(spec.title(), dataset, true, true, false);
         chart.setBackgroundPaint(Color.WHITE);
         chart.getTitle().setFont(getChartTitleFont());
         chart.getLegend().setItemFont(getChartFont());
@@ -606,21 +724,25 @@ public class PdfExportService {
         plot.setShadowPaint(null);
         plot.setLabelFont(getChartFont());
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ChartUtils.writeChartAsPNG(baos, chart, 400, 300);
-        return baos.toByteArray();
+        return chart;
     }
 
-    private byte[] createHorizontalBarChart(Map<String, Long> data, String title, String valueLabel)
-            throws IOException {
+    private JFreeChart createHorizontalBarChart(ChartSpec spec) {
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
 
-        for (Map.Entry<String, Long> entry : data.entrySet()) {
-            dataset.addValue(entry.getValue(), valueLabel, entry.getKey());
+        for (Map.Entry<String, Long> entry : spec.data().entrySet()) {
+            dataset.addValue(entry.getValue(), spec.valueLabel(), entry.getKey());
         }
 
         JFreeChart chart = ChartFactory.createBarChart(
-                title, "", valueLabel, dataset, PlotOrientation.HORIZONTAL, false, true, false);
+                spec.title(),
+                spec.categoryLabel(),
+                spec.valueLabel(),
+                dataset,
+                PlotOrientation.HORIZONTAL,
+                false,
+                true,
+                false);
 
         chart.setBackgroundPaint(Color.WHITE);
         chart.getTitle().setFont(getChartTitleFont());
@@ -635,10 +757,14 @@ public class PdfExportService {
 
         BarRenderer renderer = (BarRenderer) plot.getRenderer();
         renderer.setSeriesPaint(0, new Color(0, 123, 255));
+        renderer.setBarPainter(new StandardBarPainter());
+        renderer.setShadowVisible(false);
+
+        return chart;
+    }
 
-        int height = Math.max(300, data.size() * 40);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ChartUtils.writeChartAsPNG(baos, chart, 600, height);
-        return baos.toByteArray();
+    @PreDestroy
+    void shutdown() {
+        chartExecutor.shutdownNow();
     }
 }
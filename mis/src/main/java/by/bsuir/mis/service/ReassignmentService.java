@@ -0,0 +1,15 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.dto.request.ReassignmentItemRequest;
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.User;
+import by.bsuir.mis.model.ReassignmentProposal;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReassignmentService {
+
+    List<ReassignmentProposal> propose(UUID exceptionId, int horizonDays);
+
+    List<Appointment> apply(UUID exceptionId, List<ReassignmentItemRequest> reassignments, User changedBy);
+}
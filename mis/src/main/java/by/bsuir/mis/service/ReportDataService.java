@@ -0,0 +1,10 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.model.ReportData;
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface ReportDataService {
+
+    ReportData load(LocalDate dateFrom, LocalDate dateTo, Collection<String> sections);
+}
@@ -0,0 +1,15 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.model.ReportJob;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReportJobService {
+
+    ReportJob submit(LocalDate dateFrom, LocalDate dateTo, List<String> sections);
+
+    ReportJob getJob(UUID id);
+
+    ReportJob getCompletedJob(UUID id);
+}
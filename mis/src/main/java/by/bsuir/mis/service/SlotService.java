@@ -0,0 +1,13 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SlotService {
+
+    List<SlotResponse> findAvailableSlots(UUID employeeId, UUID serviceId, LocalDate date);
+
+    List<SlotResponse> findEarliestSlots(UUID serviceId, int days, int limit);
+}
@@ -0,0 +1,26 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ServiceStatistics;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface StatisticsService {
+
+    Map<LocalDate, Long> countByDate(LocalDate dateFrom, LocalDate dateTo);
+
+    BucketedCounts countByPeriod(LocalDate dateFrom, LocalDate dateTo, Granularity granularity);
+
+    Map<AppointmentStatus, Long> countByStatus(LocalDate dateFrom, LocalDate dateTo);
+
+    Map<AppointmentSource, Long> countBySource(LocalDate dateFrom, LocalDate dateTo);
+
+    List<EmployeeStatistics> countByEmployee(LocalDate dateFrom, LocalDate dateTo);
+
+    List<ServiceStatistics> countByService(LocalDate dateFrom, LocalDate dateTo);
+}
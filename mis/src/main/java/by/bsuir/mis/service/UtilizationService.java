@@ -0,0 +1,10 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.model.EmployeeUtilization;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UtilizationService {
+
+    List<EmployeeUtilization> getUtilization(LocalDate dateFrom, LocalDate dateTo);
+}
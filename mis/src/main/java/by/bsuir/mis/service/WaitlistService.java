@@ -0,0 +1,23 @@
+package by.bsuir.mis.service;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.WaitlistEntry;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WaitlistService {
+
+    WaitlistEntry join(WaitlistEntry entry);
+
+    Optional<WaitlistEntry> findById(UUID id);
+
+    List<WaitlistEntry> findByPatientId(UUID patientId);
+
+    WaitlistEntry cancel(UUID id);
+
+    Optional<Appointment> offerFreedSlot(AppointmentChangedEvent event);
+
+    void reload();
+}
@@ -1,15 +1,22 @@
 package by.bsuir.mis.service.impl;
 
 import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.AppointmentDailyStatsId;
 import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.event.AppointmentChangedEvent.ChangeType;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.AppointmentRepository;
 import by.bsuir.mis.service.AppointmentService;
+import by.bsuir.mis.service.DailyStatsService;
+import by.bsuir.mis.service.DashboardService;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +26,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class AppointmentServiceImpl implements AppointmentService {
 
     private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailyStatsService dailyStatsService;
+    private final DashboardService dashboardService;
 
     @Override
     @Transactional
     public Appointment save(Appointment appointment) {
-        return appointmentRepository.save(appointment);
+        Appointment saved = appointmentRepository.save(appointment);
+        dailyStatsService.increment(saved.statsKey());
+        dashboardChanged(saved.statsKey(), 1);
+        saved.markStatsRecorded();
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.CREATED, saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<Appointment> saveAll(List<Appointment> appointments) {
+        List<Appointment> saved = appointmentRepository.saveAll(appointments);
+        saved.forEach(a -> {
+            dailyStatsService.increment(a.statsKey());
+            dashboardChanged(a.statsKey(), 1);
+            a.markStatsRecorded();
+        });
+        saved.forEach(a -> eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.CREATED, a)));
+        return saved;
     }
 
     @Override
@@ -56,6 +84,11 @@ public class AppointmentServiceImpl implements AppointmentService {
         return appointmentRepository.findByEmployee_IdAndAppointmentDate(employeeId, date);
     }
 
+    @Override
+    public List<Appointment> findByEmployeeIdAndDateRange(UUID employeeId, LocalDate startDate, LocalDate endDate) {
+        return appointmentRepository.findByEmployeeIdAndDateRange(employeeId, startDate, endDate);
+    }
+
     @Override
     public List<Appointment> findByStatus(AppointmentStatus status) {
         return appointmentRepository.findByStatus(status);
@@ -67,7 +100,24 @@ public class AppointmentServiceImpl implements AppointmentService {
         if (!appointmentRepository.existsById(appointment.getId())) {
             throw new ResourceNotFoundException("Appointment", "id", appointment.getId());
         }
-        return appointmentRepository.save(appointment);
+        AppointmentDailyStatsId recorded = recordedStatsKey(appointment);
+        Appointment updated = appointmentRepository.save(appointment);
+        recordStatsChange(recorded, updated);
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.UPDATED, updated));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public List<Appointment> updateAll(List<Appointment> appointments) {
+        List<AppointmentDailyStatsId> recorded =
+                appointments.stream().map(this::recordedStatsKey).toList();
+        List<Appointment> updated = appointmentRepository.saveAll(appointments);
+        for (int i = 0; i < updated.size(); i++) {
+            recordStatsChange(recorded.get(i), updated.get(i));
+        }
+        updated.forEach(a -> eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.UPDATED, a)));
+        return updated;
     }
 
     @Override
@@ -76,7 +126,12 @@ public class AppointmentServiceImpl implements AppointmentService {
         if (!appointmentRepository.existsById(id)) {
             throw new ResourceNotFoundException("Appointment", "id", id);
         }
+        AppointmentDailyStatsId recorded =
+                appointmentRepository.findStatsKeyById(id).orElse(null);
+        dailyStatsService.decrement(recorded);
+        dashboardChanged(recorded, -1);
         appointmentRepository.deleteById(id);
+        eventPublisher.publishEvent(AppointmentChangedEvent.deleted(id));
     }
 
     @Override
@@ -89,6 +144,33 @@ public class AppointmentServiceImpl implements AppointmentService {
         if (status == AppointmentStatus.CANCELLED) {
             appointment.setCancelReason(reason);
         }
-        return appointmentRepository.save(appointment);
+        AppointmentDailyStatsId recorded = recordedStatsKey(appointment);
+        Appointment updated = appointmentRepository.save(appointment);
+        recordStatsChange(recorded, updated);
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.UPDATED, updated));
+        return updated;
+    }
+
+    private AppointmentDailyStatsId recordedStatsKey(Appointment appointment) {
+        if (appointment.getRecordedStatsKey() != null) {
+            return appointment.getRecordedStatsKey();
+        }
+        return appointmentRepository.findStatsKeyById(appointment.getId()).orElse(null);
+    }
+
+    private void recordStatsChange(AppointmentDailyStatsId recorded, Appointment updated) {
+        AppointmentDailyStatsId current = updated.statsKey();
+        dailyStatsService.move(recorded, current);
+        if (!Objects.equals(recorded, current)) {
+            dashboardChanged(recorded, -1);
+            dashboardChanged(current, 1);
+        }
+        updated.markStatsRecorded();
+    }
+
+    private void dashboardChanged(AppointmentDailyStatsId key, long delta) {
+        if (key != null) {
+            dashboardService.appointmentsChanged(key.getStatDate(), key.getStatus(), delta);
+        }
     }
 }
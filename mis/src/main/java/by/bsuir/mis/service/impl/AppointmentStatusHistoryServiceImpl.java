@@ -23,6 +23,12 @@ public class AppointmentStatusHistoryServiceImpl implements AppointmentStatusHis
         return appointmentStatusHistoryRepository.save(history);
     }
 
+    @Override
+    @Transactional
+    public List<AppointmentStatusHistory> saveAll(List<AppointmentStatusHistory> histories) {
+        return appointmentStatusHistoryRepository.saveAll(histories);
+    }
+
     @Override
     public Optional<AppointmentStatusHistory> findById(UUID id) {
         return appointmentStatusHistoryRepository.findById(id);
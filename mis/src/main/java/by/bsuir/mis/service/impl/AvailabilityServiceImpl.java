@@ -0,0 +1,117 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.dto.response.DayAvailabilityResponse;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.repository.projection.DailyBookedMinutes;
+import by.bsuir.mis.service.AvailabilityService;
+import by.bsuir.mis.service.CalendarService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private final DoctorScheduleRepository doctorScheduleRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final CalendarService calendarService;
+    private final OccupancyService occupancyService;
+
+    @Override
+    public List<DayAvailabilityResponse> getMonthAvailability(
+            Collection<UUID> employeeIds, UUID serviceId, YearMonth month) {
+        int[] freeSlots = new int[month.lengthOfMonth()];
+        int[] workingDoctors = new int[month.lengthOfMonth()];
+
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = month.atDay(1).isBefore(today) ? today : month.atDay(1);
+        LocalDate endDate = month.atEndOfMonth();
+
+        if (!employeeIds.isEmpty() && !startDate.isAfter(endDate)) {
+            Map<UUID, List<DoctorSchedule>> schedules =
+                    doctorScheduleRepository
+                            .findActiveByEmployeeIdsInDateRange(employeeIds, startDate, endDate)
+                            .stream()
+                            .collect(
+                                    Collectors.groupingBy(ds -> ds.getEmployee().getId()));
+            Map<UUID, List<ScheduleException>> exceptions =
+                    scheduleExceptionRepository
+                            .findByEmployeeIdsInDateRange(schedules.keySet(), startDate, endDate)
+                            .stream()
+                            .collect(
+                                    Collectors.groupingBy(se -> se.getEmployee().getId()));
+            Map<UUID, Map<LocalDate, Long>> booked = new HashMap<>();
+            if (!schedules.isEmpty()) {
+                for (DailyBookedMinutes row : appointmentRepository.sumBookedMinutesByEmployeeAndDate(
+                        schedules.keySet(), startDate, endDate)) {
+                    booked.computeIfAbsent(row.getEmployeeId(), k -> new HashMap<>())
+                            .put(row.getAppointmentDate(), row.getBookedMinutes());
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            schedules.forEach((employeeId, employeeSchedules) -> {
+                List<ScheduleException> employeeExceptions = exceptions.getOrDefault(employeeId, List.of());
+                Map<LocalDate, Long> employeeBooked = booked.getOrDefault(employeeId, Map.of());
+
+                for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                    if (SlotGrid.isOnLeave(employeeExceptions, date)) {
+                        continue;
+                    }
+                    List<DoctorSchedule> daySchedules = SlotGrid.schedulesOn(employeeSchedules, date);
+                    if (daySchedules.isEmpty()) {
+                        continue;
+                    }
+
+                    int durationMin = serviceId != null
+                            ? calendarService.getDurationMin(serviceId, date)
+                            : SlotGrid.DEFAULT_DURATION_MIN;
+                    int free = date.equals(today)
+                            ? SlotGrid.freeSlots(
+                                            calendarService.getSlotGrid(employeeId, date, durationMin, daySchedules),
+                                            occupancyService.getDay(employeeId, date),
+                                            now,
+                                            Integer.MAX_VALUE)
+                                    .size()
+                            : estimateFreeSlots(daySchedules, durationMin, employeeBooked.getOrDefault(date, 0L));
+
+                    freeSlots[date.getDayOfMonth() - 1] += free;
+                    workingDoctors[date.getDayOfMonth() - 1]++;
+                }
+            });
+        }
+
+        List<DayAvailabilityResponse> days = new ArrayList<>(month.lengthOfMonth());
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            days.add(new DayAvailabilityResponse(month.atDay(day), freeSlots[day - 1], workingDoctors[day - 1]));
+        }
+        return days;
+    }
+
+    static int estimateFreeSlots(List<DoctorSchedule> schedules, int durationMin, long bookedMinutes) {
+        int capacity = schedules.stream()
+                .mapToInt(ds ->
+                        (ds.getEndTime().toSecondOfDay() - ds.getStartTime().toSecondOfDay()) / 60 / durationMin)
+                .sum();
+        return (int) Math.max(0, capacity - Math.ceilDiv(bookedMinutes, durationMin));
+    }
+}
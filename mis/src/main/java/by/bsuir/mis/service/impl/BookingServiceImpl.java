@@ -0,0 +1,280 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.AppointmentStatusHistory;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.entity.User;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceAlreadyExistsException;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.model.StripedLocks;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.service.AppointmentService;
+import by.bsuir.mis.service.AppointmentStatusHistoryService;
+import by.bsuir.mis.service.BookingService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class BookingServiceImpl implements BookingService {
+
+    private static final String CONFLICT_MESSAGE = "Doctor already has an appointment at this time";
+
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorScheduleRepository doctorScheduleRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final AppointmentService appointmentService;
+    private final AppointmentStatusHistoryService statusHistoryService;
+    private final OccupancyService occupancyService;
+    private final PlatformTransactionManager transactionManager;
+
+    private final StripedLocks dayLocks = new StripedLocks(256);
+
+    @Override
+    public Appointment book(Appointment appointment) {
+        return book(appointment, appointment.getId());
+    }
+
+    @Override
+    public Appointment confirmHold(Appointment appointment, UUID holdId) {
+        return book(appointment, holdId);
+    }
+
+    private Appointment book(Appointment appointment, UUID ignoredId) {
+        UUID employeeId = appointment.getEmployee().getId();
+        LocalDate date = appointment.getAppointmentDate();
+
+        // The index is per node and may lag behind other nodes, so a conflict there is only confirmed under the lock.
+        boolean indexConflict = !occupancyService.isFree(
+                employeeId, date, appointment.getStartTime(), appointment.getEndTime(), ignoredId);
+
+        Lock lock = dayLocks.get(new DayKey(employeeId, date));
+        lock.lock();
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                appointmentRepository.acquireAdvisoryLock(advisoryKey(employeeId, date));
+
+                boolean conflict = appointmentRepository
+                        .findOverlappingAppointments(
+                                employeeId, date, appointment.getStartTime(), appointment.getEndTime())
+                        .stream()
+                        .anyMatch(existing -> !existing.getId().equals(appointment.getId()));
+                if (conflict) {
+                    throw new ResourceAlreadyExistsException(CONFLICT_MESSAGE);
+                }
+                if (indexConflict && isHeld(appointment, ignoredId)) {
+                    throw new ResourceAlreadyExistsException(CONFLICT_MESSAGE);
+                }
+
+                return appointment.getId() == null
+                        ? appointmentService.save(appointment)
+                        : appointmentService.update(appointment);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isHeld(Appointment appointment, UUID ignoredId) {
+        LocalDate date = appointment.getAppointmentDate();
+        return !occupancyService
+                .refresh(appointment.getEmployee().getId(), date)
+                .isFreeExcept(
+                        DayOccupancy.minuteOf(date, appointment.getStartTime()),
+                        DayOccupancy.minuteOf(date, appointment.getEndTime()),
+                        ignoredId);
+    }
+
+    @Override
+    public List<Appointment> bookSeries(
+            Appointment template, LocalTime startTime, LocalTime endTime, List<LocalDate> dates) {
+        UUID employeeId = template.getEmployee().getId();
+        List<LocalDate> sortedDates = dates.stream().distinct().sorted().toList();
+
+        List<Lock> locks = dayLocks.getAll(
+                sortedDates.stream().map(date -> new DayKey(employeeId, date)).toList());
+        locks.forEach(Lock::lock);
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                sortedDates.stream()
+                        .mapToLong(date -> advisoryKey(employeeId, date))
+                        .sorted()
+                        .forEach(appointmentRepository::acquireAdvisoryLock);
+
+                Map<LocalDate, DoctorSchedule> schedules =
+                        validateSeries(employeeId, startTime, endTime, sortedDates, LocalDateTime.now());
+
+                List<Appointment> appointments = sortedDates.stream()
+                        .map(date -> Appointment.builder()
+                                .patient(template.getPatient())
+                                .employee(template.getEmployee())
+                                .service(template.getService())
+                                .schedule(schedules.get(date))
+                                .appointmentDate(date)
+                                .startTime(date.atTime(startTime))
+                                .endTime(date.atTime(endTime))
+                                .source(template.getSource())
+                                .createdBy(template.getCreatedBy())
+                                .build())
+                        .toList();
+                return appointmentService.saveAll(appointments);
+            });
+        } finally {
+            locks.reversed().forEach(Lock::unlock);
+        }
+    }
+
+    @Override
+    public List<Appointment> reassign(List<Appointment> appointments, User changedBy, String reason) {
+        List<Lock> locks = dayLocks.getAll(appointments.stream()
+                .map(a -> new DayKey(a.getEmployee().getId(), a.getAppointmentDate()))
+                .distinct()
+                .toList());
+        locks.forEach(Lock::lock);
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                appointments.stream()
+                        .mapToLong(a -> advisoryKey(a.getEmployee().getId(), a.getAppointmentDate()))
+                        .distinct()
+                        .sorted()
+                        .forEach(appointmentRepository::acquireAdvisoryLock);
+
+                validateReassignments(appointments);
+
+                List<Appointment> updated = appointmentService.updateAll(appointments);
+                statusHistoryService.saveAll(updated.stream()
+                        .map(a -> AppointmentStatusHistory.builder()
+                                .appointment(a)
+                                .oldStatus(a.getStatus())
+                                .newStatus(a.getStatus())
+                                .changedBy(changedBy)
+                                .changeReason(reason)
+                                .build())
+                        .toList());
+                return updated;
+            });
+        } finally {
+            locks.reversed().forEach(Lock::unlock);
+        }
+    }
+
+    private void validateReassignments(List<Appointment> appointments) {
+        List<UUID> employeeIds = appointments.stream()
+                .map(a -> a.getEmployee().getId())
+                .distinct()
+                .toList();
+        LocalDate firstDate = appointments.stream()
+                .map(Appointment::getAppointmentDate)
+                .min(LocalDate::compareTo)
+                .orElseThrow();
+        LocalDate lastDate = appointments.stream()
+                .map(Appointment::getAppointmentDate)
+                .max(LocalDate::compareTo)
+                .orElseThrow();
+        Set<UUID> movedIds = appointments.stream().map(Appointment::getId).collect(Collectors.toSet());
+
+        List<Appointment> others =
+                appointmentRepository.findActiveByEmployeeIdsAndDateRange(employeeIds, firstDate, lastDate).stream()
+                        .filter(a -> !movedIds.contains(a.getId()))
+                        .toList();
+
+        List<LocalDateTime> conflicts = new ArrayList<>();
+        for (Appointment moved : appointments) {
+            boolean conflict = others.stream().anyMatch(a -> overlaps(a, moved))
+                    || appointments.stream().anyMatch(a -> a != moved && overlaps(a, moved));
+            if (conflict) {
+                conflicts.add(moved.getStartTime());
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ResourceAlreadyExistsException("Doctor already has appointments at: "
+                    + conflicts.stream().map(LocalDateTime::toString).collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static boolean overlaps(Appointment a, Appointment b) {
+        return a.getEmployee().getId().equals(b.getEmployee().getId())
+                && a.getAppointmentDate().equals(b.getAppointmentDate())
+                && a.getStartTime().isBefore(b.getEndTime())
+                && a.getEndTime().isAfter(b.getStartTime());
+    }
+
+    private Map<LocalDate, DoctorSchedule> validateSeries(
+            UUID employeeId, LocalTime startTime, LocalTime endTime, List<LocalDate> dates, LocalDateTime now) {
+        List<UUID> employeeIds = List.of(employeeId);
+        LocalDate firstDate = dates.getFirst();
+        LocalDate lastDate = dates.getLast();
+
+        List<DoctorSchedule> schedules =
+                doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(employeeIds, firstDate, lastDate);
+        List<ScheduleException> exceptions =
+                scheduleExceptionRepository.findByEmployeeIdsInDateRange(employeeIds, firstDate, lastDate);
+        List<Appointment> existing =
+                appointmentRepository.findActiveByEmployeeIdsAndDateRange(employeeIds, firstDate, lastDate);
+
+        Map<LocalDate, DoctorSchedule> matched = new HashMap<>();
+        List<LocalDate> unavailable = new ArrayList<>();
+        List<LocalDate> conflicts = new ArrayList<>();
+
+        for (LocalDate date : dates) {
+            LocalDateTime start = date.atTime(startTime);
+            LocalDateTime end = date.atTime(endTime);
+
+            boolean onLeave = SlotGrid.isOnLeave(exceptions, date);
+            DoctorSchedule schedule = SlotGrid.schedulesOn(schedules, date).stream()
+                    .filter(ds -> !startTime.isBefore(ds.getStartTime()) && !endTime.isAfter(ds.getEndTime()))
+                    .findFirst()
+                    .orElse(null);
+
+            if (onLeave || schedule == null || start.isBefore(now)) {
+                unavailable.add(date);
+            } else if (existing.stream()
+                    .anyMatch(a -> a.getAppointmentDate().equals(date)
+                            && a.getStartTime().isBefore(end)
+                            && a.getEndTime().isAfter(start))) {
+                conflicts.add(date);
+            } else {
+                matched.put(date, schedule);
+            }
+        }
+
+        if (!unavailable.isEmpty()) {
+            throw new BadRequestException("Doctor is not available at this time on: " + join(unavailable));
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ResourceAlreadyExistsException(
+                    "Doctor already has appointments at this time on: " + join(conflicts));
+        }
+        return matched;
+    }
+
+    private static String join(List<LocalDate> dates) {
+        return dates.stream().map(LocalDate::toString).collect(Collectors.joining(", "));
+    }
+
+    static long advisoryKey(UUID employeeId, LocalDate date) {
+        long h = employeeId.getMostSignificantBits() * 31 + employeeId.getLeastSignificantBits();
+        return h * 0x9E3779B97F4A7C15L + date.toEpochDay();
+    }
+
+    private record DayKey(UUID employeeId, LocalDate date) {}
+}
@@ -0,0 +1,265 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.entity.ServiceDuration;
+import by.bsuir.mis.event.ScheduleChangedEvent;
+import by.bsuir.mis.event.ServiceDurationChangedEvent;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.repository.ServiceDurationRepository;
+import by.bsuir.mis.service.CalendarService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarServiceImpl implements CalendarService {
+
+    static final int HORIZON_DAYS = 14;
+
+    private final DoctorScheduleRepository doctorScheduleRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final ServiceDurationRepository serviceDurationRepository;
+
+    private final Map<UUID, List<ServiceDuration>> durations = new ConcurrentHashMap<>();
+
+    private volatile CalendarWindow window;
+
+    @Override
+    public List<DoctorSchedule> getWorkingSchedules(UUID employeeId, LocalDate date) {
+        CalendarWindow current = window;
+        if (current != null && current.covers(date)) {
+            EmployeeCalendar calendar = current.employees().get(employeeId);
+            return calendar != null ? calendar.days().getOrDefault(date, List.of()) : List.of();
+        }
+
+        if (!scheduleExceptionRepository
+                .findByEmployeeIdOnDate(employeeId, date)
+                .isEmpty()) {
+            return List.of();
+        }
+        return sortedByStart(doctorScheduleRepository.findActiveByEmployeeAndDayOnDate(
+                employeeId, date.getDayOfWeek().getValue(), date));
+    }
+
+    @Override
+    public Map<UUID, Map<LocalDate, List<DoctorSchedule>>> getWorkingSchedules(
+            Collection<UUID> employeeIds, LocalDate startDate, LocalDate endDate) {
+        Map<UUID, Map<LocalDate, List<DoctorSchedule>>> result = new HashMap<>();
+        employeeIds.forEach(employeeId -> result.put(employeeId, new HashMap<>()));
+
+        LocalDate uncoveredFrom = startDate;
+        CalendarWindow current = window;
+        if (current != null && current.covers(startDate)) {
+            LocalDate coveredTo = endDate.isBefore(current.endDate()) ? endDate : current.endDate();
+            for (UUID employeeId : employeeIds) {
+                EmployeeCalendar calendar = current.employees().get(employeeId);
+                if (calendar == null) {
+                    continue;
+                }
+                calendar.days().forEach((date, schedules) -> {
+                    if (!date.isBefore(startDate) && !date.isAfter(coveredTo)) {
+                        result.get(employeeId).put(date, schedules);
+                    }
+                });
+            }
+            uncoveredFrom = coveredTo.plusDays(1);
+        }
+        if (uncoveredFrom.isAfter(endDate)) {
+            return result;
+        }
+
+        Map<UUID, List<DoctorSchedule>> schedules =
+                doctorScheduleRepository
+                        .findActiveByEmployeeIdsInDateRange(employeeIds, uncoveredFrom, endDate)
+                        .stream()
+                        .collect(Collectors.groupingBy(ds -> ds.getEmployee().getId()));
+        Map<UUID, List<ScheduleException>> exceptions =
+                scheduleExceptionRepository.findByEmployeeIdsInDateRange(employeeIds, uncoveredFrom, endDate).stream()
+                        .collect(Collectors.groupingBy(se -> se.getEmployee().getId()));
+        LocalDate from = uncoveredFrom;
+        schedules.forEach((employeeId, employeeSchedules) -> result.computeIfAbsent(employeeId, k -> new HashMap<>())
+                .putAll(buildCalendar(employeeSchedules, exceptions.getOrDefault(employeeId, List.of()), from, endDate)
+                        .days()));
+        return result;
+    }
+
+    @Override
+    public int getDurationMin(UUID serviceId, LocalDate date) {
+        return SlotGrid.durationOn(
+                durations.computeIfAbsent(serviceId, serviceDurationRepository::findByService_Id), date);
+    }
+
+    @Override
+    public List<SlotResponse> getSlotGrid(UUID employeeId, LocalDate date, int durationMin) {
+        return getSlotGrid(employeeId, date, durationMin, () -> getWorkingSchedules(employeeId, date));
+    }
+
+    @Override
+    public List<SlotResponse> getSlotGrid(
+            UUID employeeId, LocalDate date, int durationMin, List<DoctorSchedule> workingSchedules) {
+        return getSlotGrid(employeeId, date, durationMin, () -> workingSchedules);
+    }
+
+    private List<SlotResponse> getSlotGrid(
+            UUID employeeId, LocalDate date, int durationMin, Supplier<List<DoctorSchedule>> workingSchedules) {
+        CalendarWindow current = window;
+        EmployeeCalendar calendar =
+                current != null && current.covers(date) ? current.employees().get(employeeId) : null;
+        if (calendar == null) {
+            List<DoctorSchedule> schedules = workingSchedules.get();
+            return schedules.isEmpty() ? List.of() : buildGrid(employeeId, date, schedules, durationMin);
+        }
+
+        List<DoctorSchedule> schedules = calendar.days().getOrDefault(date, List.of());
+        if (schedules.isEmpty()) {
+            return List.of();
+        }
+        return calendar.grids()
+                .computeIfAbsent(
+                        new GridKey(date, durationMin), key -> buildGrid(employeeId, date, schedules, durationMin));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${calendar.refresh-ms:600000}")
+    public synchronized void refresh() {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusDays(HORIZON_DAYS - 1L);
+        try {
+            Map<UUID, List<DoctorSchedule>> schedules =
+                    doctorScheduleRepository.findActiveInDateRange(startDate, endDate).stream()
+                            .collect(
+                                    Collectors.groupingBy(ds -> ds.getEmployee().getId()));
+            Map<UUID, List<ScheduleException>> exceptions =
+                    scheduleExceptionRepository.findInDateRange(startDate, endDate).stream()
+                            .collect(
+                                    Collectors.groupingBy(se -> se.getEmployee().getId()));
+
+            Map<UUID, EmployeeCalendar> employees = new ConcurrentHashMap<>();
+            schedules.forEach((employeeId, employeeSchedules) -> employees.put(
+                    employeeId,
+                    buildCalendar(
+                            employeeSchedules, exceptions.getOrDefault(employeeId, List.of()), startDate, endDate)));
+
+            window = new CalendarWindow(startDate, endDate, employees);
+            durations.clear();
+            log.debug("Slot calendar refreshed for {} doctors from {} to {}", employees.size(), startDate, endDate);
+        } catch (RuntimeException e) {
+            log.warn("Slot calendar refresh failed, serving schedules from the database: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void apply(ScheduleChangedEvent event) {
+        CalendarWindow current = window;
+        if (current == null) {
+            return;
+        }
+
+        UUID previousOwner = event.scheduleId() == null
+                ? null
+                : current.employees().entrySet().stream()
+                        .filter(entry -> entry.getValue().scheduleIds().contains(event.scheduleId()))
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .orElse(null);
+
+        reload(current, event.employeeId());
+        if (previousOwner != null && !previousOwner.equals(event.employeeId())) {
+            reload(current, previousOwner);
+        }
+    }
+
+    @Override
+    public void apply(ServiceDurationChangedEvent event) {
+        durations.remove(event.serviceId());
+    }
+
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        apply(event);
+    }
+
+    @TransactionalEventListener
+    public void onServiceDurationChanged(ServiceDurationChangedEvent event) {
+        apply(event);
+    }
+
+    private void reload(CalendarWindow current, UUID employeeId) {
+        List<UUID> employeeIds = List.of(employeeId);
+        List<DoctorSchedule> schedules = doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(
+                employeeIds, current.startDate(), current.endDate());
+        if (schedules.isEmpty()) {
+            current.employees().remove(employeeId);
+            return;
+        }
+        List<ScheduleException> exceptions = scheduleExceptionRepository.findByEmployeeIdsInDateRange(
+                employeeIds, current.startDate(), current.endDate());
+        current.employees()
+                .put(employeeId, buildCalendar(schedules, exceptions, current.startDate(), current.endDate()));
+    }
+
+    private static EmployeeCalendar buildCalendar(
+            List<DoctorSchedule> schedules,
+            List<ScheduleException> exceptions,
+            LocalDate startDate,
+            LocalDate endDate) {
+        Map<LocalDate, List<DoctorSchedule>> days = new HashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (SlotGrid.isOnLeave(exceptions, date)) {
+                continue;
+            }
+            List<DoctorSchedule> daySchedules = sortedByStart(SlotGrid.schedulesOn(schedules, date));
+            if (!daySchedules.isEmpty()) {
+                days.put(date, daySchedules);
+            }
+        }
+        return new EmployeeCalendar(
+                days,
+                schedules.stream().map(DoctorSchedule::getId).collect(Collectors.toSet()),
+                new ConcurrentHashMap<>());
+    }
+
+    private static List<SlotResponse> buildGrid(
+            UUID employeeId, LocalDate date, List<DoctorSchedule> schedules, int durationMin) {
+        return SlotGrid.buildSlots(employeeId, date, schedules, durationMin, new DayOccupancy(), LocalDateTime.MIN);
+    }
+
+    private static List<DoctorSchedule> sortedByStart(List<DoctorSchedule> schedules) {
+        return schedules.stream()
+                .sorted(Comparator.comparing(DoctorSchedule::getStartTime))
+                .toList();
+    }
+
+    private record CalendarWindow(LocalDate startDate, LocalDate endDate, Map<UUID, EmployeeCalendar> employees) {
+
+        boolean covers(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+
+    private record EmployeeCalendar(
+            Map<LocalDate, List<DoctorSchedule>> days, Set<UUID> scheduleIds, Map<GridKey, List<SlotResponse>> grids) {}
+
+    private record GridKey(LocalDate date, int durationMin) {}
+}
@@ -0,0 +1,245 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.event.AppointmentChangedEvent.ChangeType;
+import by.bsuir.mis.mapper.EmployeeMapper;
+import by.bsuir.mis.model.AppointmentColumns;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ServiceStatistics;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.ServiceRepository;
+import by.bsuir.mis.repository.projection.AppointmentFact;
+import by.bsuir.mis.service.ColumnarStatisticsService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ColumnarStatisticsServiceImpl implements ColumnarStatisticsService {
+
+    private static final AppointmentStatus[] STATUSES = AppointmentStatus.values();
+    private static final AppointmentSource[] SOURCES = AppointmentSource.values();
+
+    private final AppointmentRepository appointmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ServiceRepository serviceRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${statistics.max-points:120}")
+    private int maxPoints = 120;
+
+    private volatile AppointmentColumns columns = new AppointmentColumns();
+
+    // Events that commit while the store is being reloaded are journaled and replayed before the swap.
+    private final Object swapLock = new Object();
+    private final Set<List<AppointmentChangedEvent>> journals = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Override
+    public Map<LocalDate, Long> countByDate(LocalDate dateFrom, LocalDate dateTo) {
+        Map<LocalDate, Long> byDate = new LinkedHashMap<>();
+        if (dateFrom.isAfter(dateTo)) {
+            return byDate;
+        }
+        long[] counts = columns.countByDay(dateFrom, dateTo);
+        for (int day = 0; day < counts.length; day++) {
+            byDate.put(dateFrom.plusDays(day), counts[day]);
+        }
+        return byDate;
+    }
+
+    @Override
+    public BucketedCounts countByPeriod(LocalDate dateFrom, LocalDate dateTo, Granularity granularity) {
+        Granularity effective = granularity != null ? granularity : Granularity.DAY;
+        while (effective != Granularity.QUARTER && effective.buckets(dateFrom, dateTo) > maxPoints) {
+            effective = effective.coarser();
+        }
+        if (effective == Granularity.DAY) {
+            return new BucketedCounts(effective, countByDate(dateFrom, dateTo));
+        }
+
+        Map<LocalDate, Long> byPeriod = new LinkedHashMap<>();
+        if (dateFrom.isAfter(dateTo)) {
+            return new BucketedCounts(effective, byPeriod);
+        }
+        for (LocalDate bucket = effective.start(dateFrom); !bucket.isAfter(dateTo); bucket = effective.next(bucket)) {
+            byPeriod.put(bucket, 0L);
+        }
+        long[] counts = columns.countByDay(dateFrom, dateTo);
+        for (int day = 0; day < counts.length; day++) {
+            byPeriod.merge(effective.start(dateFrom.plusDays(day)), counts[day], Long::sum);
+        }
+        return new BucketedCounts(effective, byPeriod);
+    }
+
+    @Override
+    public Map<AppointmentStatus, Long> countByStatus(LocalDate dateFrom, LocalDate dateTo) {
+        return toEnumMap(columns.countByStatus(dateFrom, dateTo), STATUSES, AppointmentStatus.class);
+    }
+
+    @Override
+    public Map<AppointmentSource, Long> countBySource(LocalDate dateFrom, LocalDate dateTo) {
+        return toEnumMap(columns.countBySource(dateFrom, dateTo), SOURCES, AppointmentSource.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeStatistics> countByEmployee(LocalDate dateFrom, LocalDate dateTo) {
+        Map<UUID, long[]> counts = columns.countByEmployeeAndStatus(dateFrom, dateTo);
+        Map<UUID, Employee> employees = employeeRepository.findAllById(counts.keySet()).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        return counts.entrySet().stream()
+                .filter(entry -> employees.containsKey(entry.getKey()))
+                .map(entry -> {
+                    Employee employee = employees.get(entry.getKey());
+                    Map<AppointmentStatus, Long> byStatus =
+                            toEnumMap(entry.getValue(), STATUSES, AppointmentStatus.class);
+                    long total = byStatus.values().stream()
+                            .mapToLong(Long::longValue)
+                            .sum();
+                    return new EmployeeStatistics(
+                            entry.getKey(),
+                            EmployeeMapper.getFullName(employee),
+                            employee.getSpecialty() != null
+                                    ? employee.getSpecialty().getName()
+                                    : null,
+                            total,
+                            byStatus);
+                })
+                .sorted(Comparator.comparingLong(EmployeeStatistics::total).reversed())
+                .toList();
+    }
+
+    @Override
+    public List<ServiceStatistics> countByService(LocalDate dateFrom, LocalDate dateTo) {
+        Map<UUID, long[]> counts = columns.countByServiceAndPaid(dateFrom, dateTo);
+        Map<UUID, String> names = serviceRepository.findAllById(counts.keySet()).stream()
+                .collect(Collectors.toMap(by.bsuir.mis.entity.Service::getId, by.bsuir.mis.entity.Service::getName));
+
+        return counts.entrySet().stream()
+                .filter(entry -> names.containsKey(entry.getKey()))
+                .map(entry -> new ServiceStatistics(
+                        entry.getKey(), names.get(entry.getKey()), entry.getValue()[0], entry.getValue()[1]))
+                .sorted(Comparator.comparingLong(ServiceStatistics::total).reversed())
+                .toList();
+    }
+
+    @Override
+    @Scheduled(cron = "${statistics.columnar.reload-cron:0 15 3 * * *}")
+    public int reload() {
+        List<AppointmentChangedEvent> journal = new ArrayList<>();
+        synchronized (swapLock) {
+            journals.add(journal);
+        }
+
+        AppointmentColumns loaded = new AppointmentColumns();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        try {
+            template.executeWithoutResult(status -> {
+                try (Stream<AppointmentFact> facts = appointmentRepository.streamFacts()) {
+                    facts.forEach(fact -> loaded.upsert(
+                            fact.getId(),
+                            fact.getAppointmentDate(),
+                            fact.getStatus(),
+                            fact.getSource(),
+                            fact.getEmployeeId(),
+                            fact.getServiceId(),
+                            fact.getPatientId(),
+                            Boolean.TRUE.equals(fact.getIsPaid())));
+                }
+            });
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                journals.remove(journal);
+            }
+            throw e;
+        }
+
+        synchronized (swapLock) {
+            journals.remove(journal);
+            journal.forEach(event -> apply(loaded, event));
+            columns = loaded;
+        }
+        log.debug("Columnar statistics store holds {} appointments", loaded.size());
+        return loaded.size();
+    }
+
+    @Override
+    public int size() {
+        return columns.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Columnar statistics store could not be loaded: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        synchronized (swapLock) {
+            journals.forEach(journal -> journal.add(event));
+            apply(columns, event);
+        }
+    }
+
+    private static void apply(AppointmentColumns columns, AppointmentChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            columns.remove(event.appointmentId());
+        } else {
+            columns.upsert(
+                    event.appointmentId(),
+                    event.appointmentDate(),
+                    event.status(),
+                    event.source(),
+                    event.employeeId(),
+                    event.serviceId(),
+                    event.patientId(),
+                    Boolean.TRUE.equals(event.isPaid()));
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> toEnumMap(long[] counts, E[] values, Class<E> type) {
+        Map<E, Long> result = new EnumMap<>(type);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                result.put(values[i], counts[i]);
+            }
+        }
+        return result;
+    }
+}
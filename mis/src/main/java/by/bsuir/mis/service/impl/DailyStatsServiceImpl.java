@@ -0,0 +1,63 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.AppointmentDailyStatsId;
+import by.bsuir.mis.repository.AppointmentDailyStatsRepository;
+import by.bsuir.mis.service.DailyStatsService;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class DailyStatsServiceImpl implements DailyStatsService {
+
+    private final AppointmentDailyStatsRepository dailyStatsRepository;
+
+    @Override
+    public void increment(AppointmentDailyStatsId key) {
+        adjust(key, 1);
+    }
+
+    @Override
+    public void decrement(AppointmentDailyStatsId key) {
+        adjust(key, -1);
+    }
+
+    @Override
+    public void move(AppointmentDailyStatsId from, AppointmentDailyStatsId to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        adjust(from, -1);
+        adjust(to, 1);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        dailyStatsRepository.lockAppointments();
+        dailyStatsRepository.deleteAllRows();
+        int rows = dailyStatsRepository.insertFromAppointments();
+        log.info("Rebuilt appointment daily stats: {} rows", rows);
+        return rows;
+    }
+
+    private void adjust(AppointmentDailyStatsId key, long delta) {
+        if (key == null || key.getEmployeeId() == null || key.getServiceId() == null) {
+            return;
+        }
+        dailyStatsRepository.adjust(
+                key.getStatDate(),
+                key.getEmployeeId(),
+                key.getServiceId(),
+                key.getStatus().name(),
+                key.getSource().name(),
+                key.getIsPaid(),
+                delta);
+    }
+}
@@ -0,0 +1,170 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.DashboardCounters;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.PatientRepository;
+import by.bsuir.mis.service.DashboardService;
+import by.bsuir.mis.service.StatisticsService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+
+    private final PatientRepository patientRepository;
+    private final EmployeeRepository employeeRepository;
+    private final StatisticsService statisticsService;
+
+    // Deltas that commit while reconcile() is querying are journaled and replayed onto the fresh counters.
+    private final Object publishLock = new Object();
+    private final Set<List<Consumer<Counters>>> journals = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private volatile Counters counters;
+
+    @Override
+    public DashboardCounters getCounters() {
+        Counters current = counters;
+        if (current == null || !current.date().equals(LocalDate.now())) {
+            reconcile();
+            current = counters;
+        }
+
+        Map<AppointmentStatus, Long> byStatus = new EnumMap<>(AppointmentStatus.class);
+        current.byStatus().forEach((status, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                byStatus.put(status, value);
+            }
+        });
+        return new DashboardCounters(
+                current.totalPatients().sum(),
+                current.totalEmployees().sum(),
+                current.activeEmployees().sum(),
+                byStatus);
+    }
+
+    @Override
+    public void patientsChanged(long delta) {
+        afterCommit(() -> apply(current -> current.totalPatients().add(delta)));
+    }
+
+    @Override
+    public void employeesChanged(long totalDelta, long activeDelta) {
+        afterCommit(() -> apply(current -> {
+            current.totalEmployees().add(totalDelta);
+            current.activeEmployees().add(activeDelta);
+        }));
+    }
+
+    @Override
+    public void appointmentsChanged(LocalDate date, AppointmentStatus status, long delta) {
+        afterCommit(() -> apply(current -> {
+            if (current.date().equals(date)) {
+                current.byStatus().get(status).add(delta);
+            }
+        }));
+    }
+
+    @Override
+    @Scheduled(
+            fixedDelayString = "${dashboard.reconcile-ms:300000}",
+            initialDelayString = "${dashboard.reconcile-ms:300000}")
+    public synchronized void reconcile() {
+        List<Consumer<Counters>> journal = new ArrayList<>();
+        synchronized (publishLock) {
+            journals.add(journal);
+        }
+
+        Counters reloaded;
+        try {
+            LocalDate date = LocalDate.now();
+            reloaded = new Counters(
+                    date,
+                    adder(patientRepository.count()),
+                    adder(employeeRepository.count()),
+                    adder(employeeRepository.countByIsActive(true)),
+                    new EnumMap<>(AppointmentStatus.class));
+            for (AppointmentStatus status : AppointmentStatus.values()) {
+                reloaded.byStatus().put(status, new LongAdder());
+            }
+            statisticsService
+                    .countByStatus(date, date)
+                    .forEach((status, count) -> reloaded.byStatus().get(status).add(count));
+        } catch (RuntimeException e) {
+            synchronized (publishLock) {
+                journals.remove(journal);
+            }
+            throw e;
+        }
+
+        synchronized (publishLock) {
+            journals.remove(journal);
+            journal.forEach(delta -> delta.accept(reloaded));
+            counters = reloaded;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Dashboard counters could not be seeded: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Consumer<Counters> delta) {
+        synchronized (publishLock) {
+            journals.forEach(journal -> journal.add(delta));
+            Counters current = counters;
+            if (current != null) {
+                delta.accept(current);
+            }
+        }
+    }
+
+    private static LongAdder adder(long value) {
+        LongAdder adder = new LongAdder();
+        adder.add(value);
+        return adder;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Counters(
+            LocalDate date,
+            LongAdder totalPatients,
+            LongAdder totalEmployees,
+            LongAdder activeEmployees,
+            Map<AppointmentStatus, LongAdder> byStatus) {}
+}
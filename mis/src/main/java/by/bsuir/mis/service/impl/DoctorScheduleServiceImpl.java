@@ -1,6 +1,7 @@
 package by.bsuir.mis.service.impl;
 
 import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.event.ScheduleChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.DoctorScheduleRepository;
 import by.bsuir.mis.service.DoctorScheduleService;
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,11 +20,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class DoctorScheduleServiceImpl implements DoctorScheduleService {
 
     private final DoctorScheduleRepository doctorScheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public DoctorSchedule save(DoctorSchedule schedule) {
-        return doctorScheduleRepository.save(schedule);
+        DoctorSchedule saved = doctorScheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(saved.getEmployee().getId(), saved.getId()));
+        return saved;
     }
 
     @Override
@@ -56,15 +61,19 @@ public class DoctorScheduleServiceImpl implements DoctorScheduleService {
         if (!doctorScheduleRepository.existsById(schedule.getId())) {
             throw new ResourceNotFoundException("DoctorSchedule", "id", schedule.getId());
         }
-        return doctorScheduleRepository.save(schedule);
+        DoctorSchedule saved = doctorScheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(saved.getEmployee().getId(), saved.getId()));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteById(UUID id) {
-        if (!doctorScheduleRepository.existsById(id)) {
-            throw new ResourceNotFoundException("DoctorSchedule", "id", id);
-        }
-        doctorScheduleRepository.deleteById(id);
+        DoctorSchedule schedule = doctorScheduleRepository
+                .findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("DoctorSchedule", "id", id));
+        doctorScheduleRepository.delete(schedule);
+        eventPublisher.publishEvent(
+                new ScheduleChangedEvent(schedule.getEmployee().getId(), schedule.getId()));
     }
 }
@@ -1,13 +1,18 @@
 package by.bsuir.mis.service.impl;
 
+import by.bsuir.mis.entity.AppointmentDailyStatsId;
 import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.event.AppointmentChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.*;
+import by.bsuir.mis.service.DailyStatsService;
+import by.bsuir.mis.service.DashboardService;
 import by.bsuir.mis.service.EmployeeService;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +27,19 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final ScheduleExceptionRepository scheduleExceptionRepository;
     private final AppointmentRepository appointmentRepository;
     private final AppointmentStatusHistoryRepository appointmentStatusHistoryRepository;
+    private final DailyStatsService dailyStatsService;
+    private final DashboardService dashboardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public Employee save(Employee employee) {
-        return employeeRepository.save(employee);
+        if (employee.getId() == null) {
+            dashboardService.employeesChanged(1, activeCount(employee.getIsActive()));
+        }
+        Employee saved = employeeRepository.save(employee);
+        saved.markActiveRecorded();
+        return saved;
     }
 
     @Override
@@ -60,21 +73,36 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (!employeeRepository.existsById(employee.getId())) {
             throw new ResourceNotFoundException("Employee", "id", employee.getId());
         }
-        return employeeRepository.save(employee);
+        Boolean recorded = employee.getRecordedActive() != null
+                ? employee.getRecordedActive()
+                : employeeRepository.findIsActiveById(employee.getId()).orElse(null);
+        long activeDelta = activeCount(employee.getIsActive()) - activeCount(recorded);
+        if (activeDelta != 0) {
+            dashboardService.employeesChanged(0, activeDelta);
+        }
+        Employee updated = employeeRepository.save(employee);
+        updated.markActiveRecorded();
+        return updated;
     }
 
     @Override
     @Transactional
     public void deleteById(UUID id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Employee", "id", id);
-        }
+        Boolean active = employeeRepository
+                .findIsActiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
 
         appointmentRepository.findByEmployee_Id(id).forEach(appointment -> {
             appointmentStatusHistoryRepository
                     .findByAppointment_Id(appointment.getId())
                     .forEach(history -> appointmentStatusHistoryRepository.deleteById(history.getId()));
+            AppointmentDailyStatsId recorded = appointment.getRecordedStatsKey();
+            dailyStatsService.decrement(recorded);
+            if (recorded != null) {
+                dashboardService.appointmentsChanged(recorded.getStatDate(), recorded.getStatus(), -1);
+            }
             appointmentRepository.deleteById(appointment.getId());
+            eventPublisher.publishEvent(AppointmentChangedEvent.deleted(appointment.getId()));
         });
 
         doctorServiceRepository.findByEmployee_Id(id).forEach(ds -> doctorServiceRepository.deleteById(ds.getId()));
@@ -88,6 +116,7 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .forEach(exception -> scheduleExceptionRepository.deleteById(exception.getId()));
 
         employeeRepository.deleteById(id);
+        dashboardService.employeesChanged(-1, -activeCount(active));
     }
 
     @Override
@@ -95,6 +124,9 @@ public class EmployeeServiceImpl implements EmployeeService {
     public void deactivate(UUID id) {
         Employee employee =
                 employeeRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        if (Boolean.TRUE.equals(employee.getIsActive())) {
+            dashboardService.employeesChanged(0, -1);
+        }
         employee.setIsActive(false);
         employeeRepository.save(employee);
     }
@@ -104,7 +136,14 @@ public class EmployeeServiceImpl implements EmployeeService {
     public void activate(UUID id) {
         Employee employee =
                 employeeRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        if (!Boolean.TRUE.equals(employee.getIsActive())) {
+            dashboardService.employeesChanged(0, 1);
+        }
         employee.setIsActive(true);
         employeeRepository.save(employee);
     }
+
+    private static long activeCount(Boolean isActive) {
+        return Boolean.TRUE.equals(isActive) ? 1 : 0;
+    }
 }
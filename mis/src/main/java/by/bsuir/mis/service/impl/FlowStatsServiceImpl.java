@@ -0,0 +1,197 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.AppointmentFlowStats;
+import by.bsuir.mis.entity.AppointmentFlowStatsId;
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.enums.FlowMetric;
+import by.bsuir.mis.mapper.EmployeeMapper;
+import by.bsuir.mis.model.EmployeeFlowStatistics;
+import by.bsuir.mis.model.FlowSummary;
+import by.bsuir.mis.model.LogHistogram;
+import by.bsuir.mis.repository.AppointmentFlowStatsRepository;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.projection.FlowSample;
+import by.bsuir.mis.service.FlowStatsService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlowStatsServiceImpl implements FlowStatsService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentFlowStatsRepository flowStatsRepository;
+    private final EmployeeRepository employeeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public Map<FlowMetric, FlowSummary> getSummary(
+            LocalDate dateFrom, LocalDate dateTo, UUID employeeId, UUID serviceId) {
+        Map<FlowMetric, LogHistogram> merged = new EnumMap<>(FlowMetric.class);
+        flowStatsRepository
+                .findInDateRange(dateFrom, dateTo, employeeId, serviceId)
+                .forEach(row -> merge(merged, row));
+        return summarize(merged);
+    }
+
+    @Override
+    public List<EmployeeFlowStatistics> getSummaryByEmployee(LocalDate dateFrom, LocalDate dateTo) {
+        Map<UUID, Map<FlowMetric, LogHistogram>> byEmployee = new HashMap<>();
+        flowStatsRepository
+                .findInDateRange(dateFrom, dateTo, null, null)
+                .forEach(row -> merge(
+                        byEmployee.computeIfAbsent(row.getId().getEmployeeId(), k -> new EnumMap<>(FlowMetric.class)),
+                        row));
+
+        Map<UUID, Employee> employees = employeeRepository.findAllById(byEmployee.keySet()).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        return byEmployee.entrySet().stream()
+                .filter(entry -> employees.containsKey(entry.getKey()))
+                .map(entry -> new EmployeeFlowStatistics(
+                        entry.getKey(),
+                        EmployeeMapper.getFullName(employees.get(entry.getKey())),
+                        summarize(entry.getValue())))
+                .sorted(Comparator.comparing(EmployeeFlowStatistics::fullName))
+                .toList();
+    }
+
+    @Override
+    public int rollup(LocalDate dateFrom, LocalDate dateTo) {
+        int rows = 0;
+        LocalDate chunkStart = dateFrom;
+        while (!chunkStart.isAfter(dateTo)) {
+            LocalDate monthEnd = chunkStart.with(TemporalAdjusters.lastDayOfMonth());
+            LocalDate chunkEnd = monthEnd.isBefore(dateTo) ? monthEnd : dateTo;
+            rows += rollupMonth(chunkStart, chunkEnd);
+            chunkStart = chunkEnd.plusDays(1);
+        }
+        return rows;
+    }
+
+    @Override
+    public int rebuild() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        return appointmentRepository
+                .findEarliestAppointmentDate()
+                .filter(earliest -> !earliest.isAfter(yesterday))
+                .map(earliest -> rollup(earliest, yesterday))
+                .orElse(0);
+    }
+
+    @Scheduled(cron = "${flow.rollup-cron:0 45 2 * * *}")
+    public void rollupYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        int rows = rollup(yesterday, yesterday);
+        log.debug("Flow statistics for {} rolled up into {} histograms", yesterday, rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            if (flowStatsRepository.count() == 0) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Flow statistics could not be seeded: {}", e.getMessage());
+        }
+    }
+
+    // One transaction per month; samples arrive ordered by date, so each day is saved once it is complete.
+    private int rollupMonth(LocalDate dateFrom, LocalDate dateTo) {
+        Integer rows = new TransactionTemplate(transactionManager).execute(status -> {
+            flowStatsRepository.deleteInDateRange(dateFrom, dateTo);
+
+            Map<AppointmentFlowStatsId, LogHistogram> histograms = new HashMap<>();
+            int saved = 0;
+            LocalDate day = null;
+            try (Stream<FlowSample> samples = appointmentRepository.streamFlowSamples(dateFrom, dateTo)) {
+                Iterator<FlowSample> iterator = samples.iterator();
+                while (iterator.hasNext()) {
+                    FlowSample sample = iterator.next();
+                    if (!sample.getAppointmentDate().equals(day)) {
+                        saved += save(histograms);
+                        day = sample.getAppointmentDate();
+                    }
+                    record(histograms, sample);
+                }
+            }
+            return saved + save(histograms);
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private int save(Map<AppointmentFlowStatsId, LogHistogram> histograms) {
+        if (histograms.isEmpty()) {
+            return 0;
+        }
+        List<AppointmentFlowStats> stats = new ArrayList<>(histograms.size());
+        histograms.forEach((id, histogram) -> stats.add(AppointmentFlowStats.builder()
+                .id(id)
+                .sampleCount(histogram.count())
+                .histogram(histogram.toBytes())
+                .build()));
+        flowStatsRepository.saveAll(stats);
+        histograms.clear();
+        return stats.size();
+    }
+
+    private static void record(Map<AppointmentFlowStatsId, LogHistogram> histograms, FlowSample sample) {
+        if (sample.getEmployeeId() == null || sample.getServiceId() == null) {
+            return;
+        }
+        record(histograms, sample, FlowMetric.LEAD_TIME, sample.getCreatedAt(), sample.getStartTime());
+        record(histograms, sample, FlowMetric.START_DELAY, sample.getStartTime(), sample.getStartedAt());
+        record(histograms, sample, FlowMetric.VISIT_DURATION, sample.getStartedAt(), sample.getCompletedAt());
+    }
+
+    private static void record(
+            Map<AppointmentFlowStatsId, LogHistogram> histograms,
+            FlowSample sample,
+            FlowMetric metric,
+            LocalDateTime from,
+            LocalDateTime to) {
+        if (from == null || to == null) {
+            return;
+        }
+        AppointmentFlowStatsId id = new AppointmentFlowStatsId(
+                sample.getAppointmentDate(), sample.getEmployeeId(), sample.getServiceId(), metric);
+        histograms
+                .computeIfAbsent(id, k -> new LogHistogram())
+                .record(Duration.between(from, to).toMinutes());
+    }
+
+    private static void merge(Map<FlowMetric, LogHistogram> merged, AppointmentFlowStats row) {
+        merged.computeIfAbsent(row.getId().getMetric(), k -> new LogHistogram())
+                .merge(LogHistogram.fromBytes(row.getHistogram()));
+    }
+
+    private static Map<FlowMetric, FlowSummary> summarize(Map<FlowMetric, LogHistogram> histograms) {
+        Map<FlowMetric, FlowSummary> summary = new EnumMap<>(FlowMetric.class);
+        histograms.forEach((metric, histogram) -> summary.put(metric, FlowSummary.of(histogram)));
+        return summary;
+    }
+}
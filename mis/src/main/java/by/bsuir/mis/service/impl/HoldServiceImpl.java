@@ -0,0 +1,144 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceAlreadyExistsException;
+import by.bsuir.mis.exception.ResourceNotFoundException;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.HashedTimingWheel;
+import by.bsuir.mis.model.SlotHold;
+import by.bsuir.mis.model.StripedLocks;
+import by.bsuir.mis.repository.DoctorServiceRepository;
+import by.bsuir.mis.service.BookingService;
+import by.bsuir.mis.service.CalendarService;
+import by.bsuir.mis.service.HoldService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HoldServiceImpl implements HoldService {
+
+    private final OccupancyService occupancyService;
+    private final BookingService bookingService;
+    private final CalendarService calendarService;
+    private final DoctorServiceRepository doctorServiceRepository;
+
+    private final Map<UUID, SlotHold> holds = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> holdsByUser = new ConcurrentHashMap<>();
+    private final StripedLocks userLocks = new StripedLocks(64);
+    private final HashedTimingWheel<UUID> wheel = new HashedTimingWheel<>(1000, 512, System.currentTimeMillis());
+
+    @Value("${holds.ttl-minutes:5}")
+    private long ttlMinutes = 5;
+
+    @Override
+    public SlotHold hold(
+            UUID employeeId,
+            UUID serviceId,
+            LocalDate date,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            UUID userId) {
+        boolean provided = doctorServiceRepository
+                .findByEmployee_IdAndService_Id(employeeId, serviceId)
+                .map(ds -> Boolean.TRUE.equals(ds.getIsActive()))
+                .orElse(false);
+        if (!provided) {
+            throw new BadRequestException("Doctor does not provide this service");
+        }
+        if (!startTime.toLocalDate().equals(date) || !startTime.isAfter(LocalDateTime.now())) {
+            throw new BadRequestException("Slot must start in the future on " + date);
+        }
+        int durationMin = calendarService.getDurationMin(serviceId, date);
+        if (Duration.between(startTime, endTime).toMinutes() != durationMin) {
+            throw new BadRequestException("Slot length must be " + durationMin + " minutes for this service");
+        }
+        boolean onGrid = calendarService.getSlotGrid(employeeId, date, durationMin).stream()
+                .anyMatch(slot -> slot.startTime().equals(startTime.toLocalTime())
+                        && slot.endTime().equals(endTime.toLocalTime()));
+        if (!onGrid) {
+            throw new BadRequestException("Selected time is not a slot in the doctor's schedule");
+        }
+
+        // One hold per user: replacing it must not race with another request from the same user.
+        Lock lock = userLocks.get(userId);
+        lock.lock();
+        try {
+            UUID previous = holdsByUser.get(userId);
+            if (previous != null) {
+                release(previous);
+            }
+
+            SlotHold hold = new SlotHold(
+                    UUID.randomUUID(),
+                    employeeId,
+                    serviceId,
+                    date,
+                    startTime,
+                    endTime,
+                    userId,
+                    LocalDateTime.now().plusMinutes(ttlMinutes));
+
+            DayOccupancy day = occupancyService.getDay(employeeId, date);
+            if (!day.tryOccupy(
+                    hold.id(), DayOccupancy.minuteOf(date, startTime), DayOccupancy.minuteOf(date, endTime))) {
+                throw new ResourceAlreadyExistsException("Selected time slot is no longer available");
+            }
+
+            holds.put(hold.id(), hold);
+            holdsByUser.put(userId, hold.id());
+            wheel.schedule(hold.id(), System.currentTimeMillis() + ttlMinutes * 60_000);
+            return hold;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<SlotHold> findActive(UUID holdId) {
+        return Optional.ofNullable(holds.get(holdId));
+    }
+
+    @Override
+    public void release(UUID holdId) {
+        SlotHold hold = holds.remove(holdId);
+        if (hold == null) {
+            return;
+        }
+        wheel.cancel(holdId);
+        holdsByUser.remove(hold.userId(), holdId);
+        occupancyService.getDay(hold.employeeId(), hold.date()).release(holdId);
+    }
+
+    @Override
+    public Appointment confirm(UUID holdId, Appointment appointment) {
+        if (!holds.containsKey(holdId)) {
+            throw new ResourceNotFoundException("SlotHold", "id", holdId);
+        }
+        Appointment saved = bookingService.confirmHold(appointment, holdId);
+        release(holdId);
+        return saved;
+    }
+
+    @Scheduled(fixedDelayString = "${holds.tick-ms:1000}")
+    public void expireHolds() {
+        for (UUID holdId : wheel.advance(System.currentTimeMillis())) {
+            release(holdId);
+            log.debug("Slot hold {} expired", holdId);
+        }
+    }
+}
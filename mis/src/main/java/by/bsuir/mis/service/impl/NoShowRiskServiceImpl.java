@@ -0,0 +1,152 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.PatientRiskScore;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.PatientRiskScoreRepository;
+import by.bsuir.mis.repository.projection.NoShowSample;
+import by.bsuir.mis.service.NoShowRiskService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoShowRiskServiceImpl implements NoShowRiskService {
+
+    static final int SCALE = 1000;
+
+    private final AppointmentRepository appointmentRepository;
+    private final PatientRiskScoreRepository patientRiskScoreRepository;
+
+    @Value("${risk.half-life-days:180}")
+    private int halfLifeDays = 180;
+
+    @Value("${risk.prior-weight:3}")
+    private double priorWeight = 3;
+
+    @Value("${risk.late-cancel-hours:24}")
+    private int lateCancelHours = 24;
+
+    private volatile Map<UUID, Short> scores = Map.of();
+
+    @Override
+    public Integer getRiskPercent(UUID patientId) {
+        Short score = patientId != null ? scores.get(patientId) : null;
+        return score != null ? Math.round(score * 100f / SCALE) : null;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${risk.recompute-cron:0 30 2 * * *}")
+    public int recompute() {
+        LocalDate today = LocalDate.now();
+        List<Totals> totals = new ArrayList<>();
+        Totals global = new Totals(null);
+
+        try (Stream<NoShowSample> samples = appointmentRepository.streamNoShowSamples(today)) {
+            Totals current = null;
+            for (NoShowSample sample : (Iterable<NoShowSample>) samples::iterator) {
+                if (current == null || !current.patientId.equals(sample.getPatientId())) {
+                    current = new Totals(sample.getPatientId());
+                    totals.add(current);
+                }
+                double weight = Math.pow(
+                        0.5, (double) ChronoUnit.DAYS.between(sample.getAppointmentDate(), today) / halfLifeDays);
+                double event = event(sample);
+                current.add(weight, event, sample.getStatus() == AppointmentStatus.NO_SHOW);
+                global.add(weight, event, false);
+            }
+        }
+
+        double prior = global.weight > 0 ? global.events / global.weight : 0;
+        LocalDateTime computedAt = LocalDateTime.now();
+        Map<UUID, Short> computed = new HashMap<>(totals.size() * 4 / 3 + 1);
+        List<PatientRiskScore> rows = new ArrayList<>(totals.size());
+        for (Totals patient : totals) {
+            short score = score(patient.events, patient.weight, prior, priorWeight);
+            computed.put(patient.patientId, score);
+            rows.add(PatientRiskScore.builder()
+                    .patientId(patient.patientId)
+                    .score(score)
+                    .sampleCount(patient.samples)
+                    .noShowCount(patient.noShows)
+                    .computedAt(computedAt)
+                    .build());
+        }
+
+        patientRiskScoreRepository.deleteAllInBatch();
+        patientRiskScoreRepository.saveAll(rows);
+        scores = computed;
+        log.debug("No-show risk recomputed for {} patients, base rate {}", rows.size(), prior);
+        return rows.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Map<UUID, Short> loaded = new HashMap<>();
+            patientRiskScoreRepository.findAll().forEach(row -> loaded.put(row.getPatientId(), row.getScore()));
+            scores = loaded;
+        } catch (RuntimeException e) {
+            log.warn("No-show risk scores could not be loaded: {}", e.getMessage());
+        }
+    }
+
+    private double event(NoShowSample sample) {
+        return switch (sample.getStatus()) {
+            case NO_SHOW -> 1;
+            case CANCELLED ->
+                sample.getCancelledAt() != null
+                                && Duration.between(sample.getCancelledAt(), sample.getStartTime())
+                                                .toHours()
+                                        < lateCancelHours
+                        ? 0.5
+                        : 0;
+            default -> 0;
+        };
+    }
+
+    static short score(double events, double weight, double prior, double priorWeight) {
+        double risk = (events + prior * priorWeight) / (weight + priorWeight);
+        return (short) Math.round(Math.min(1, Math.max(0, risk)) * SCALE);
+    }
+
+    private static final class Totals {
+
+        private final UUID patientId;
+        private double weight;
+        private double events;
+        private int samples;
+        private int noShows;
+
+        private Totals(UUID patientId) {
+            this.patientId = patientId;
+        }
+
+        private void add(double weight, double event, boolean noShow) {
+            this.weight += weight;
+            this.events += event * weight;
+            this.samples++;
+            if (noShow) {
+                this.noShows++;
+            }
+        }
+    }
+}
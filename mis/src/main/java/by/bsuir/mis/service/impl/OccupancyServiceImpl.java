@@ -0,0 +1,233 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OccupancyServiceImpl implements OccupancyService {
+
+    private final AppointmentRepository appointmentRepository;
+
+    private final Map<DayKey, CachedDay> days = new ConcurrentHashMap<>();
+    private final Map<UUID, DayKey> locations = new ConcurrentHashMap<>();
+
+    // Events that commit while a day is being read are journaled and replayed before the day is published.
+    private final Object publishLock = new Object();
+    private final Set<List<AppointmentChangedEvent>> journals = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Value("${occupancy.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    @Override
+    public DayOccupancy getDay(UUID employeeId, LocalDate date) {
+        DayKey key = new DayKey(employeeId, date);
+        CachedDay cached = days.get(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached.occupancy();
+        }
+        return refresh(employeeId, date);
+    }
+
+    @Override
+    public DayOccupancy refresh(UUID employeeId, LocalDate date) {
+        DayKey key = new DayKey(employeeId, date);
+        return load(List.of(key), () -> appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .get(key);
+    }
+
+    @Override
+    public void preload(Collection<UUID> employeeIds, LocalDate startDate, LocalDate endDate) {
+        List<DayKey> missing = new ArrayList<>();
+        for (UUID employeeId : employeeIds) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                DayKey key = new DayKey(employeeId, date);
+                CachedDay cached = days.get(key);
+                if (cached == null || isExpired(cached)) {
+                    missing.add(key);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        load(missing, () -> appointmentRepository.findActiveByEmployeeIdsAndDateRange(employeeIds, startDate, endDate));
+        log.debug("Preloaded {} employee days into occupancy index", missing.size());
+    }
+
+    @Override
+    public boolean isFree(UUID employeeId, LocalDate date, LocalDateTime startTime, LocalDateTime endTime) {
+        return isFree(employeeId, date, startTime, endTime, null);
+    }
+
+    @Override
+    public boolean isFree(
+            UUID employeeId,
+            LocalDate date,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            UUID ignoredAppointmentId) {
+        return getDay(employeeId, date)
+                .isFreeExcept(
+                        DayOccupancy.minuteOf(date, startTime),
+                        DayOccupancy.minuteOf(date, endTime),
+                        ignoredAppointmentId);
+    }
+
+    @Override
+    public void apply(AppointmentChangedEvent event) {
+        synchronized (publishLock) {
+            journals.forEach(journal -> journal.add(event));
+            apply(
+                    event,
+                    key -> {
+                        CachedDay cached = days.get(key);
+                        return cached != null ? cached.occupancy() : null;
+                    },
+                    locations);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        apply(event);
+    }
+
+    @Override
+    public void evictBefore(LocalDate date) {
+        days.keySet().removeIf(key -> key.date().isBefore(date));
+        locations.values().removeIf(key -> key.date().isBefore(date));
+    }
+
+    @Scheduled(cron = "${occupancy.eviction-cron:0 0 3 * * *}")
+    public void evictPastDays() {
+        evictBefore(LocalDate.now());
+        log.debug("Occupancy index holds {} employee days", days.size());
+    }
+
+    private Map<DayKey, DayOccupancy> load(Collection<DayKey> keys, Supplier<List<Appointment>> query) {
+        List<AppointmentChangedEvent> journal = new ArrayList<>();
+        synchronized (publishLock) {
+            journals.add(journal);
+        }
+
+        Map<DayKey, DayOccupancy> loaded = new HashMap<>();
+        Map<UUID, DayKey> loadedLocations = new HashMap<>();
+        try {
+            keys.forEach(key -> loaded.put(key, new DayOccupancy()));
+            for (Appointment appointment : query.get()) {
+                DayKey key = new DayKey(appointment.getEmployee().getId(), appointment.getAppointmentDate());
+                DayOccupancy day = loaded.get(key);
+                if (day == null) {
+                    continue;
+                }
+                day.occupy(
+                        appointment.getId(),
+                        DayOccupancy.minuteOf(key.date(), appointment.getStartTime()),
+                        DayOccupancy.minuteOf(key.date(), appointment.getEndTime()));
+                loadedLocations.put(appointment.getId(), key);
+            }
+        } catch (RuntimeException e) {
+            synchronized (publishLock) {
+                journals.remove(journal);
+            }
+            throw e;
+        }
+
+        synchronized (publishLock) {
+            journals.remove(journal);
+            journal.forEach(event -> apply(event, loaded::get, loadedLocations));
+
+            Map<DayKey, DayOccupancy> published = new HashMap<>();
+            loaded.forEach((key, snapshot) -> published.put(key, publish(key, snapshot)));
+            loadedLocations.forEach((appointmentId, key) -> {
+                DayKey previous = locations.put(appointmentId, key);
+                if (previous != null && !previous.equals(key)) {
+                    CachedDay stale = days.get(previous);
+                    if (stale != null) {
+                        stale.occupancy().release(appointmentId);
+                    }
+                }
+            });
+            return published;
+        }
+    }
+
+    private DayOccupancy publish(DayKey key, DayOccupancy snapshot) {
+        CachedDay cached = days.get(key);
+        if (cached == null) {
+            days.put(key, new CachedDay(snapshot, System.currentTimeMillis()));
+            return snapshot;
+        }
+
+        // Refresh in place so holds stay in the bitmap; appointment intervals come from the snapshot.
+        DayOccupancy day = cached.occupancy();
+        Set<UUID> appointmentIds = day.ids();
+        appointmentIds.removeIf(id -> !key.equals(locations.get(id)));
+        appointmentIds.forEach(locations::remove);
+        day.replace(appointmentIds, snapshot);
+        days.put(key, new CachedDay(day, System.currentTimeMillis()));
+        return day;
+    }
+
+    private boolean isExpired(CachedDay cached) {
+        return System.currentTimeMillis() - cached.loadedAt() >= ttlSeconds * 1000;
+    }
+
+    private static void apply(
+            AppointmentChangedEvent event, Function<DayKey, DayOccupancy> days, Map<UUID, DayKey> locations) {
+        DayKey previous = locations.remove(event.appointmentId());
+        if (previous != null) {
+            DayOccupancy day = days.apply(previous);
+            if (day != null) {
+                day.release(event.appointmentId());
+            }
+        }
+
+        if (!event.occupiesTime() || event.employeeId() == null || event.appointmentDate() == null) {
+            return;
+        }
+
+        DayKey key = new DayKey(event.employeeId(), event.appointmentDate());
+        DayOccupancy day = days.apply(key);
+        if (day != null) {
+            day.occupy(
+                    event.appointmentId(),
+                    DayOccupancy.minuteOf(event.appointmentDate(), event.startTime()),
+                    DayOccupancy.minuteOf(event.appointmentDate(), event.endTime()));
+            locations.put(event.appointmentId(), key);
+        }
+    }
+
+    private record DayKey(UUID employeeId, LocalDate date) {}
+
+    private record CachedDay(DayOccupancy occupancy, long loadedAt) {}
+}
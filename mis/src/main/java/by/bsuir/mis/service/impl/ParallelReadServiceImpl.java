@@ -0,0 +1,71 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.service.ParallelReadService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ParallelReadServiceImpl implements ParallelReadService {
+
+    static final int DEFAULT_POOL_SIZE = 10;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore connections;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ParallelReadServiceImpl(PlatformTransactionManager transactionManager, DataSource dataSource) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.connections = new Semaphore(permits(dataSource));
+    }
+
+    @Override
+    public Map<String, Object> runAll(Map<String, Supplier<?>> tasks) {
+        Map<String, Future<Object>> futures = new LinkedHashMap<>();
+        tasks.forEach((name, task) -> futures.put(name, executor.submit(() -> {
+            connections.acquire();
+            try {
+                return readOnlyTransaction.execute(status -> task.get());
+            } finally {
+                connections.release();
+            }
+        })));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Future<Object>> entry : futures.entrySet()) {
+                results.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing " + tasks.keySet(), e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } finally {
+            futures.values().forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    static int permits(DataSource dataSource) {
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : -1;
+        return Math.max(1, (poolSize > 0 ? poolSize : DEFAULT_POOL_SIZE) / 2);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
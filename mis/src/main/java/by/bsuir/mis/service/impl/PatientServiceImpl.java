@@ -9,6 +9,7 @@ import by.bsuir.mis.exception.ResourceAlreadyExistsException;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.PatientRepository;
 import by.bsuir.mis.repository.UserPatientRepository;
+import by.bsuir.mis.service.DashboardService;
 import by.bsuir.mis.service.PatientService;
 import java.util.List;
 import java.util.Optional;
@@ -26,10 +27,14 @@ public class PatientServiceImpl implements PatientService {
 
     private final PatientRepository patientRepository;
     private final UserPatientRepository userPatientRepository;
+    private final DashboardService dashboardService;
 
     @Override
     @Transactional
     public Patient save(Patient patient) {
+        if (patient.getId() == null) {
+            dashboardService.patientsChanged(1);
+        }
         return patientRepository.save(patient);
     }
 
@@ -55,6 +60,7 @@ public class PatientServiceImpl implements PatientService {
         }
 
         Patient savedPatient = patientRepository.save(patient);
+        dashboardService.patientsChanged(1);
 
         UserPatient userPatient = UserPatient.builder()
                 .user(user)
@@ -104,6 +110,7 @@ public class PatientServiceImpl implements PatientService {
             throw new ResourceNotFoundException("Patient", "id", id);
         }
         patientRepository.deleteById(id);
+        dashboardService.patientsChanged(-1);
     }
 
     @Override
@@ -0,0 +1,286 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.dto.request.ReassignmentItemRequest;
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.entity.User;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceNotFoundException;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.ReassignmentProposal;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.DoctorServiceRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.service.BookingService;
+import by.bsuir.mis.service.OccupancyService;
+import by.bsuir.mis.service.ReassignmentService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ReassignmentServiceImpl implements ReassignmentService {
+
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorServiceRepository doctorServiceRepository;
+    private final DoctorScheduleRepository doctorScheduleRepository;
+    private final EmployeeRepository employeeRepository;
+    private final OccupancyService occupancyService;
+    private final BookingService bookingService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReassignmentProposal> propose(UUID exceptionId, int horizonDays) {
+        ScheduleException exception = findException(exceptionId);
+        UUID absentId = exception.getEmployee().getId();
+
+        LocalDate windowStart = max(LocalDate.now(), exception.getDateFrom());
+        LocalDate windowEnd = exception.getDateTo().plusDays(horizonDays);
+        if (windowStart.isAfter(exception.getDateTo())) {
+            return List.of();
+        }
+
+        List<Appointment> affected =
+                appointmentRepository
+                        .findActiveByEmployeeIdsAndDateRange(List.of(absentId), windowStart, exception.getDateTo())
+                        .stream()
+                        .filter(a -> a.getStatus() == AppointmentStatus.WAITING)
+                        .sorted(Comparator.comparing(Appointment::getStartTime))
+                        .toList();
+        if (affected.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> serviceIds =
+                affected.stream().map(a -> a.getService().getId()).collect(Collectors.toSet());
+        Map<UUID, Set<UUID>> doctorsByService = new HashMap<>();
+        serviceIds.forEach(serviceId -> doctorsByService
+                .computeIfAbsent(serviceId, k -> new LinkedHashSet<>())
+                .add(absentId));
+        doctorServiceRepository.findActiveByServiceIds(serviceIds).forEach(ds -> doctorsByService
+                .get(ds.getService().getId())
+                .add(ds.getEmployee().getId()));
+        Set<UUID> candidateIds =
+                doctorsByService.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+
+        Map<UUID, List<DoctorSchedule>> schedules =
+                doctorScheduleRepository
+                        .findActiveByEmployeeIdsInDateRange(candidateIds, windowStart, windowEnd)
+                        .stream()
+                        .collect(Collectors.groupingBy(ds -> ds.getEmployee().getId()));
+        Map<UUID, List<ScheduleException>> exceptions =
+                scheduleExceptionRepository.findByEmployeeIdsInDateRange(candidateIds, windowStart, windowEnd).stream()
+                        .collect(Collectors.groupingBy(se -> se.getEmployee().getId()));
+        occupancyService.preload(candidateIds, windowStart, windowEnd);
+
+        Map<DayKey, DayOccupancy> working = new HashMap<>();
+        Function<DayKey, DayOccupancy> dayOf = key -> working.computeIfAbsent(
+                key, k -> occupancyService.getDay(k.employeeId(), k.date()).copy());
+        LocalDateTime now = LocalDateTime.now();
+        long maxOffset = ChronoUnit.DAYS.between(windowStart, windowEnd);
+
+        List<ReassignmentProposal> proposals = new ArrayList<>();
+        for (Appointment appointment : affected) {
+            int durationMin = (int) Duration.between(appointment.getStartTime(), appointment.getEndTime())
+                    .toMinutes();
+            SlotResponse best = null;
+            long bestCost = Long.MAX_VALUE;
+
+            for (long offset = 0; offset <= maxOffset; offset++) {
+                if (offset * DayOccupancy.MINUTES_PER_DAY > bestCost) {
+                    break;
+                }
+                for (LocalDate date : offset == 0
+                        ? List.of(appointment.getAppointmentDate())
+                        : List.of(
+                                appointment.getAppointmentDate().plusDays(offset),
+                                appointment.getAppointmentDate().minusDays(offset))) {
+                    if (date.isBefore(windowStart) || date.isAfter(windowEnd)) {
+                        continue;
+                    }
+                    for (UUID employeeId :
+                            doctorsByService.get(appointment.getService().getId())) {
+                        if (SlotGrid.isOnLeave(exceptions.getOrDefault(employeeId, List.of()), date)) {
+                            continue;
+                        }
+                        List<DoctorSchedule> daySchedules =
+                                SlotGrid.schedulesOn(schedules.getOrDefault(employeeId, List.of()), date);
+                        if (daySchedules.isEmpty()) {
+                            continue;
+                        }
+                        for (SlotResponse slot : SlotGrid.buildSlots(
+                                employeeId,
+                                date,
+                                daySchedules,
+                                durationMin,
+                                dayOf.apply(new DayKey(employeeId, date)),
+                                now)) {
+                            long cost = offset * DayOccupancy.MINUTES_PER_DAY
+                                    + Math.abs(ChronoUnit.MINUTES.between(
+                                            appointment.getStartTime().toLocalTime(), slot.startTime()));
+                            if (cost < bestCost) {
+                                best = slot;
+                                bestCost = cost;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (best != null) {
+                int from = best.startTime().toSecondOfDay() / 60;
+                dayOf.apply(new DayKey(best.employeeId(), best.date()))
+                        .occupy(appointment.getId(), from, from + durationMin);
+            }
+            proposals.add(new ReassignmentProposal(appointment, best));
+        }
+        return proposals;
+    }
+
+    @Override
+    public List<Appointment> apply(UUID exceptionId, List<ReassignmentItemRequest> reassignments, User changedBy) {
+        ScheduleException exception = findException(exceptionId);
+        UUID absentId = exception.getEmployee().getId();
+
+        Map<UUID, Appointment> appointments =
+                appointmentRepository
+                        .findAllById(reassignments.stream()
+                                .map(ReassignmentItemRequest::appointmentId)
+                                .toList())
+                        .stream()
+                        .collect(Collectors.toMap(Appointment::getId, Function.identity()));
+        Map<UUID, Employee> employees = employeeRepository
+                .findAllById(reassignments.stream()
+                        .map(ReassignmentItemRequest::employeeId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        Set<UUID> serviceIds =
+                appointments.values().stream().map(a -> a.getService().getId()).collect(Collectors.toSet());
+        Map<UUID, Set<UUID>> doctorsByService = new HashMap<>();
+        doctorServiceRepository.findActiveByServiceIds(serviceIds).forEach(ds -> doctorsByService
+                .computeIfAbsent(ds.getService().getId(), k -> new HashSet<>())
+                .add(ds.getEmployee().getId()));
+
+        LocalDate firstDate = reassignments.stream()
+                .map(item -> item.startTime().toLocalDate())
+                .min(LocalDate::compareTo)
+                .orElseThrow();
+        LocalDate lastDate = reassignments.stream()
+                .map(item -> item.startTime().toLocalDate())
+                .max(LocalDate::compareTo)
+                .orElseThrow();
+        Map<UUID, List<DoctorSchedule>> schedules =
+                doctorScheduleRepository
+                        .findActiveByEmployeeIdsInDateRange(employees.keySet(), firstDate, lastDate)
+                        .stream()
+                        .collect(Collectors.groupingBy(ds -> ds.getEmployee().getId()));
+        Map<UUID, List<ScheduleException>> exceptions =
+                scheduleExceptionRepository
+                        .findByEmployeeIdsInDateRange(employees.keySet(), firstDate, lastDate)
+                        .stream()
+                        .collect(Collectors.groupingBy(se -> se.getEmployee().getId()));
+
+        List<Appointment> moved = new ArrayList<>();
+        for (ReassignmentItemRequest item : reassignments) {
+            Appointment appointment = appointments.get(item.appointmentId());
+            if (appointment == null) {
+                throw new ResourceNotFoundException("Appointment", "id", item.appointmentId());
+            }
+            Employee employee = employees.get(item.employeeId());
+            if (employee == null) {
+                throw new ResourceNotFoundException("Employee", "id", item.employeeId());
+            }
+            if (!appointment.getEmployee().getId().equals(absentId)
+                    || appointment.getAppointmentDate().isBefore(exception.getDateFrom())
+                    || appointment.getAppointmentDate().isAfter(exception.getDateTo())) {
+                throw new BadRequestException(
+                        "Appointment " + appointment.getId() + " is not affected by this exception");
+            }
+            if (appointment.getStatus() != AppointmentStatus.WAITING) {
+                throw new BadRequestException("Appointment " + appointment.getId() + " is no longer waiting");
+            }
+            if (!employee.getId().equals(absentId)
+                    && !doctorsByService
+                            .getOrDefault(appointment.getService().getId(), Set.of())
+                            .contains(employee.getId())) {
+                throw new BadRequestException("Doctor " + employee.getId() + " does not provide this service");
+            }
+            if (!item.startTime().isBefore(item.endTime())
+                    || !item.startTime().toLocalDate().equals(item.endTime().toLocalDate())) {
+                throw new BadRequestException("Start time must be before end time on the same day");
+            }
+            LocalDate newDate = item.startTime().toLocalDate();
+            boolean absent = employee.getId().equals(absentId)
+                    && !newDate.isBefore(exception.getDateFrom())
+                    && !newDate.isAfter(exception.getDateTo());
+            if (absent || SlotGrid.isOnLeave(exceptions.getOrDefault(employee.getId(), List.of()), newDate)) {
+                throw new BadRequestException("Doctor is not available on " + newDate);
+            }
+            LocalTime startTime = item.startTime().toLocalTime();
+            LocalTime endTime = item.endTime().toLocalTime();
+            DoctorSchedule schedule =
+                    SlotGrid.schedulesOn(schedules.getOrDefault(employee.getId(), List.of()), newDate).stream()
+                            .filter(ds ->
+                                    item.scheduleId() == null || ds.getId().equals(item.scheduleId()))
+                            .filter(ds -> !startTime.isBefore(ds.getStartTime()) && !endTime.isAfter(ds.getEndTime()))
+                            .findFirst()
+                            .orElseThrow(() -> new BadRequestException(
+                                    item.scheduleId() != null
+                                            ? "Schedule " + item.scheduleId() + " does not cover " + item.startTime()
+                                                    + " for doctor " + employee.getId()
+                                            : "Doctor " + employee.getId() + " has no schedule covering "
+                                                    + item.startTime()));
+
+            appointment.setEmployee(employee);
+            appointment.setSchedule(schedule);
+            appointment.setAppointmentDate(newDate);
+            appointment.setStartTime(item.startTime());
+            appointment.setEndTime(item.endTime());
+            moved.add(appointment);
+        }
+
+        String reason = "Rescheduled due to " + exception.getExceptionType() + " " + exception.getDateFrom() + " - "
+                + exception.getDateTo();
+        return bookingService.reassign(moved, changedBy, reason);
+    }
+
+    private ScheduleException findException(UUID exceptionId) {
+        return scheduleExceptionRepository
+                .findById(exceptionId)
+                .orElseThrow(() -> new ResourceNotFoundException("ScheduleException", "id", exceptionId));
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record DayKey(UUID employeeId, LocalDate date) {}
+}
@@ -0,0 +1,78 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.DashboardCounters;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.EmployeeUtilization;
+import by.bsuir.mis.model.ReportData;
+import by.bsuir.mis.model.ServiceStatistics;
+import by.bsuir.mis.service.DashboardService;
+import by.bsuir.mis.service.ParallelReadService;
+import by.bsuir.mis.service.ReportDataService;
+import by.bsuir.mis.service.StatisticsService;
+import by.bsuir.mis.service.UtilizationService;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ReportDataServiceImpl implements ReportDataService {
+
+    private static final String DASHBOARD = "dashboard";
+    private static final String DYNAMICS = "dynamics";
+    private static final String STATUSES = "statuses";
+    private static final String SERVICES = "services";
+    private static final String EMPLOYEES = "employees";
+    private static final String UTILIZATION = "utilization";
+
+    private final DashboardService dashboardService;
+    private final StatisticsService statisticsService;
+    private final UtilizationService utilizationService;
+    private final ParallelReadService parallelReadService;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ReportData load(LocalDate dateFrom, LocalDate dateTo, Collection<String> sections) {
+        Set<String> requested = sections.stream().map(String::toLowerCase).collect(Collectors.toSet());
+
+        Map<String, Supplier<?>> tasks = new LinkedHashMap<>();
+        if (requested.contains(DASHBOARD)) {
+            tasks.put(DASHBOARD, dashboardService::getCounters);
+        }
+        if (requested.contains(DYNAMICS)) {
+            tasks.put(DYNAMICS, () -> statisticsService.countByPeriod(dateFrom, dateTo, null));
+        }
+        if (requested.contains(STATUSES) || requested.contains("noshow")) {
+            tasks.put(STATUSES, () -> statisticsService.countByStatus(dateFrom, dateTo));
+        }
+        if (requested.contains(SERVICES)) {
+            tasks.put(SERVICES, () -> statisticsService.countByService(dateFrom, dateTo));
+        }
+        if (requested.contains(EMPLOYEES)) {
+            tasks.put(EMPLOYEES, () -> statisticsService.countByEmployee(dateFrom, dateTo));
+        }
+        if (requested.contains("workload")) {
+            tasks.put(UTILIZATION, () -> utilizationService.getUtilization(dateFrom, dateTo));
+        }
+
+        Map<String, Object> results = tasks.isEmpty() ? Map.of() : parallelReadService.runAll(tasks);
+        return new ReportData(
+                dateFrom,
+                dateTo,
+                (DashboardCounters) results.get(DASHBOARD),
+                (BucketedCounts) results.get(DYNAMICS),
+                (Map<AppointmentStatus, Long>) results.get(STATUSES),
+                (List<ServiceStatistics>) results.get(SERVICES),
+                (List<EmployeeStatistics>) results.get(EMPLOYEES),
+                (List<EmployeeUtilization>) results.get(UTILIZATION));
+    }
+}
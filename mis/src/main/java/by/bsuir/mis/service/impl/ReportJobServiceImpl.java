@@ -0,0 +1,181 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceNotFoundException;
+import by.bsuir.mis.exception.ServiceUnavailableException;
+import by.bsuir.mis.model.ReportJob;
+import by.bsuir.mis.service.PdfExportService;
+import by.bsuir.mis.service.ReportJobService;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final String EXTENSION = ".pdf";
+    private static final String PARTIAL_EXTENSION = ".part";
+
+    private final PdfExportService pdfExportService;
+    private final Path spoolDir;
+    private final long ttlMinutes;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> inFlight = new ConcurrentHashMap<>();
+
+    public ReportJobServiceImpl(
+            PdfExportService pdfExportService,
+            @Value("${reports.spool-dir:${java.io.tmpdir}/mis-reports}") Path spoolDir,
+            @Value("${reports.workers:2}") int workers,
+            @Value("${reports.queue-capacity:20}") int queueCapacity,
+            @Value("${reports.ttl-minutes:60}") long ttlMinutes) {
+        this.pdfExportService = pdfExportService;
+        this.spoolDir = spoolDir;
+        this.ttlMinutes = ttlMinutes;
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("report-", 0).factory());
+    }
+
+    @Override
+    public ReportJob submit(LocalDate dateFrom, LocalDate dateTo, List<String> sections) {
+        List<String> normalized =
+                sections.stream().map(String::toLowerCase).distinct().toList();
+        String key = dateFrom + "|" + dateTo + "|" + String.join(",", normalized);
+
+        ReportJob[] created = new ReportJob[1];
+        ReportJob job = inFlight.computeIfAbsent(key, k -> created[0] = new ReportJob(k, dateFrom, dateTo, normalized));
+        if (created[0] == null) {
+            return job;
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> render(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            inFlight.remove(key, job);
+            throw new ServiceUnavailableException("Report queue is full, try again later");
+        }
+        return job;
+    }
+
+    @Override
+    public ReportJob getJob(UUID id) {
+        ReportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("ReportJob", "id", id);
+        }
+        return job;
+    }
+
+    @Override
+    public ReportJob getCompletedJob(UUID id) {
+        ReportJob job = getJob(id);
+        if (job.getStatus() != ReportJob.Status.COMPLETED) {
+            throw new BadRequestException(
+                    "Report job is " + job.getStatus().name().toLowerCase());
+        }
+        if (!Files.isRegularFile(job.getFile())) {
+            throw new ResourceNotFoundException("Report file for job " + id + " is no longer available");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${reports.cleanup-ms:60000}")
+    public void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(ttlMinutes);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(threshold)) {
+                return false;
+            }
+            if (job.getFile() != null) {
+                deleteQuietly(job.getFile());
+            }
+            return true;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeSpool() {
+        if (!Files.isDirectory(spoolDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            files.filter(this::isSpoolFile).forEach(ReportJobServiceImpl::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Report spool {} could not be purged: {}", spoolDir, e.getMessage());
+        }
+    }
+
+    void render(ReportJob job) {
+        job.start();
+        Path partial = spoolDir.resolve(job.getId() + EXTENSION + PARTIAL_EXTENSION);
+        try {
+            Files.createDirectories(spoolDir);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                pdfExportService.generateAnalyticsReport(
+                        job.getDateFrom(), job.getDateTo(), job.getSections(), out, job::setProgress);
+            }
+            Path file =
+                    Files.move(partial, spoolDir.resolve(job.getId() + EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+            job.complete(file, Files.size(file));
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(partial);
+            job.fail(e.getMessage());
+            log.warn("Report job {} failed: {}", job.getId(), e.getMessage());
+        } catch (Error e) {
+            deleteQuietly(partial);
+            job.fail(e.toString());
+            log.error("Report job {} failed", job.getId(), e);
+            throw e;
+        } finally {
+            inFlight.remove(job.getKey(), job);
+        }
+    }
+
+    private boolean isSpoolFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(EXTENSION) || name.endsWith(EXTENSION + PARTIAL_EXTENSION);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Report file {} could not be deleted: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
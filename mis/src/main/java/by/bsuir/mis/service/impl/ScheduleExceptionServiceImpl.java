@@ -1,6 +1,7 @@
 package by.bsuir.mis.service.impl;
 
 import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.event.ScheduleChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.ScheduleExceptionRepository;
 import by.bsuir.mis.service.ScheduleExceptionService;
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,11 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class ScheduleExceptionServiceImpl implements ScheduleExceptionService {
 
     private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public ScheduleException save(ScheduleException scheduleException) {
-        return scheduleExceptionRepository.save(scheduleException);
+        ScheduleException saved = scheduleExceptionRepository.save(scheduleException);
+        eventPublisher.publishEvent(
+                ScheduleChangedEvent.forEmployee(saved.getEmployee().getId()));
+        return saved;
     }
 
     @Override
@@ -58,15 +64,20 @@ public class ScheduleExceptionServiceImpl implements ScheduleExceptionService {
         if (!scheduleExceptionRepository.existsById(scheduleException.getId())) {
             throw new ResourceNotFoundException("ScheduleException", "id", scheduleException.getId());
         }
-        return scheduleExceptionRepository.save(scheduleException);
+        ScheduleException saved = scheduleExceptionRepository.save(scheduleException);
+        eventPublisher.publishEvent(
+                ScheduleChangedEvent.forEmployee(saved.getEmployee().getId()));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteById(UUID id) {
-        if (!scheduleExceptionRepository.existsById(id)) {
-            throw new ResourceNotFoundException("ScheduleException", "id", id);
-        }
-        scheduleExceptionRepository.deleteById(id);
+        ScheduleException scheduleException = scheduleExceptionRepository
+                .findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ScheduleException", "id", id));
+        scheduleExceptionRepository.delete(scheduleException);
+        eventPublisher.publishEvent(
+                ScheduleChangedEvent.forEmployee(scheduleException.getEmployee().getId()));
     }
 }
@@ -1,6 +1,7 @@
 package by.bsuir.mis.service.impl;
 
 import by.bsuir.mis.entity.ServiceDuration;
+import by.bsuir.mis.event.ServiceDurationChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.ServiceDurationRepository;
 import by.bsuir.mis.service.ServiceDurationService;
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,11 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class ServiceDurationServiceImpl implements ServiceDurationService {
 
     private final ServiceDurationRepository serviceDurationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public ServiceDuration save(ServiceDuration serviceDuration) {
-        return serviceDurationRepository.save(serviceDuration);
+        ServiceDuration saved = serviceDurationRepository.save(serviceDuration);
+        eventPublisher.publishEvent(
+                new ServiceDurationChangedEvent(saved.getService().getId()));
+        return saved;
     }
 
     @Override
@@ -51,15 +57,20 @@ public class ServiceDurationServiceImpl implements ServiceDurationService {
         if (!serviceDurationRepository.existsById(serviceDuration.getId())) {
             throw new ResourceNotFoundException("ServiceDuration", "id", serviceDuration.getId());
         }
-        return serviceDurationRepository.save(serviceDuration);
+        ServiceDuration saved = serviceDurationRepository.save(serviceDuration);
+        eventPublisher.publishEvent(
+                new ServiceDurationChangedEvent(saved.getService().getId()));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteById(UUID id) {
-        if (!serviceDurationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("ServiceDuration", "id", id);
-        }
-        serviceDurationRepository.deleteById(id);
+        ServiceDuration serviceDuration = serviceDurationRepository
+                .findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ServiceDuration", "id", id));
+        serviceDurationRepository.delete(serviceDuration);
+        eventPublisher.publishEvent(
+                new ServiceDurationChangedEvent(serviceDuration.getService().getId()));
     }
 }
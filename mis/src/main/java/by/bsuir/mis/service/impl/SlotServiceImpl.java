@@ -0,0 +1,168 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.repository.DoctorServiceRepository;
+import by.bsuir.mis.service.CalendarService;
+import by.bsuir.mis.service.OccupancyService;
+import by.bsuir.mis.service.SlotService;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SlotServiceImpl implements SlotService {
+
+    private static final Comparator<SlotResponse> SLOT_ORDER = Comparator.comparing(SlotResponse::date)
+            .thenComparing(SlotResponse::startTime)
+            .thenComparing(SlotResponse::employeeId);
+
+    private final DoctorServiceRepository doctorServiceRepository;
+    private final CalendarService calendarService;
+    private final OccupancyService occupancyService;
+
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${slots.search.budget-ms:800}")
+    private long searchBudgetMs = 800;
+
+    @Override
+    public List<SlotResponse> findAvailableSlots(UUID employeeId, UUID serviceId, LocalDate date) {
+        List<SlotResponse> grid =
+                calendarService.getSlotGrid(employeeId, date, calendarService.getDurationMin(serviceId, date));
+        if (grid.isEmpty()) {
+            return List.of();
+        }
+        return SlotGrid.freeSlots(
+                grid, occupancyService.getDay(employeeId, date), LocalDateTime.now(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<SlotResponse> findEarliestSlots(UUID serviceId, int days, int limit) {
+        if (days <= 0) {
+            throw new BadRequestException("Days must be positive");
+        }
+        if (limit <= 0) {
+            throw new BadRequestException("Limit must be positive");
+        }
+
+        List<UUID> employeeIds = doctorServiceRepository.findByService_Id(serviceId).stream()
+                .filter(ds -> Boolean.TRUE.equals(ds.getIsActive()))
+                .map(ds -> ds.getEmployee().getId())
+                .distinct()
+                .toList();
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusDays(days - 1L);
+        occupancyService.preload(employeeIds, startDate, endDate);
+        Map<UUID, Map<LocalDate, List<DoctorSchedule>>> calendars =
+                calendarService.getWorkingSchedules(employeeIds, startDate, endDate);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Callable<List<SlotResponse>>> tasks = new ArrayList<>();
+        employeeIds.forEach(employeeId -> tasks.add(() -> findEmployeeSlots(
+                employeeId, calendars.getOrDefault(employeeId, Map.of()), serviceId, startDate, endDate, limit, now)));
+
+        List<List<SlotResponse>> perEmployee = new ArrayList<>();
+        try {
+            for (Future<List<SlotResponse>> future :
+                    searchExecutor.invokeAll(tasks, searchBudgetMs, TimeUnit.MILLISECONDS)) {
+                if (future.state() == Future.State.SUCCESS) {
+                    perEmployee.add(future.resultNow());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (perEmployee.size() < tasks.size()) {
+            log.warn(
+                    "Slot search for service {} exceeded {} ms, returning {} of {} doctors",
+                    serviceId,
+                    searchBudgetMs,
+                    perEmployee.size(),
+                    tasks.size());
+        }
+
+        return mergeEarliest(perEmployee, limit);
+    }
+
+    private List<SlotResponse> findEmployeeSlots(
+            UUID employeeId,
+            Map<LocalDate, List<DoctorSchedule>> workingDays,
+            UUID serviceId,
+            LocalDate startDate,
+            LocalDate endDate,
+            int limit,
+            LocalDateTime now) {
+        List<SlotResponse> slots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate) && slots.size() < limit; date = date.plusDays(1)) {
+            List<DoctorSchedule> schedules = workingDays.getOrDefault(date, List.of());
+            if (schedules.isEmpty()) {
+                continue;
+            }
+            List<SlotResponse> grid = calendarService.getSlotGrid(
+                    employeeId, date, calendarService.getDurationMin(serviceId, date), schedules);
+            if (grid.isEmpty()) {
+                continue;
+            }
+            slots.addAll(
+                    SlotGrid.freeSlots(grid, occupancyService.getDay(employeeId, date), now, limit - slots.size()));
+        }
+        return slots;
+    }
+
+    static List<SlotResponse> mergeEarliest(List<List<SlotResponse>> sortedLists, int limit) {
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(Comparator.comparing(Cursor::head, SLOT_ORDER));
+        for (List<SlotResponse> slots : sortedLists) {
+            if (!slots.isEmpty()) {
+                queue.add(new Cursor(slots, 0));
+            }
+        }
+
+        List<SlotResponse> result = new ArrayList<>(limit);
+        while (!queue.isEmpty() && result.size() < limit) {
+            Cursor cursor = queue.poll();
+            result.add(cursor.head());
+            if (cursor.index() + 1 < cursor.slots().size()) {
+                queue.add(new Cursor(cursor.slots(), cursor.index() + 1));
+            }
+        }
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
+    private record Cursor(List<SlotResponse> slots, int index) {
+
+        SlotResponse head() {
+            return slots.get(index);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.mapper.EmployeeMapper;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ServiceStatistics;
+import by.bsuir.mis.repository.AppointmentDailyStatsRepository;
+import by.bsuir.mis.repository.projection.DailyCount;
+import by.bsuir.mis.repository.projection.EmployeeStatusCount;
+import by.bsuir.mis.service.StatisticsService;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Primary
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatisticsServiceImpl implements StatisticsService {
+
+    static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final AppointmentDailyStatsRepository dailyStatsRepository;
+
+    @Value("${statistics.max-points:120}")
+    private int maxPoints = 120;
+
+    @Override
+    public Map<LocalDate, Long> countByDate(LocalDate dateFrom, LocalDate dateTo) {
+        Map<LocalDate, Long> counts = dailyStatsRepository.countByDate(dateFrom, dateTo).stream()
+                .collect(Collectors.toMap(DailyCount::getAppointmentDate, DailyCount::getTotal));
+
+        Map<LocalDate, Long> byDate = new LinkedHashMap<>();
+        for (LocalDate date = dateFrom; !date.isAfter(dateTo); date = date.plusDays(1)) {
+            byDate.put(date, counts.getOrDefault(date, 0L));
+        }
+        return byDate;
+    }
+
+    @Override
+    public BucketedCounts countByPeriod(LocalDate dateFrom, LocalDate dateTo, Granularity granularity) {
+        Granularity effective = granularity != null ? granularity : Granularity.DAY;
+        while (effective != Granularity.QUARTER && effective.buckets(dateFrom, dateTo) > maxPoints) {
+            effective = effective.coarser();
+        }
+        if (effective == Granularity.DAY) {
+            return new BucketedCounts(effective, countByDate(dateFrom, dateTo));
+        }
+
+        Map<LocalDate, Long> counts = dailyStatsRepository.countByPeriod(effective.unit(), dateFrom, dateTo).stream()
+                .collect(Collectors.toMap(DailyCount::getAppointmentDate, DailyCount::getTotal));
+
+        Map<LocalDate, Long> byPeriod = new LinkedHashMap<>();
+        for (LocalDate bucket = effective.start(dateFrom); !bucket.isAfter(dateTo); bucket = effective.next(bucket)) {
+            byPeriod.put(bucket, counts.getOrDefault(bucket, 0L));
+        }
+        return new BucketedCounts(effective, byPeriod);
+    }
+
+    @Override
+    public Map<AppointmentStatus, Long> countByStatus(LocalDate dateFrom, LocalDate dateTo) {
+        Map<AppointmentStatus, Long> byStatus = new EnumMap<>(AppointmentStatus.class);
+        dailyStatsRepository
+                .countByStatus(from(dateFrom), to(dateTo))
+                .forEach(row -> byStatus.merge(row.getStatus(), row.getTotal(), Long::sum));
+        return byStatus;
+    }
+
+    @Override
+    public Map<AppointmentSource, Long> countBySource(LocalDate dateFrom, LocalDate dateTo) {
+        Map<AppointmentSource, Long> bySource = new EnumMap<>(AppointmentSource.class);
+        dailyStatsRepository
+                .countBySource(from(dateFrom), to(dateTo))
+                .forEach(row -> bySource.merge(row.getSource(), row.getTotal(), Long::sum));
+        return bySource;
+    }
+
+    @Override
+    public List<EmployeeStatistics> countByEmployee(LocalDate dateFrom, LocalDate dateTo) {
+        Map<UUID, List<EmployeeStatusCount>> byEmployee =
+                dailyStatsRepository.countByEmployeeAndStatus(from(dateFrom), to(dateTo)).stream()
+                        .collect(Collectors.groupingBy(EmployeeStatusCount::getEmployeeId));
+
+        return byEmployee.entrySet().stream()
+                .map(entry -> {
+                    EmployeeStatusCount first = entry.getValue().getFirst();
+                    Map<AppointmentStatus, Long> byStatus = new EnumMap<>(AppointmentStatus.class);
+                    entry.getValue().forEach(row -> byStatus.merge(row.getStatus(), row.getTotal(), Long::sum));
+                    long total = byStatus.values().stream()
+                            .mapToLong(Long::longValue)
+                            .sum();
+                    return new EmployeeStatistics(
+                            entry.getKey(),
+                            EmployeeMapper.getFullName(
+                                    first.getLastName(), first.getFirstName(), first.getMiddleName()),
+                            first.getSpecialtyName(),
+                            total,
+                            byStatus);
+                })
+                .sorted(Comparator.comparingLong(EmployeeStatistics::total).reversed())
+                .toList();
+    }
+
+    @Override
+    public List<ServiceStatistics> countByService(LocalDate dateFrom, LocalDate dateTo) {
+        return dailyStatsRepository.countByService(from(dateFrom), to(dateTo)).stream()
+                .map(row -> new ServiceStatistics(
+                        row.getServiceId(), row.getServiceName(), row.getTotal(), row.getPaidCount()))
+                .sorted(Comparator.comparingLong(ServiceStatistics::total).reversed())
+                .toList();
+    }
+
+    private static LocalDate from(LocalDate dateFrom) {
+        return dateFrom != null ? dateFrom : MIN_DATE;
+    }
+
+    private static LocalDate to(LocalDate dateTo) {
+        return dateTo != null ? dateTo : MAX_DATE;
+    }
+}
@@ -0,0 +1,129 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.mapper.EmployeeMapper;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.EmployeeUtilization;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.repository.projection.AppointmentInterval;
+import by.bsuir.mis.service.UtilizationService;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UtilizationServiceImpl implements UtilizationService {
+
+    private final DoctorScheduleRepository doctorScheduleRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final EmployeeRepository employeeRepository;
+
+    @Override
+    public List<EmployeeUtilization> getUtilization(LocalDate dateFrom, LocalDate dateTo) {
+        Map<UUID, List<DoctorSchedule>> schedules =
+                doctorScheduleRepository.findActiveInDateRange(dateFrom, dateTo).stream()
+                        .collect(Collectors.groupingBy(ds -> ds.getEmployee().getId()));
+        Map<UUID, List<ScheduleException>> exceptions =
+                scheduleExceptionRepository.findInDateRange(dateFrom, dateTo).stream()
+                        .collect(Collectors.groupingBy(se -> se.getEmployee().getId()));
+        Map<UUID, Map<LocalDate, List<AppointmentInterval>>> appointments =
+                appointmentRepository.findActiveIntervalsInDateRange(dateFrom, dateTo).stream()
+                        .collect(Collectors.groupingBy(
+                                AppointmentInterval::getEmployeeId,
+                                Collectors.groupingBy(AppointmentInterval::getAppointmentDate)));
+
+        Set<UUID> employeeIds = new HashSet<>(schedules.keySet());
+        employeeIds.addAll(appointments.keySet());
+
+        List<EmployeeUtilization> result = new ArrayList<>();
+        for (Employee employee : employeeRepository.findAllWithSpecialty()) {
+            if (!employeeIds.contains(employee.getId())) {
+                continue;
+            }
+            List<DoctorSchedule> employeeSchedules = schedules.getOrDefault(employee.getId(), List.of());
+            List<ScheduleException> employeeExceptions = exceptions.getOrDefault(employee.getId(), List.of());
+            Map<LocalDate, List<AppointmentInterval>> byDate = appointments.getOrDefault(employee.getId(), Map.of());
+
+            long scheduled = 0;
+            long booked = 0;
+            long bookedInSchedule = 0;
+            long count = 0;
+            for (LocalDate date = dateFrom; !date.isAfter(dateTo); date = date.plusDays(1)) {
+                List<int[]> working = SlotGrid.isOnLeave(employeeExceptions, date)
+                        ? List.of()
+                        : merge(SlotGrid.schedulesOn(employeeSchedules, date));
+                List<AppointmentInterval> dayAppointments = byDate.getOrDefault(date, List.of());
+
+                DayOccupancy occupancy = new DayOccupancy();
+                for (AppointmentInterval a : dayAppointments) {
+                    occupancy.occupy(
+                            a.getId(),
+                            DayOccupancy.minuteOf(date, a.getStartTime()),
+                            DayOccupancy.minuteOf(date, a.getEndTime()));
+                }
+
+                for (int[] interval : working) {
+                    scheduled += interval[1] - interval[0];
+                    bookedInSchedule += occupancy.occupiedMinutes(interval[0], interval[1]);
+                }
+                booked += occupancy.occupiedMinutes(0, DayOccupancy.MINUTES_PER_DAY);
+                count += dayAppointments.size();
+            }
+
+            result.add(new EmployeeUtilization(
+                    employee.getId(),
+                    EmployeeMapper.getFullName(employee),
+                    employee.getSpecialty() != null ? employee.getSpecialty().getName() : null,
+                    scheduled,
+                    booked,
+                    bookedInSchedule,
+                    count));
+        }
+
+        result.sort(Comparator.comparingDouble(EmployeeUtilization::utilizationPercent)
+                .reversed());
+        return result;
+    }
+
+    static List<int[]> merge(List<DoctorSchedule> schedules) {
+        List<int[]> intervals = schedules.stream()
+                .map(ds -> new int[] {toMinutes(ds.getStartTime()), toMinutes(ds.getEndTime())})
+                .filter(interval -> interval[0] < interval[1])
+                .sorted(Comparator.comparingInt(interval -> interval[0]))
+                .toList();
+
+        List<int[]> merged = new ArrayList<>();
+        for (int[] interval : intervals) {
+            int[] last = merged.isEmpty() ? null : merged.getLast();
+            if (last != null && interval[0] <= last[1]) {
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                merged.add(interval.clone());
+            }
+        }
+        return merged;
+    }
+
+    private static int toMinutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
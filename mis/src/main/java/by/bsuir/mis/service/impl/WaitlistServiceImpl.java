@@ -0,0 +1,222 @@
+package by.bsuir.mis.service.impl;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.WaitlistEntry;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.entity.enums.WaitlistStatus;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.event.AppointmentChangedEvent.ChangeType;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceAlreadyExistsException;
+import by.bsuir.mis.exception.ResourceNotFoundException;
+import by.bsuir.mis.model.WaitlistCandidate;
+import by.bsuir.mis.model.WaitlistIndex;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.WaitlistEntryRepository;
+import by.bsuir.mis.service.BookingService;
+import by.bsuir.mis.service.WaitlistService;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final BookingService bookingService;
+    private final PlatformTransactionManager transactionManager;
+
+    private final WaitlistIndex index = new WaitlistIndex();
+    private final ExecutorService matchingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    @Transactional
+    public WaitlistEntry join(WaitlistEntry entry) {
+        WaitlistEntry saved = waitlistEntryRepository.save(entry);
+        WaitlistCandidate candidate = toCandidate(saved);
+        afterCommit(() -> index.add(candidate));
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<WaitlistEntry> findById(UUID id) {
+        return waitlistEntryRepository.findById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WaitlistEntry> findByPatientId(UUID patientId) {
+        return waitlistEntryRepository.findByPatient_IdOrderByCreatedAtDesc(patientId);
+    }
+
+    @Override
+    @Transactional
+    public WaitlistEntry cancel(UUID id) {
+        WaitlistEntry entry = waitlistEntryRepository
+                .findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("WaitlistEntry", "id", id));
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new BadRequestException("Only waiting entries can be cancelled");
+        }
+        entry.setStatus(WaitlistStatus.CANCELLED);
+        WaitlistEntry saved = waitlistEntryRepository.save(entry);
+        afterCommit(() -> index.remove(id));
+        return saved;
+    }
+
+    @Override
+    public Optional<Appointment> offerFreedSlot(AppointmentChangedEvent event) {
+        Appointment freed = null;
+        while (true) {
+            Optional<WaitlistCandidate> candidate = index.poll(
+                    event.serviceId(),
+                    event.employeeId(),
+                    event.appointmentDate(),
+                    event.startTime().toLocalTime(),
+                    event.endTime().toLocalTime());
+            if (candidate.isEmpty()) {
+                return Optional.empty();
+            }
+
+            WaitlistEntry entry = waitlistEntryRepository
+                    .findWithDetailsById(candidate.get().entryId())
+                    .filter(e -> e.getStatus() == WaitlistStatus.WAITING)
+                    .orElse(null);
+            if (entry == null) {
+                continue;
+            }
+            if (freed == null) {
+                freed = appointmentRepository.findById(event.appointmentId()).orElse(null);
+                if (freed == null) {
+                    index.add(candidate.get());
+                    return Optional.empty();
+                }
+            }
+
+            Appointment appointment = Appointment.builder()
+                    .patient(entry.getPatient())
+                    .employee(freed.getEmployee())
+                    .service(entry.getService())
+                    .schedule(freed.getSchedule())
+                    .appointmentDate(event.appointmentDate())
+                    .startTime(event.startTime())
+                    .endTime(event.endTime())
+                    .createdBy(entry.getCreatedBy())
+                    .build();
+
+            Appointment booked;
+            try {
+                booked = new TransactionTemplate(transactionManager).execute(status -> {
+                    Appointment saved = bookingService.book(appointment);
+                    entry.setStatus(WaitlistStatus.BOOKED);
+                    entry.setAppointment(saved);
+                    waitlistEntryRepository.save(entry);
+                    return saved;
+                });
+            } catch (ResourceAlreadyExistsException e) {
+                index.add(candidate.get());
+                return Optional.empty();
+            } catch (RuntimeException e) {
+                index.add(candidate.get());
+                throw e;
+            }
+            log.info(
+                    "Freed slot {} {} of doctor {} booked for waitlist entry {}",
+                    event.appointmentDate(),
+                    event.startTime().toLocalTime(),
+                    event.employeeId(),
+                    entry.getId());
+            return Optional.of(booked);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (event.type() != ChangeType.UPDATED
+                || event.status() != AppointmentStatus.CANCELLED
+                || event.serviceId() == null
+                || event.startTime() == null
+                || event.startTime().isBefore(LocalDateTime.now())) {
+            return;
+        }
+        matchingExecutor.execute(() -> {
+            try {
+                offerFreedSlot(event);
+            } catch (RuntimeException e) {
+                log.warn("Waitlist matching for appointment {} failed: {}", event.appointmentId(), e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(cron = "${waitlist.expiry-cron:0 5 0 * * *}")
+    public void reload() {
+        LocalDate today = LocalDate.now();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            int expired = waitlistEntryRepository.expireBefore(today);
+            index.evictBefore(today);
+            waitlistEntryRepository.findWaitingFrom(today).forEach(entry -> index.add(toCandidate(entry)));
+            log.debug("Waitlist index holds {} entries, {} expired", index.size(), expired);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Waitlist index could not be loaded: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        matchingExecutor.shutdownNow();
+    }
+
+    private static WaitlistCandidate toCandidate(WaitlistEntry entry) {
+        return new WaitlistCandidate(
+                entry.getId(),
+                entry.getService().getId(),
+                entry.getEmployee() != null ? entry.getEmployee().getId() : null,
+                entry.getDateFrom(),
+                entry.getDateTo(),
+                entry.getTimeFrom(),
+                entry.getTimeTo(),
+                entry.getCreatedAt());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package by.bsuir.mis.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LogHistogramTest {
+
+    @Test
+    void record_AfterMergingEmptyHistograms_ShouldGrowStorage() {
+        LogHistogram histogram = new LogHistogram().merge(new LogHistogram());
+
+        histogram.record(5);
+        histogram.record(500);
+
+        assertEquals(2, histogram.count());
+        assertEquals(252.5, histogram.mean());
+        assertEquals(5, histogram.percentile(50));
+    }
+
+    @Test
+    void record_AfterDecodingEmptyHistogram_ShouldGrowStorage() {
+        LogHistogram histogram = LogHistogram.fromBytes(new LogHistogram().toBytes());
+
+        histogram.record(7);
+
+        assertEquals(1, histogram.count());
+        assertEquals(7, histogram.percentile(100));
+    }
+
+    @Test
+    void merge_ShouldAddCountsOfSharedBuckets() {
+        LogHistogram left = histogram(1, 3, 3, 40);
+        LogHistogram right = histogram(3, 40, 900);
+
+        LogHistogram merged = left.merge(right);
+
+        assertEquals(histogram(1, 3, 3, 3, 40, 40, 900), merged);
+        assertEquals(7, merged.count());
+    }
+
+    @Test
+    void toBytes_ShouldRoundTrip() {
+        LogHistogram histogram = histogram(0, 1, 15, 16, 17, 250, 250, 60_000, Long.MAX_VALUE);
+
+        LogHistogram decoded = LogHistogram.fromBytes(histogram.toBytes());
+
+        assertEquals(histogram, decoded);
+        assertEquals(histogram.count(), decoded.count());
+        assertEquals(histogram.mean(), decoded.mean());
+        assertEquals(histogram.percentile(90), decoded.percentile(90));
+    }
+
+    @Test
+    void toBytes_WhenEmpty_ShouldRoundTrip() {
+        LogHistogram decoded = LogHistogram.fromBytes(new LogHistogram().toBytes());
+
+        assertEquals(new LogHistogram(), decoded);
+        assertEquals(0, decoded.count());
+        assertEquals(0, decoded.percentile(50));
+    }
+
+    @Test
+    void percentile_ShouldStayWithinBucketBounds() {
+        for (long value : new long[] {0, 9, 15, 16, 31, 100, 1_000, 12_345, 1L << 40}) {
+            LogHistogram histogram = histogram(value);
+            int index = LogHistogram.indexOf(value);
+
+            long estimate = histogram.percentile(50);
+
+            assertTrue(LogHistogram.lowerBound(index) <= value && value <= LogHistogram.upperBound(index));
+            assertTrue(LogHistogram.lowerBound(index) <= estimate && estimate <= LogHistogram.upperBound(index));
+            assertTrue(Math.abs(estimate - value) <= Math.max(1, value / 8), "value " + value);
+        }
+    }
+
+    @Test
+    void percentile_ShouldPickBucketByRank() {
+        LogHistogram histogram = histogram(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        assertEquals(1, histogram.percentile(0));
+        assertEquals(5, histogram.percentile(50));
+        assertEquals(9, histogram.percentile(90));
+        assertEquals(10, histogram.percentile(100));
+    }
+
+    private static LogHistogram histogram(long... values) {
+        LogHistogram histogram = new LogHistogram();
+        for (long value : values) {
+            histogram.record(value);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,245 @@
+package by.bsuir.mis.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.DashboardCounters;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.EmployeeUtilization;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ReportData;
+import by.bsuir.mis.model.ServiceStatistics;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.canvas.parser.EventType;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfCanvasProcessor;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PdfExportServiceTest {
+
+    private static final List<String> SECTIONS =
+            List.of("dashboard", "dynamics", "statuses", "services", "employees", "noshow", "workload");
+    private static final List<String> CHART_SECTIONS = List.of("dynamics", "statuses", "services", "employees");
+
+    @Mock
+    private ReportDataService reportDataService;
+
+    @InjectMocks
+    private PdfExportService pdfExportService;
+
+    @Test
+    void writeAnalyticsReport_WhenCalledConcurrently_ShouldProduceValidPdfsWithEmbeddedFonts() throws Exception {
+        int reports = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(reports);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < reports; i++) {
+                ReportData data = reportData(i + 1);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    pdfExportService.writeAnalyticsReport(data, SECTIONS, out, progress -> {});
+                    return out.toByteArray();
+                }));
+            }
+            start.countDown();
+
+            for (Future<byte[]> result : results) {
+                try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(result.get())))) {
+                    assertTrue(pdf.getNumberOfPages() > 0);
+                    assertTrue(PdfTextExtractor.getTextFromPage(pdf.getPage(1)).contains("Аналитический отчёт МИС"));
+                    if (hasSystemFonts()) {
+                        assertFontsEmbedded(pdf);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void writeAnalyticsReport_WithSameData_ShouldServeChartsFromCache() {
+        write(reportData(1), CHART_SECTIONS);
+        Map<String, CompletableFuture<String>> first = new HashMap<>(chartCache());
+
+        write(reportData(1), CHART_SECTIONS);
+
+        assertEquals(4, first.size());
+        assertEquals(first.keySet(), chartCache().keySet());
+        first.forEach((key, chart) -> assertSame(chart, chartCache().get(key)));
+    }
+
+    @Test
+    void writeAnalyticsReport_WithChangedData_ShouldRenderNewChartsAndEvictLeastRecentlyUsed() {
+        ReflectionTestUtils.setField(pdfExportService, "chartCacheSize", 4);
+        write(reportData(1), CHART_SECTIONS);
+        Set<String> first = Set.copyOf(chartCache().keySet());
+
+        write(reportData(2), CHART_SECTIONS);
+
+        assertEquals(4, chartCache().size());
+        assertTrue(chartCache().keySet().stream().noneMatch(first::contains));
+    }
+
+    @Test
+    void writeAnalyticsReport_WhenCachedChartFailed_ShouldRenderItAgain() throws Exception {
+        write(reportData(1), CHART_SECTIONS);
+        chartCache().replaceAll((key, chart) -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        byte[] report = write(reportData(1), CHART_SECTIONS);
+
+        assertEquals(4, chartCache().size());
+        chartCache().values().forEach(chart -> assertFalse(chart.isCompletedExceptionally()));
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(report)))) {
+            for (int page = 1; page <= pdf.getNumberOfPages(); page++) {
+                assertFalse(PdfTextExtractor.getTextFromPage(pdf.getPage(page)).contains("Не удалось"));
+            }
+        }
+    }
+
+    @Test
+    void writeAnalyticsReport_ShouldDrawChartsAsVectorsWithSelectableText() throws Exception {
+        byte[] report = write(reportData(1), CHART_SECTIONS);
+
+        Map<EventType, Integer> events = new EnumMap<>(EventType.class);
+        StringBuilder text = new StringBuilder();
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(report)))) {
+            for (int page = 1; page <= pdf.getNumberOfPages(); page++) {
+                text.append(PdfTextExtractor.getTextFromPage(pdf.getPage(page)));
+                new PdfCanvasProcessor(new IEventListener() {
+                            @Override
+                            public void eventOccurred(IEventData data, EventType type) {
+                                events.merge(type, 1, Integer::sum);
+                            }
+
+                            @Override
+                            public Set<EventType> getSupportedEvents() {
+                                return null;
+                            }
+                        })
+                        .processPageContent(pdf.getPage(page));
+            }
+        }
+
+        assertTrue(text.toString().contains("Записи по дням"));
+        assertTrue(text.toString().contains("Распределение по услугам"));
+        assertTrue(text.toString().contains("Консультация"));
+        assertTrue(events.getOrDefault(EventType.RENDER_PATH, 0) > 50);
+        assertFalse(events.containsKey(EventType.RENDER_IMAGE));
+        if (hasSystemFonts()) {
+            try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(report)))) {
+                assertFontsEmbedded(pdf);
+            }
+        }
+    }
+
+    private byte[] write(ReportData data, List<String> sections) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pdfExportService.writeAnalyticsReport(data, sections, out, progress -> {});
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CompletableFuture<String>> chartCache() {
+        return (Map<String, CompletableFuture<String>>) ReflectionTestUtils.getField(pdfExportService, "chartCache");
+    }
+
+    static ReportData reportData(long scale) {
+        Map<LocalDate, Long> byDate = new LinkedHashMap<>();
+        LocalDate dateFrom = LocalDate.of(2025, 3, 3);
+        for (int day = 0; day < 7; day++) {
+            byDate.put(dateFrom.plusDays(day), scale * (day + 1));
+        }
+        Map<AppointmentStatus, Long> byStatus = Map.of(
+                AppointmentStatus.COMPLETED, 10 * scale,
+                AppointmentStatus.NO_SHOW, scale,
+                AppointmentStatus.CANCELLED, 2 * scale);
+        return new ReportData(
+                dateFrom,
+                dateFrom.plusDays(6),
+                new DashboardCounters(100, 5, 4, Map.of(AppointmentStatus.WAITING, scale)),
+                new BucketedCounts(Granularity.DAY, byDate),
+                byStatus,
+                List.of(
+                        new ServiceStatistics(UUID.randomUUID(), "Осмотр", 8 * scale, 6 * scale),
+                        new ServiceStatistics(UUID.randomUUID(), "Консультация", 5 * scale, scale)),
+                List.of(new EmployeeStatistics(UUID.randomUUID(), "Иванов Иван", "Терапевт", 13 * scale, byStatus)),
+                List.of(new EmployeeUtilization(UUID.randomUUID(), "Иванов Иван", "Терапевт", 480, 360, 330, 12)));
+    }
+
+    private static boolean hasSystemFonts() {
+        return Files.exists(Path.of("/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf"))
+                || Files.exists(Path.of("C:/Windows/Fonts/arial.ttf"));
+    }
+
+    private static void assertFontsEmbedded(PdfDocument pdf) {
+        List<PdfDictionary> fonts = new ArrayList<>();
+        for (int page = 1; page <= pdf.getNumberOfPages(); page++) {
+            collectFonts(pdf.getPage(page).getPdfObject().getAsDictionary(PdfName.Resources), fonts);
+        }
+        for (PdfDictionary font : fonts) {
+            PdfDictionary descriptor = PdfName.Type0.equals(font.getAsName(PdfName.Subtype))
+                    ? font.getAsArray(PdfName.DescendantFonts)
+                            .getAsDictionary(0)
+                            .getAsDictionary(PdfName.FontDescriptor)
+                    : font.getAsDictionary(PdfName.FontDescriptor);
+            assertNotNull(descriptor, "Font " + font.getAsName(PdfName.BaseFont) + " has no descriptor");
+            assertTrue(
+                    descriptor.containsKey(PdfName.FontFile2) || descriptor.containsKey(PdfName.FontFile3),
+                    "Font " + font.getAsName(PdfName.BaseFont) + " is not embedded");
+        }
+        assertTrue(fonts.size() > 0);
+    }
+
+    private static void collectFonts(PdfDictionary resources, List<PdfDictionary> fonts) {
+        if (resources == null) {
+            return;
+        }
+        PdfDictionary fontResources = resources.getAsDictionary(PdfName.Font);
+        if (fontResources != null) {
+            fontResources.keySet().forEach(name -> fonts.add(fontResources.getAsDictionary(name)));
+        }
+        PdfDictionary xObjects = resources.getAsDictionary(PdfName.XObject);
+        if (xObjects != null) {
+            for (PdfName name : xObjects.keySet()) {
+                PdfStream xObject = xObjects.getAsStream(name);
+                if (PdfName.Form.equals(xObject.getAsName(PdfName.Subtype))) {
+                    collectFonts(xObject.getAsDictionary(PdfName.Resources), fonts);
+                }
+            }
+        }
+    }
+}
@@ -6,8 +6,11 @@ import static org.mockito.Mockito.*;
 
 import by.bsuir.mis.entity.*;
 import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.event.AppointmentChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.service.DailyStatsService;
+import by.bsuir.mis.service.DashboardService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class AppointmentServiceImplTest {
@@ -26,6 +30,15 @@ class AppointmentServiceImplTest {
     @Mock
     private AppointmentRepository appointmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DailyStatsService dailyStatsService;
+
+    @Mock
+    private DashboardService dashboardService;
+
     @InjectMocks
     private AppointmentServiceImpl appointmentService;
 
@@ -65,6 +78,15 @@ class AppointmentServiceImplTest {
         verify(appointmentRepository, times(1)).save(appointment);
     }
 
+    @Test
+    void save_ShouldPublishChangedEvent() {
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+
+        appointmentService.save(appointment);
+
+        verify(eventPublisher, times(1)).publishEvent(any(AppointmentChangedEvent.class));
+    }
+
     @Test
     void findById_WhenExists_ShouldReturnAppointment() {
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(appointment));
@@ -213,4 +235,39 @@ class AppointmentServiceImplTest {
                 ResourceNotFoundException.class,
                 () -> appointmentService.updateStatus(appointmentId, AppointmentStatus.COMPLETED, null));
     }
+
+    @Test
+    void updateStatus_ShouldMoveDailyStatsFromRecordedKey() {
+        appointment.markStatsRecorded();
+        AppointmentDailyStatsId before = appointment.statsKey();
+        when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+
+        appointmentService.updateStatus(appointmentId, AppointmentStatus.COMPLETED, null);
+
+        verify(dailyStatsService).move(before, appointment.statsKey());
+        verify(dashboardService).appointmentsChanged(appointment.getAppointmentDate(), AppointmentStatus.WAITING, -1);
+        verify(dashboardService).appointmentsChanged(appointment.getAppointmentDate(), AppointmentStatus.COMPLETED, 1);
+        verify(appointmentRepository, never()).findStatsKeyById(any());
+        assertEquals(appointment.statsKey(), appointment.getRecordedStatsKey());
+    }
+
+    @Test
+    void update_WhenDetachedWithoutSnapshot_ShouldLoadRecordedKey() {
+        AppointmentDailyStatsId stored = new AppointmentDailyStatsId(
+                appointment.getAppointmentDate(),
+                employeeId,
+                null,
+                AppointmentStatus.WAITING,
+                appointment.getSource(),
+                false);
+        when(appointmentRepository.existsById(appointmentId)).thenReturn(true);
+        when(appointmentRepository.findStatsKeyById(appointmentId)).thenReturn(Optional.of(stored));
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+        appointment.setStatus(AppointmentStatus.COMPLETED);
+
+        appointmentService.update(appointment);
+
+        verify(dailyStatsService).move(stored, appointment.statsKey());
+    }
 }
@@ -0,0 +1,141 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.dto.response.DayAvailabilityResponse;
+import by.bsuir.mis.entity.*;
+import by.bsuir.mis.entity.enums.ExceptionType;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.repository.projection.DailyBookedMinutes;
+import by.bsuir.mis.service.CalendarService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceImplTest {
+
+    @Mock
+    private DoctorScheduleRepository doctorScheduleRepository;
+
+    @Mock
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private OccupancyService occupancyService;
+
+    @InjectMocks
+    private AvailabilityServiceImpl availabilityService;
+
+    private YearMonth month;
+    private Employee doctor;
+    private Employee otherDoctor;
+
+    @BeforeEach
+    void setUp() {
+        month = YearMonth.now().plusMonths(2);
+        doctor = Employee.builder().id(UUID.randomUUID()).build();
+        otherDoctor = Employee.builder().id(UUID.randomUUID()).build();
+    }
+
+    @Test
+    void getMonthAvailability_ShouldSubtractBookedMinutesFromCapacity() {
+        LocalDate firstMonday = month.atDay(1).with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(
+                        anyCollection(), eq(month.atDay(1)), eq(month.atEndOfMonth())))
+                .thenReturn(List.of(
+                        schedule(doctor, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                        schedule(otherDoctor, DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(15, 0))));
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(anyCollection(), any(), any()))
+                .thenReturn(List.of(ScheduleException.builder()
+                        .employee(otherDoctor)
+                        .exceptionType(ExceptionType.VACATION)
+                        .dateFrom(firstMonday.plusWeeks(1))
+                        .dateTo(firstMonday.plusWeeks(1))
+                        .build()));
+        when(appointmentRepository.sumBookedMinutesByEmployeeAndDate(anyCollection(), any(), any()))
+                .thenReturn(List.of(booked(doctor.getId(), firstMonday, 45)));
+
+        List<DayAvailabilityResponse> days =
+                availabilityService.getMonthAvailability(List.of(doctor.getId(), otherDoctor.getId()), null, month);
+
+        assertEquals(month.lengthOfMonth(), days.size());
+        DayAvailabilityResponse firstWeek = days.get(firstMonday.getDayOfMonth() - 1);
+        assertEquals(firstMonday, firstWeek.date());
+        assertEquals(4 + 2, firstWeek.freeSlots());
+        assertEquals(2, firstWeek.workingDoctors());
+        DayAvailabilityResponse secondWeek = days.get(firstMonday.plusWeeks(1).getDayOfMonth() - 1);
+        assertEquals(6, secondWeek.freeSlots());
+        assertEquals(1, secondWeek.workingDoctors());
+        assertEquals(0, days.get(firstMonday.plusDays(1).getDayOfMonth() - 1).freeSlots());
+        verifyNoInteractions(calendarService, occupancyService);
+    }
+
+    @Test
+    void getMonthAvailability_WhenMonthInPast_ShouldNotQuery() {
+        List<DayAvailabilityResponse> days = availabilityService.getMonthAvailability(
+                List.of(doctor.getId()), null, YearMonth.now().minusMonths(1));
+
+        assertTrue(days.stream().allMatch(day -> day.freeSlots() == 0));
+        verifyNoInteractions(doctorScheduleRepository, appointmentRepository);
+    }
+
+    @Test
+    void estimateFreeSlots_ShouldNotGoBelowZero() {
+        DoctorSchedule schedule = schedule(doctor, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        assertEquals(2, AvailabilityServiceImpl.estimateFreeSlots(List.of(schedule), 20, 15));
+        assertEquals(0, AvailabilityServiceImpl.estimateFreeSlots(List.of(schedule), 20, 90));
+    }
+
+    private DoctorSchedule schedule(Employee employee, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        return DoctorSchedule.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .dayOfWeek(dayOfWeek.getValue())
+                .startTime(startTime)
+                .endTime(endTime)
+                .effectiveFrom(month.atDay(1).minusMonths(1))
+                .build();
+    }
+
+    private static DailyBookedMinutes booked(UUID employeeId, LocalDate date, long minutes) {
+        return new DailyBookedMinutes() {
+            @Override
+            public UUID getEmployeeId() {
+                return employeeId;
+            }
+
+            @Override
+            public LocalDate getAppointmentDate() {
+                return date;
+            }
+
+            @Override
+            public long getBookedMinutes() {
+                return minutes;
+            }
+        };
+    }
+}
@@ -0,0 +1,275 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.entity.User;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceAlreadyExistsException;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.service.AppointmentService;
+import by.bsuir.mis.service.AppointmentStatusHistoryService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private DoctorScheduleRepository doctorScheduleRepository;
+
+    @Mock
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Mock
+    private AppointmentService appointmentService;
+
+    @Mock
+    private AppointmentStatusHistoryService statusHistoryService;
+
+    @Mock
+    private OccupancyService occupancyService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BookingServiceImpl bookingService;
+
+    private UUID employeeId;
+    private LocalDate date;
+    private Appointment appointment;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+        date = LocalDate.now().plusDays(1);
+
+        appointment = Appointment.builder()
+                .employee(Employee.builder().id(employeeId).build())
+                .appointmentDate(date)
+                .startTime(date.atTime(10, 0))
+                .endTime(date.atTime(10, 30))
+                .status(AppointmentStatus.WAITING)
+                .build();
+    }
+
+    @Test
+    void book_WhenFree_ShouldLockCheckAndSave() {
+        when(occupancyService.isFree(employeeId, date, appointment.getStartTime(), appointment.getEndTime(), null))
+                .thenReturn(true);
+        when(appointmentRepository.findOverlappingAppointments(
+                        employeeId, date, appointment.getStartTime(), appointment.getEndTime()))
+                .thenReturn(List.of());
+        when(appointmentService.save(appointment)).thenReturn(appointment);
+
+        Appointment result = bookingService.book(appointment);
+
+        assertSame(appointment, result);
+        InOrder inOrder = inOrder(appointmentRepository, appointmentService);
+        inOrder.verify(appointmentRepository).acquireAdvisoryLock(BookingServiceImpl.advisoryKey(employeeId, date));
+        inOrder.verify(appointmentRepository)
+                .findOverlappingAppointments(employeeId, date, appointment.getStartTime(), appointment.getEndTime());
+        inOrder.verify(appointmentService).save(appointment);
+    }
+
+    @Test
+    void book_WhenIndexIsStaleButDatabaseIsFree_ShouldRefreshIndexAndSave() {
+        when(occupancyService.isFree(employeeId, date, appointment.getStartTime(), appointment.getEndTime(), null))
+                .thenReturn(false);
+        when(appointmentRepository.findOverlappingAppointments(
+                        employeeId, date, appointment.getStartTime(), appointment.getEndTime()))
+                .thenReturn(List.of());
+        when(occupancyService.refresh(employeeId, date)).thenReturn(new DayOccupancy());
+        when(appointmentService.save(appointment)).thenReturn(appointment);
+
+        assertSame(appointment, bookingService.book(appointment));
+        verify(occupancyService).refresh(employeeId, date);
+    }
+
+    @Test
+    void book_WhenSlotIsHeld_ShouldThrowConflict() {
+        DayOccupancy day = new DayOccupancy();
+        day.occupy(UUID.randomUUID(), 10 * 60, 10 * 60 + 30);
+        when(occupancyService.isFree(employeeId, date, appointment.getStartTime(), appointment.getEndTime(), null))
+                .thenReturn(false);
+        when(appointmentRepository.findOverlappingAppointments(
+                        employeeId, date, appointment.getStartTime(), appointment.getEndTime()))
+                .thenReturn(List.of());
+        when(occupancyService.refresh(employeeId, date)).thenReturn(day);
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> bookingService.book(appointment));
+        verify(appointmentService, never()).save(any());
+    }
+
+    @Test
+    void book_WhenConcurrentBookingCommitted_ShouldThrowConflict() {
+        when(occupancyService.isFree(employeeId, date, appointment.getStartTime(), appointment.getEndTime(), null))
+                .thenReturn(true);
+        when(appointmentRepository.findOverlappingAppointments(
+                        employeeId, date, appointment.getStartTime(), appointment.getEndTime()))
+                .thenReturn(List.of(Appointment.builder().id(UUID.randomUUID()).build()));
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> bookingService.book(appointment));
+        verify(appointmentService, never()).save(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void book_WhenMovingExistingAppointment_ShouldIgnoreItself() {
+        appointment.setId(UUID.randomUUID());
+        when(occupancyService.isFree(
+                        employeeId, date, appointment.getStartTime(), appointment.getEndTime(), appointment.getId()))
+                .thenReturn(true);
+        when(appointmentRepository.findOverlappingAppointments(
+                        employeeId, date, appointment.getStartTime(), appointment.getEndTime()))
+                .thenReturn(List.of(appointment));
+        when(appointmentService.update(appointment)).thenReturn(appointment);
+
+        assertSame(appointment, bookingService.book(appointment));
+        verify(appointmentService, never()).save(any());
+    }
+
+    @Test
+    void advisoryKey_ShouldDifferByDate() {
+        assertNotEquals(
+                BookingServiceImpl.advisoryKey(employeeId, date),
+                BookingServiceImpl.advisoryKey(employeeId, date.plusDays(1)));
+    }
+
+    @Test
+    void bookSeries_WhenAllOccurrencesFree_ShouldSaveAllInOneBatch() {
+        List<LocalDate> dates = List.of(date, date.plusWeeks(1), date.plusWeeks(2));
+        DoctorSchedule schedule = weeklySchedule();
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(List.of(employeeId), date, date.plusWeeks(2)))
+                .thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(List.of(employeeId), date, date.plusWeeks(2)))
+                .thenReturn(List.of());
+        when(appointmentRepository.findActiveByEmployeeIdsAndDateRange(List.of(employeeId), date, date.plusWeeks(2)))
+                .thenReturn(List.of(Appointment.builder()
+                        .appointmentDate(date)
+                        .startTime(date.atTime(11, 0))
+                        .endTime(date.atTime(11, 30))
+                        .build()));
+        when(appointmentService.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Appointment> result =
+                bookingService.bookSeries(appointment, LocalTime.of(10, 0), LocalTime.of(10, 30), dates);
+
+        assertEquals(3, result.size());
+        assertEquals(date.plusWeeks(2).atTime(10, 0), result.get(2).getStartTime());
+        assertSame(schedule, result.get(0).getSchedule());
+        verify(appointmentRepository, times(3)).acquireAdvisoryLock(anyLong());
+        verify(appointmentService, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void bookSeries_WhenOneOccurrenceConflicts_ShouldSaveNothing() {
+        List<LocalDate> dates = List.of(date, date.plusWeeks(1));
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(any(), any(), any()))
+                .thenReturn(List.of(weeklySchedule()));
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(any(), any(), any()))
+                .thenReturn(List.of());
+        when(appointmentRepository.findActiveByEmployeeIdsAndDateRange(any(), any(), any()))
+                .thenReturn(List.of(Appointment.builder()
+                        .id(UUID.randomUUID())
+                        .appointmentDate(date.plusWeeks(1))
+                        .startTime(date.plusWeeks(1).atTime(10, 15))
+                        .endTime(date.plusWeeks(1).atTime(10, 45))
+                        .build()));
+
+        ResourceAlreadyExistsException ex = assertThrows(
+                ResourceAlreadyExistsException.class,
+                () -> bookingService.bookSeries(appointment, LocalTime.of(10, 0), LocalTime.of(10, 30), dates));
+
+        assertTrue(ex.getMessage().contains(date.plusWeeks(1).toString()));
+        verify(appointmentService, never()).saveAll(any());
+    }
+
+    @Test
+    void bookSeries_WhenDoctorOnLeave_ShouldThrowBadRequest() {
+        List<LocalDate> dates = List.of(date, date.plusWeeks(1));
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(any(), any(), any()))
+                .thenReturn(List.of(weeklySchedule()));
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(any(), any(), any()))
+                .thenReturn(List.of(
+                        ScheduleException.builder().dateFrom(date).dateTo(date).build()));
+        when(appointmentRepository.findActiveByEmployeeIdsAndDateRange(any(), any(), any()))
+                .thenReturn(List.of());
+
+        assertThrows(
+                BadRequestException.class,
+                () -> bookingService.bookSeries(appointment, LocalTime.of(10, 0), LocalTime.of(10, 30), dates));
+        verify(appointmentService, never()).saveAll(any());
+    }
+
+    @Test
+    void reassign_ShouldUpdateAllAndWriteHistory() {
+        appointment.setId(UUID.randomUUID());
+        User receptionist = User.builder().id(UUID.randomUUID()).build();
+        when(appointmentRepository.findActiveByEmployeeIdsAndDateRange(List.of(employeeId), date, date))
+                .thenReturn(List.of(appointment));
+        when(appointmentService.updateAll(List.of(appointment))).thenReturn(List.of(appointment));
+
+        List<Appointment> result = bookingService.reassign(List.of(appointment), receptionist, "Vacation");
+
+        assertEquals(List.of(appointment), result);
+        verify(appointmentRepository).acquireAdvisoryLock(BookingServiceImpl.advisoryKey(employeeId, date));
+        verify(statusHistoryService)
+                .saveAll(argThat(histories -> histories.size() == 1
+                        && histories.get(0).getChangedBy() == receptionist
+                        && "Vacation".equals(histories.get(0).getChangeReason())));
+    }
+
+    @Test
+    void reassign_WhenTargetsOverlapEachOther_ShouldThrowConflict() {
+        appointment.setId(UUID.randomUUID());
+        Appointment other = Appointment.builder()
+                .id(UUID.randomUUID())
+                .employee(appointment.getEmployee())
+                .appointmentDate(date)
+                .startTime(date.atTime(10, 15))
+                .endTime(date.atTime(10, 45))
+                .build();
+        when(appointmentRepository.findActiveByEmployeeIdsAndDateRange(any(), any(), any()))
+                .thenReturn(List.of());
+
+        assertThrows(
+                ResourceAlreadyExistsException.class,
+                () -> bookingService.reassign(List.of(appointment, other), new User(), "Vacation"));
+        verify(appointmentService, never()).updateAll(any());
+    }
+
+    private DoctorSchedule weeklySchedule() {
+        return DoctorSchedule.builder()
+                .id(UUID.randomUUID())
+                .dayOfWeek(date.getDayOfWeek().getValue())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(13, 0))
+                .effectiveFrom(date.minusMonths(1))
+                .build();
+    }
+}
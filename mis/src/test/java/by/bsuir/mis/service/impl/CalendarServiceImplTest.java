@@ -0,0 +1,210 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.*;
+import by.bsuir.mis.entity.enums.ExceptionType;
+import by.bsuir.mis.event.ScheduleChangedEvent;
+import by.bsuir.mis.event.ServiceDurationChangedEvent;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.repository.ServiceDurationRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarServiceImplTest {
+
+    @Mock
+    private DoctorScheduleRepository doctorScheduleRepository;
+
+    @Mock
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Mock
+    private ServiceDurationRepository serviceDurationRepository;
+
+    @InjectMocks
+    private CalendarServiceImpl calendarService;
+
+    private Employee employee;
+    private LocalDate date;
+    private DoctorSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        employee = Employee.builder().id(UUID.randomUUID()).build();
+        date = LocalDate.now().plusDays(2);
+
+        schedule = DoctorSchedule.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .dayOfWeek(date.getDayOfWeek().getValue())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(11, 0))
+                .cabinet("101")
+                .effectiveFrom(date.minusMonths(1))
+                .build();
+    }
+
+    @Test
+    void getWorkingSchedules_BeforeRefresh_ShouldLoadFromDatabase() {
+        when(scheduleExceptionRepository.findByEmployeeIdOnDate(employee.getId(), date))
+                .thenReturn(List.of());
+        when(doctorScheduleRepository.findActiveByEmployeeAndDayOnDate(
+                        employee.getId(), date.getDayOfWeek().getValue(), date))
+                .thenReturn(List.of(schedule));
+
+        assertEquals(List.of(schedule), calendarService.getWorkingSchedules(employee.getId(), date));
+    }
+
+    @Test
+    void getWorkingSchedules_AfterRefresh_ShouldServeFromMemoryAndSkipExceptions() {
+        when(doctorScheduleRepository.findActiveInDateRange(any(), any())).thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findInDateRange(any(), any())).thenReturn(List.of(exception(date)));
+
+        calendarService.refresh();
+
+        assertTrue(calendarService.getWorkingSchedules(employee.getId(), date).isEmpty());
+        assertEquals(List.of(schedule), calendarService.getWorkingSchedules(employee.getId(), date.plusDays(7)));
+        assertTrue(calendarService
+                .getWorkingSchedules(employee.getId(), date.plusDays(1))
+                .isEmpty());
+        verify(doctorScheduleRepository, never()).findActiveByEmployeeAndDayOnDate(any(), any(), any());
+        verify(scheduleExceptionRepository, never()).findByEmployeeIdOnDate(any(), any());
+    }
+
+    @Test
+    void refresh_WhenDatabaseUnavailable_ShouldKeepServingFromDatabase() {
+        when(doctorScheduleRepository.findActiveInDateRange(any(), any()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        when(scheduleExceptionRepository.findByEmployeeIdOnDate(employee.getId(), date))
+                .thenReturn(List.of(exception(date)));
+
+        calendarService.refresh();
+
+        assertTrue(calendarService.getWorkingSchedules(employee.getId(), date).isEmpty());
+    }
+
+    @Test
+    void getSlotGrid_ShouldBuildOncePerDateAndDuration() {
+        when(doctorScheduleRepository.findActiveInDateRange(any(), any())).thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findInDateRange(any(), any())).thenReturn(List.of());
+        calendarService.refresh();
+
+        List<SlotResponse> first = calendarService.getSlotGrid(employee.getId(), date, 30);
+        List<SlotResponse> second = calendarService.getSlotGrid(employee.getId(), date, 30);
+
+        assertEquals(4, first.size());
+        assertSame(first, second);
+        assertEquals(2, calendarService.getSlotGrid(employee.getId(), date, 60).size());
+    }
+
+    @Test
+    void getWorkingSchedules_ForRange_ShouldServeWindowAndBulkLoadTheRest() {
+        when(doctorScheduleRepository.findActiveInDateRange(any(), any())).thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findInDateRange(any(), any())).thenReturn(List.of());
+        calendarService.refresh();
+        LocalDate today = LocalDate.now();
+        LocalDate beyondWindow = today.plusDays(CalendarServiceImpl.HORIZON_DAYS);
+        LocalDate endDate = today.plusDays(59);
+        List<UUID> employeeIds = List.of(employee.getId(), UUID.randomUUID());
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(employeeIds, beyondWindow, endDate))
+                .thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(employeeIds, beyondWindow, endDate))
+                .thenReturn(List.of(exception(date.plusDays(28))));
+
+        Map<UUID, Map<LocalDate, List<DoctorSchedule>>> result =
+                calendarService.getWorkingSchedules(employeeIds, today, endDate);
+
+        Map<LocalDate, List<DoctorSchedule>> days = result.get(employee.getId());
+        assertEquals(List.of(schedule), days.get(date));
+        assertEquals(List.of(schedule), days.get(date.plusDays(21)));
+        assertFalse(days.containsKey(date.plusDays(28)));
+        assertTrue(result.get(employeeIds.get(1)).isEmpty());
+        verify(doctorScheduleRepository, times(1)).findActiveByEmployeeIdsInDateRange(any(), any(), any());
+        verify(scheduleExceptionRepository, times(1)).findByEmployeeIdsInDateRange(any(), any(), any());
+        verify(doctorScheduleRepository, never()).findActiveByEmployeeAndDayOnDate(any(), any(), any());
+    }
+
+    @Test
+    void apply_WhenScheduleChanged_ShouldReloadEmployee() {
+        when(doctorScheduleRepository.findActiveInDateRange(any(), any())).thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findInDateRange(any(), any())).thenReturn(List.of());
+        calendarService.refresh();
+        List<SlotResponse> before = calendarService.getSlotGrid(employee.getId(), date, 30);
+
+        schedule.setEndTime(LocalTime.of(10, 0));
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(eq(List.of(employee.getId())), any(), any()))
+                .thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(eq(List.of(employee.getId())), any(), any()))
+                .thenReturn(List.of());
+        calendarService.apply(new ScheduleChangedEvent(employee.getId(), schedule.getId()));
+
+        assertEquals(4, before.size());
+        assertEquals(2, calendarService.getSlotGrid(employee.getId(), date, 30).size());
+    }
+
+    @Test
+    void apply_WhenScheduleMovedToAnotherDoctor_ShouldReloadPreviousOwner() {
+        when(doctorScheduleRepository.findActiveInDateRange(any(), any())).thenReturn(List.of(schedule));
+        when(scheduleExceptionRepository.findInDateRange(any(), any())).thenReturn(List.of());
+        calendarService.refresh();
+
+        Employee otherDoctor = Employee.builder().id(UUID.randomUUID()).build();
+        schedule.setEmployee(otherDoctor);
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(
+                        eq(List.of(otherDoctor.getId())), any(), any()))
+                .thenReturn(List.of(schedule));
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(eq(List.of(employee.getId())), any(), any()))
+                .thenReturn(List.of());
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(anyCollection(), any(), any()))
+                .thenReturn(List.of());
+        calendarService.apply(new ScheduleChangedEvent(otherDoctor.getId(), schedule.getId()));
+
+        assertTrue(calendarService.getWorkingSchedules(employee.getId(), date).isEmpty());
+        assertEquals(List.of(schedule), calendarService.getWorkingSchedules(otherDoctor.getId(), date));
+    }
+
+    @Test
+    void getDurationMin_ShouldCacheUntilDurationChanged() {
+        UUID serviceId = UUID.randomUUID();
+        when(serviceDurationRepository.findByService_Id(serviceId))
+                .thenReturn(List.of(ServiceDuration.builder()
+                        .durationMin(20)
+                        .effectiveFrom(date.minusMonths(1))
+                        .build()))
+                .thenReturn(List.of());
+
+        assertEquals(20, calendarService.getDurationMin(serviceId, date));
+        assertEquals(20, calendarService.getDurationMin(serviceId, date));
+
+        calendarService.apply(new ServiceDurationChangedEvent(serviceId));
+
+        assertEquals(SlotGrid.DEFAULT_DURATION_MIN, calendarService.getDurationMin(serviceId, date));
+        verify(serviceDurationRepository, times(2)).findByService_Id(serviceId);
+    }
+
+    private ScheduleException exception(LocalDate day) {
+        return ScheduleException.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .exceptionType(ExceptionType.SICK_LEAVE)
+                .dateFrom(day)
+                .dateTo(day)
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.MedicalSpecialty;
+import by.bsuir.mis.entity.Service;
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.event.AppointmentChangedEvent.ChangeType;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ServiceStatistics;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.ServiceRepository;
+import by.bsuir.mis.repository.projection.AppointmentFact;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarStatisticsServiceImplTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ServiceRepository serviceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ColumnarStatisticsServiceImpl columnarStatisticsService;
+
+    private UUID employeeId;
+    private UUID serviceId;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+        serviceId = UUID.randomUUID();
+        date = LocalDate.of(2025, 3, 3);
+    }
+
+    @Test
+    void reload_ShouldLoadFactsAndAggregateByDateAndStatus() {
+        List<AppointmentFact> facts = List.of(
+                fact(date, AppointmentStatus.COMPLETED, true),
+                fact(date, AppointmentStatus.NO_SHOW, false),
+                fact(date.plusDays(2), AppointmentStatus.COMPLETED, false),
+                fact(date.plusDays(40), AppointmentStatus.COMPLETED, false));
+        when(appointmentRepository.streamFacts()).thenReturn(facts.stream());
+
+        assertEquals(4, columnarStatisticsService.reload());
+
+        Map<LocalDate, Long> byDate = columnarStatisticsService.countByDate(date, date.plusDays(2));
+        assertEquals(List.of(2L, 0L, 1L), List.copyOf(byDate.values()));
+        assertEquals(
+                Map.of(AppointmentStatus.COMPLETED, 3L, AppointmentStatus.NO_SHOW, 1L),
+                columnarStatisticsService.countByStatus(null, null));
+        assertEquals(
+                Map.of(AppointmentSource.ONLINE, 3L), columnarStatisticsService.countBySource(date, date.plusDays(2)));
+
+        BucketedCounts byMonth = columnarStatisticsService.countByPeriod(date, date.plusDays(40), Granularity.MONTH);
+        assertEquals(Map.of(LocalDate.of(2025, 3, 1), 3L, LocalDate.of(2025, 4, 1), 1L), byMonth.counts());
+    }
+
+    @Test
+    void onAppointmentChanged_ShouldUpdateRowsInPlaceAndRemoveDeleted() {
+        UUID appointmentId = UUID.randomUUID();
+        when(appointmentRepository.streamFacts()).thenReturn(Stream.empty());
+        columnarStatisticsService.reload();
+
+        columnarStatisticsService.onAppointmentChanged(
+                event(ChangeType.CREATED, appointmentId, AppointmentStatus.WAITING));
+        columnarStatisticsService.onAppointmentChanged(
+                event(ChangeType.UPDATED, appointmentId, AppointmentStatus.COMPLETED));
+
+        assertEquals(1, columnarStatisticsService.size());
+        assertEquals(Map.of(AppointmentStatus.COMPLETED, 1L), columnarStatisticsService.countByStatus(date, date));
+
+        columnarStatisticsService.onAppointmentChanged(AppointmentChangedEvent.deleted(appointmentId));
+
+        assertEquals(0, columnarStatisticsService.size());
+        assertTrue(columnarStatisticsService.countByStatus(date, date).isEmpty());
+    }
+
+    @Test
+    void reload_WhenEventsCommitDuringStream_ShouldReplayThemOntoNewStore() {
+        UUID createdId = UUID.randomUUID();
+        AppointmentFact fact = fact(date, AppointmentStatus.WAITING, false);
+        when(appointmentRepository.streamFacts())
+                .thenReturn(Stream.of(fact)
+                        .peek(loaded -> columnarStatisticsService.onAppointmentChanged(
+                                event(ChangeType.CREATED, createdId, AppointmentStatus.COMPLETED))));
+
+        assertEquals(2, columnarStatisticsService.reload());
+        assertEquals(
+                Map.of(AppointmentStatus.WAITING, 1L, AppointmentStatus.COMPLETED, 1L),
+                columnarStatisticsService.countByStatus(date, date));
+    }
+
+    @Test
+    void countByEmployeeAndService_ShouldResolveNamesForDictionaryIds() {
+        List<AppointmentFact> facts =
+                List.of(fact(date, AppointmentStatus.COMPLETED, true), fact(date, AppointmentStatus.NO_SHOW, false));
+        when(appointmentRepository.streamFacts()).thenReturn(facts.stream());
+        columnarStatisticsService.reload();
+        when(employeeRepository.findAllById(any()))
+                .thenReturn(List.of(Employee.builder()
+                        .id(employeeId)
+                        .lastName("Иванов")
+                        .firstName("Иван")
+                        .specialty(MedicalSpecialty.builder().name("Терапевт").build())
+                        .build()));
+        when(serviceRepository.findAllById(any()))
+                .thenReturn(
+                        List.of(Service.builder().id(serviceId).name("Осмотр").build()));
+
+        List<EmployeeStatistics> byEmployee = columnarStatisticsService.countByEmployee(date, date);
+        List<ServiceStatistics> byService = columnarStatisticsService.countByService(date, date);
+
+        assertEquals(1, byEmployee.size());
+        assertEquals("Иванов Иван", byEmployee.getFirst().fullName());
+        assertEquals("Терапевт", byEmployee.getFirst().specialty());
+        assertEquals(2, byEmployee.getFirst().total());
+        assertEquals(1L, byEmployee.getFirst().byStatus().get(AppointmentStatus.NO_SHOW));
+        assertEquals(List.of(new ServiceStatistics(serviceId, "Осмотр", 2, 1)), byService);
+    }
+
+    private AppointmentFact fact(LocalDate day, AppointmentStatus status, boolean paid) {
+        AppointmentFact fact = mock(AppointmentFact.class);
+        when(fact.getId()).thenReturn(UUID.randomUUID());
+        when(fact.getAppointmentDate()).thenReturn(day);
+        when(fact.getStatus()).thenReturn(status);
+        when(fact.getSource()).thenReturn(AppointmentSource.ONLINE);
+        when(fact.getEmployeeId()).thenReturn(employeeId);
+        when(fact.getServiceId()).thenReturn(serviceId);
+        when(fact.getPatientId()).thenReturn(UUID.randomUUID());
+        when(fact.getIsPaid()).thenReturn(paid);
+        return fact;
+    }
+
+    private AppointmentChangedEvent event(ChangeType type, UUID appointmentId, AppointmentStatus status) {
+        return new AppointmentChangedEvent(
+                type,
+                appointmentId,
+                employeeId,
+                serviceId,
+                date,
+                date.atTime(9, 0),
+                date.atTime(9, 30),
+                status,
+                UUID.randomUUID(),
+                AppointmentSource.PHONE,
+                false);
+    }
+}
@@ -0,0 +1,85 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.AppointmentDailyStatsId;
+import by.bsuir.mis.entity.enums.AppointmentSource;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.repository.AppointmentDailyStatsRepository;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DailyStatsServiceImplTest {
+
+    @Mock
+    private AppointmentDailyStatsRepository dailyStatsRepository;
+
+    @InjectMocks
+    private DailyStatsServiceImpl dailyStatsService;
+
+    private AppointmentDailyStatsId waiting;
+    private AppointmentDailyStatsId completed;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        UUID employeeId = UUID.randomUUID();
+        UUID serviceId = UUID.randomUUID();
+        waiting = new AppointmentDailyStatsId(
+                date, employeeId, serviceId, AppointmentStatus.WAITING, AppointmentSource.ONLINE, false);
+        completed = new AppointmentDailyStatsId(
+                date, employeeId, serviceId, AppointmentStatus.COMPLETED, AppointmentSource.ONLINE, false);
+    }
+
+    @Test
+    void move_ShouldDecrementOldKeyAndIncrementNewKey() {
+        dailyStatsService.move(waiting, completed);
+
+        verify(dailyStatsRepository).adjust(any(), any(), any(), eq("WAITING"), eq("ONLINE"), eq(false), eq(-1L));
+        verify(dailyStatsRepository).adjust(any(), any(), any(), eq("COMPLETED"), eq("ONLINE"), eq(false), eq(1L));
+    }
+
+    @Test
+    void move_WhenKeyUnchanged_ShouldNotTouchRollup() {
+        dailyStatsService.move(
+                waiting,
+                new AppointmentDailyStatsId(
+                        waiting.getStatDate(),
+                        waiting.getEmployeeId(),
+                        waiting.getServiceId(),
+                        waiting.getStatus(),
+                        waiting.getSource(),
+                        waiting.getIsPaid()));
+
+        verifyNoInteractions(dailyStatsRepository);
+    }
+
+    @Test
+    void move_WhenNoRecordedKey_ShouldOnlyIncrement() {
+        dailyStatsService.move(null, completed);
+
+        verify(dailyStatsRepository, times(1)).adjust(any(), any(), any(), any(), any(), anyBoolean(), anyLong());
+    }
+
+    @Test
+    void rebuild_ShouldLockAppointmentsBeforeReplacingRows() {
+        when(dailyStatsRepository.insertFromAppointments()).thenReturn(12);
+
+        assertEquals(12, dailyStatsService.rebuild());
+
+        InOrder inOrder = inOrder(dailyStatsRepository);
+        inOrder.verify(dailyStatsRepository).lockAppointments();
+        inOrder.verify(dailyStatsRepository).deleteAllRows();
+        inOrder.verify(dailyStatsRepository).insertFromAppointments();
+    }
+}
@@ -0,0 +1,111 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.DashboardCounters;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.PatientRepository;
+import by.bsuir.mis.service.StatisticsService;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceImplTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @InjectMocks
+    private DashboardServiceImpl dashboardService;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        when(patientRepository.count()).thenReturn(10L);
+        when(employeeRepository.count()).thenReturn(4L);
+        when(employeeRepository.countByIsActive(true)).thenReturn(3L);
+        when(statisticsService.countByStatus(today, today)).thenReturn(Map.of(AppointmentStatus.WAITING, 2L));
+    }
+
+    @Test
+    void getCounters_ShouldSeedOnceAndServeFromMemory() {
+        DashboardCounters first = dashboardService.getCounters();
+        DashboardCounters second = dashboardService.getCounters();
+
+        assertEquals(10, first.totalPatients());
+        assertEquals(3, first.activeEmployees());
+        assertEquals(2, second.todayAppointments());
+        verify(patientRepository, times(1)).count();
+        verify(statisticsService, times(1)).countByStatus(today, today);
+    }
+
+    @Test
+    void appointmentsChanged_ShouldMoveTodayCountsBetweenStatuses() {
+        dashboardService.reconcile();
+
+        dashboardService.appointmentsChanged(today, AppointmentStatus.WAITING, -1);
+        dashboardService.appointmentsChanged(today, AppointmentStatus.COMPLETED, 1);
+        dashboardService.appointmentsChanged(today.plusDays(1), AppointmentStatus.WAITING, 1);
+
+        DashboardCounters counters = dashboardService.getCounters();
+        assertEquals(Map.of(AppointmentStatus.WAITING, 1L, AppointmentStatus.COMPLETED, 1L), counters.todayByStatus());
+        assertEquals(2, counters.todayAppointments());
+    }
+
+    @Test
+    void patientsChanged_ShouldAdjustWithoutQuery() {
+        dashboardService.reconcile();
+
+        dashboardService.patientsChanged(1);
+        dashboardService.patientsChanged(1);
+        dashboardService.patientsChanged(-1);
+
+        assertEquals(11, dashboardService.getCounters().totalPatients());
+        verify(patientRepository, times(1)).count();
+    }
+
+    @Test
+    void employeesChanged_ShouldAdjustWithoutQuery() {
+        dashboardService.reconcile();
+
+        dashboardService.employeesChanged(1, 1);
+        dashboardService.employeesChanged(0, -2);
+
+        DashboardCounters counters = dashboardService.getCounters();
+        assertEquals(5, counters.totalEmployees());
+        assertEquals(2, counters.activeEmployees());
+        verify(employeeRepository, times(1)).count();
+        verify(employeeRepository, times(1)).countByIsActive(true);
+    }
+
+    @Test
+    void reconcile_WhenChangesCommitDuringReload_ShouldReplayThemOntoFreshCounters() {
+        when(statisticsService.countByStatus(today, today)).thenAnswer(invocation -> {
+            dashboardService.patientsChanged(1);
+            dashboardService.appointmentsChanged(today, AppointmentStatus.COMPLETED, 1);
+            return Map.of(AppointmentStatus.WAITING, 2L);
+        });
+
+        dashboardService.reconcile();
+
+        DashboardCounters counters = dashboardService.getCounters();
+        assertEquals(11, counters.totalPatients());
+        assertEquals(Map.of(AppointmentStatus.WAITING, 2L, AppointmentStatus.COMPLETED, 1L), counters.todayByStatus());
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import by.bsuir.mis.entity.DoctorSchedule;
 import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.event.ScheduleChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.DoctorScheduleRepository;
 import java.time.LocalDate;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DoctorScheduleServiceImplTest {
@@ -26,6 +28,9 @@ class DoctorScheduleServiceImplTest {
     @Mock
     private DoctorScheduleRepository doctorScheduleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DoctorScheduleServiceImpl doctorScheduleService;
 
@@ -132,6 +137,7 @@ class DoctorScheduleServiceImplTest {
 
         assertNotNull(result);
         verify(doctorScheduleRepository, times(1)).save(schedule);
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(employeeId, scheduleId));
     }
 
     @Test
@@ -143,18 +149,19 @@ class DoctorScheduleServiceImplTest {
 
     @Test
     void deleteById_WhenExists_ShouldDelete() {
-        when(doctorScheduleRepository.existsById(scheduleId)).thenReturn(true);
-        doNothing().when(doctorScheduleRepository).deleteById(scheduleId);
+        when(doctorScheduleRepository.findById(scheduleId)).thenReturn(Optional.of(schedule));
 
         doctorScheduleService.deleteById(scheduleId);
 
-        verify(doctorScheduleRepository, times(1)).deleteById(scheduleId);
+        verify(doctorScheduleRepository, times(1)).delete(schedule);
+        verify(eventPublisher).publishEvent(any(ScheduleChangedEvent.class));
     }
 
     @Test
     void deleteById_WhenNotExists_ShouldThrowException() {
-        when(doctorScheduleRepository.existsById(scheduleId)).thenReturn(false);
+        when(doctorScheduleRepository.findById(scheduleId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> doctorScheduleService.deleteById(scheduleId));
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -5,8 +5,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import by.bsuir.mis.entity.*;
+import by.bsuir.mis.event.AppointmentChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.*;
+import by.bsuir.mis.service.DailyStatsService;
+import by.bsuir.mis.service.DashboardService;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceImplTest {
@@ -39,6 +43,15 @@ class EmployeeServiceImplTest {
     @Mock
     private AppointmentStatusHistoryRepository appointmentStatusHistoryRepository;
 
+    @Mock
+    private DailyStatsService dailyStatsService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -148,6 +161,19 @@ class EmployeeServiceImplTest {
         verify(employeeRepository, times(1)).save(employee);
     }
 
+    @Test
+    void update_WhenDeactivated_ShouldReportActiveDelta() {
+        employee.markActiveRecorded();
+        employee.setIsActive(false);
+        when(employeeRepository.existsById(employeeId)).thenReturn(true);
+        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+
+        employeeService.update(employee);
+
+        verify(dashboardService).employeesChanged(0, -1);
+        verify(employeeRepository, never()).findIsActiveById(any());
+    }
+
     @Test
     void update_WhenNotExists_ShouldThrowException() {
         when(employeeRepository.existsById(employeeId)).thenReturn(false);
@@ -157,7 +183,7 @@ class EmployeeServiceImplTest {
 
     @Test
     void deleteById_WhenExists_ShouldDeleteWithRelatedData() {
-        when(employeeRepository.existsById(employeeId)).thenReturn(true);
+        when(employeeRepository.findIsActiveById(employeeId)).thenReturn(Optional.of(true));
         when(appointmentRepository.findByEmployee_Id(employeeId)).thenReturn(List.of());
         when(doctorServiceRepository.findByEmployee_Id(employeeId)).thenReturn(List.of());
         when(doctorScheduleRepository.findByEmployee_Id(employeeId)).thenReturn(List.of());
@@ -167,11 +193,12 @@ class EmployeeServiceImplTest {
         employeeService.deleteById(employeeId);
 
         verify(employeeRepository, times(1)).deleteById(employeeId);
+        verify(dashboardService).employeesChanged(-1, -1);
     }
 
     @Test
     void deleteById_WhenNotExists_ShouldThrowException() {
-        when(employeeRepository.existsById(employeeId)).thenReturn(false);
+        when(employeeRepository.findIsActiveById(employeeId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteById(employeeId));
     }
@@ -184,7 +211,7 @@ class EmployeeServiceImplTest {
         AppointmentStatusHistory history =
                 AppointmentStatusHistory.builder().id(historyId).build();
 
-        when(employeeRepository.existsById(employeeId)).thenReturn(true);
+        when(employeeRepository.findIsActiveById(employeeId)).thenReturn(Optional.of(true));
         when(appointmentRepository.findByEmployee_Id(employeeId)).thenReturn(List.of(appointment));
         when(appointmentStatusHistoryRepository.findByAppointment_Id(appointmentId))
                 .thenReturn(List.of(history));
@@ -199,6 +226,7 @@ class EmployeeServiceImplTest {
 
         verify(appointmentStatusHistoryRepository, times(1)).deleteById(historyId);
         verify(appointmentRepository, times(1)).deleteById(appointmentId);
+        verify(eventPublisher).publishEvent(AppointmentChangedEvent.deleted(appointmentId));
     }
 
     @Test
@@ -0,0 +1,204 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.AppointmentFlowStats;
+import by.bsuir.mis.entity.AppointmentFlowStatsId;
+import by.bsuir.mis.entity.enums.FlowMetric;
+import by.bsuir.mis.model.FlowSummary;
+import by.bsuir.mis.model.LogHistogram;
+import by.bsuir.mis.repository.AppointmentFlowStatsRepository;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.projection.FlowSample;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class FlowStatsServiceImplTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private AppointmentFlowStatsRepository flowStatsRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private FlowStatsServiceImpl flowStatsService;
+
+    private UUID employeeId;
+    private UUID serviceId;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+        serviceId = UUID.randomUUID();
+        date = LocalDate.of(2025, 3, 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollup_ShouldStoreOneHistogramPerDayDoctorServiceAndMetric() {
+        LocalDateTime start = date.atTime(10, 0);
+        List<FlowSample> samples = List.of(
+                sample(start.minusDays(2), start, start.plusMinutes(5), start.plusMinutes(25)),
+                sample(start.minusDays(1), start, start.plusMinutes(15), null));
+        when(appointmentRepository.streamFlowSamples(date, date)).thenReturn(samples.stream());
+
+        int rows = flowStatsService.rollup(date, date);
+
+        assertEquals(3, rows);
+        verify(flowStatsRepository).deleteInDateRange(date, date);
+        ArgumentCaptor<List<AppointmentFlowStats>> captor = ArgumentCaptor.forClass(List.class);
+        verify(flowStatsRepository).saveAll(captor.capture());
+        Map<FlowMetric, Long> counts = captor.getValue().stream()
+                .collect(Collectors.toMap(row -> row.getId().getMetric(), AppointmentFlowStats::getSampleCount));
+        assertEquals(
+                Map.of(FlowMetric.LEAD_TIME, 2L, FlowMetric.START_DELAY, 2L, FlowMetric.VISIT_DURATION, 1L), counts);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollup_ShouldSaveEachDayAndUseOneTransactionPerMonth() {
+        LocalDate nextDay = date.plusDays(1);
+        LocalDate monthEnd = LocalDate.of(2025, 3, 31);
+        LocalDate dateTo = LocalDate.of(2025, 4, 10);
+        LocalDateTime start = date.atTime(10, 0);
+        List<FlowSample> samples = List.of(
+                sample(date, start.minusDays(1), start, null, null),
+                sample(nextDay, start.minusDays(1), start.plusDays(1), null, null),
+                sample(nextDay, start.minusDays(2), start.plusDays(1), null, null));
+        when(appointmentRepository.streamFlowSamples(date, monthEnd)).thenReturn(samples.stream());
+        when(appointmentRepository.streamFlowSamples(monthEnd.plusDays(1), dateTo))
+                .thenReturn(Stream.empty());
+
+        int rows = flowStatsService.rollup(date, dateTo);
+
+        assertEquals(2, rows);
+        verify(flowStatsRepository).deleteInDateRange(date, monthEnd);
+        verify(flowStatsRepository).deleteInDateRange(monthEnd.plusDays(1), dateTo);
+        verify(transactionManager, times(2)).getTransaction(any());
+        ArgumentCaptor<List<AppointmentFlowStats>> captor = ArgumentCaptor.forClass(List.class);
+        verify(flowStatsRepository, times(2)).saveAll(captor.capture());
+        assertEquals(
+                List.of(date, nextDay),
+                captor.getAllValues().stream()
+                        .map(saved -> saved.getFirst().getId().getStatDate())
+                        .toList());
+        assertEquals(2L, captor.getAllValues().get(1).getFirst().getSampleCount());
+    }
+
+    @Test
+    void getSummary_ShouldMergeStoredHistogramsAcrossDays() {
+        LogHistogram first = new LogHistogram();
+        for (int minutes = 1; minutes <= 90; minutes++) {
+            first.record(minutes);
+        }
+        LogHistogram second = new LogHistogram();
+        for (int i = 0; i < 10; i++) {
+            second.record(600);
+        }
+        when(flowStatsRepository.findInDateRange(date, date.plusDays(1), employeeId, null))
+                .thenReturn(List.of(row(date, first), row(date.plusDays(1), second)));
+
+        Map<FlowMetric, FlowSummary> summary = flowStatsService.getSummary(date, date.plusDays(1), employeeId, null);
+
+        FlowSummary delay = summary.get(FlowMetric.START_DELAY);
+        assertEquals(100, delay.count());
+        assertEquals(50, delay.p50(), 50 * 0.07);
+        assertTrue(delay.p99() >= 560 && delay.p99() <= 640);
+    }
+
+    @Test
+    void rebuild_WithoutAppointments_ShouldSkipRollup() {
+        when(appointmentRepository.findEarliestAppointmentDate()).thenReturn(Optional.empty());
+
+        assertEquals(0, flowStatsService.rebuild());
+        verify(appointmentRepository, never()).streamFlowSamples(any(), any());
+    }
+
+    @Test
+    void histogram_ShouldRoundTripThroughBytes() {
+        LogHistogram histogram = new LogHistogram();
+        histogram.record(-3);
+        histogram.record(7);
+        histogram.record(45_000);
+
+        LogHistogram restored = LogHistogram.fromBytes(histogram.toBytes());
+
+        assertEquals(histogram, restored);
+        assertEquals(3, restored.count());
+        assertEquals(0, restored.percentile(1));
+    }
+
+    @Test
+    void histogram_MergeShouldMatchRecordingAllValues() {
+        LogHistogram first = new LogHistogram();
+        LogHistogram second = new LogHistogram();
+        LogHistogram all = new LogHistogram();
+        for (int minutes = 0; minutes < 300; minutes += 7) {
+            (minutes % 2 == 0 ? first : second).record(minutes);
+            all.record(minutes);
+        }
+        first.record(5_000);
+        all.record(5_000);
+
+        assertEquals(all, first.merge(second));
+        assertEquals(all.hashCode(), first.hashCode());
+        assertEquals(all.percentile(90), first.percentile(90));
+        assertEquals(all, LogHistogram.fromBytes(first.toBytes()));
+    }
+
+    private AppointmentFlowStats row(LocalDate day, LogHistogram histogram) {
+        return AppointmentFlowStats.builder()
+                .id(new AppointmentFlowStatsId(day, employeeId, serviceId, FlowMetric.START_DELAY))
+                .sampleCount(histogram.count())
+                .histogram(histogram.toBytes())
+                .build();
+    }
+
+    private FlowSample sample(
+            LocalDateTime createdAt, LocalDateTime startTime, LocalDateTime startedAt, LocalDateTime completedAt) {
+        return sample(date, createdAt, startTime, startedAt, completedAt);
+    }
+
+    private FlowSample sample(
+            LocalDate day,
+            LocalDateTime createdAt,
+            LocalDateTime startTime,
+            LocalDateTime startedAt,
+            LocalDateTime completedAt) {
+        FlowSample sample = mock(FlowSample.class);
+        when(sample.getEmployeeId()).thenReturn(employeeId);
+        when(sample.getServiceId()).thenReturn(serviceId);
+        when(sample.getAppointmentDate()).thenReturn(day);
+        when(sample.getCreatedAt()).thenReturn(createdAt);
+        when(sample.getStartTime()).thenReturn(startTime);
+        when(sample.getStartedAt()).thenReturn(startedAt);
+        when(sample.getCompletedAt()).thenReturn(completedAt);
+        return sample;
+    }
+}
@@ -0,0 +1,229 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.DoctorService;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ResourceAlreadyExistsException;
+import by.bsuir.mis.exception.ResourceNotFoundException;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.HashedTimingWheel;
+import by.bsuir.mis.model.SlotHold;
+import by.bsuir.mis.repository.DoctorServiceRepository;
+import by.bsuir.mis.service.BookingService;
+import by.bsuir.mis.service.CalendarService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HoldServiceImplTest {
+
+    @Mock
+    private OccupancyService occupancyService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private DoctorServiceRepository doctorServiceRepository;
+
+    @InjectMocks
+    private HoldServiceImpl holdService;
+
+    private UUID employeeId;
+    private UUID serviceId;
+    private UUID userId;
+    private LocalDate date;
+    private DayOccupancy day;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+        serviceId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        date = LocalDate.now().plusDays(1);
+        day = new DayOccupancy();
+        lenient().when(occupancyService.getDay(employeeId, date)).thenReturn(day);
+        lenient()
+                .when(doctorServiceRepository.findByEmployee_IdAndService_Id(employeeId, serviceId))
+                .thenReturn(Optional.of(DoctorService.builder().isActive(true).build()));
+        lenient().when(calendarService.getDurationMin(serviceId, date)).thenReturn(30);
+        List<SlotResponse> grid = new ArrayList<>();
+        for (LocalTime start = LocalTime.of(9, 0); start.isBefore(LocalTime.of(12, 0)); start = start.plusMinutes(30)) {
+            grid.add(new SlotResponse(employeeId, null, date, start, start.plusMinutes(30), "101", false));
+        }
+        lenient().when(calendarService.getSlotGrid(employeeId, date, 30)).thenReturn(grid);
+    }
+
+    @Test
+    void hold_ShouldOccupySlot() {
+        SlotHold hold = holdService.hold(employeeId, serviceId, date, date.atTime(10, 0), date.atTime(10, 30), userId);
+
+        assertTrue(day.contains(hold.id()));
+        assertFalse(day.isFree(600, 630));
+        assertTrue(hold.expiresAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void hold_WhenSlotHeldByAnotherUser_ShouldThrowConflict() {
+        holdService.hold(employeeId, serviceId, date, date.atTime(10, 0), date.atTime(10, 30), userId);
+
+        assertThrows(
+                ResourceAlreadyExistsException.class,
+                () -> holdService.hold(
+                        employeeId, serviceId, date, date.atTime(10, 0), date.atTime(10, 30), UUID.randomUUID()));
+    }
+
+    @Test
+    void hold_WhenTimeIsOffTheSlotGrid_ShouldThrowBadRequest() {
+        assertThrows(
+                BadRequestException.class,
+                () -> holdService.hold(employeeId, serviceId, date, date.atTime(9, 10), date.atTime(9, 40), userId));
+        assertThrows(
+                BadRequestException.class,
+                () -> holdService.hold(employeeId, serviceId, date, date.atTime(18, 0), date.atTime(18, 30), userId));
+        assertTrue(day.isFree(0, DayOccupancy.MINUTES_PER_DAY));
+    }
+
+    @Test
+    void hold_WhenSlotIsInThePastOrOnAnotherDate_ShouldThrowBadRequest() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        assertThrows(
+                BadRequestException.class,
+                () -> holdService.hold(
+                        employeeId, serviceId, yesterday, yesterday.atTime(10, 0), yesterday.atTime(10, 30), userId));
+        assertThrows(
+                BadRequestException.class,
+                () -> holdService.hold(
+                        employeeId,
+                        serviceId,
+                        date,
+                        date.plusDays(1).atTime(10, 0),
+                        date.plusDays(1).atTime(10, 30),
+                        userId));
+        verify(calendarService, never()).getSlotGrid(any(), any(), anyInt());
+    }
+
+    @Test
+    void hold_WhenSameUserHoldsConcurrently_ShouldKeepOnlyOneHold() throws Exception {
+        int requests = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<SlotHold>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                LocalDateTime slotStart = date.atTime(9, 0).plusMinutes(30L * i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return holdService.hold(employeeId, serviceId, date, slotStart, slotStart.plusMinutes(30), userId);
+                }));
+            }
+            start.countDown();
+
+            List<SlotHold> created = new ArrayList<>();
+            for (Future<SlotHold> result : results) {
+                created.add(result.get());
+            }
+
+            assertEquals(
+                    1,
+                    created.stream()
+                            .filter(hold -> holdService.findActive(hold.id()).isPresent())
+                            .count());
+            assertEquals(30, day.occupiedMinutes(0, DayOccupancy.MINUTES_PER_DAY));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void hold_WhenDoctorDoesNotProvideService_ShouldThrowBadRequest() {
+        UUID otherServiceId = UUID.randomUUID();
+
+        assertThrows(
+                BadRequestException.class,
+                () -> holdService.hold(
+                        employeeId, otherServiceId, date, date.atTime(10, 0), date.atTime(10, 30), userId));
+        assertTrue(day.isFree(600, 630));
+    }
+
+    @Test
+    void hold_WhenLengthDoesNotMatchServiceDuration_ShouldThrowBadRequest() {
+        assertThrows(
+                BadRequestException.class,
+                () -> holdService.hold(employeeId, serviceId, date, date.atTime(10, 0), date.atTime(11, 0), userId));
+        assertTrue(day.isFree(600, 660));
+    }
+
+    @Test
+    void hold_WhenUserHoldsAgain_ShouldReplacePreviousHold() {
+        SlotHold first = holdService.hold(employeeId, serviceId, date, date.atTime(10, 0), date.atTime(10, 30), userId);
+        SlotHold second =
+                holdService.hold(employeeId, serviceId, date, date.atTime(11, 0), date.atTime(11, 30), userId);
+
+        assertTrue(holdService.findActive(first.id()).isEmpty());
+        assertTrue(holdService.findActive(second.id()).isPresent());
+        assertTrue(day.isFree(600, 630));
+    }
+
+    @Test
+    void confirm_ShouldBookAndReleaseHold() {
+        SlotHold hold = holdService.hold(employeeId, serviceId, date, date.atTime(10, 0), date.atTime(10, 30), userId);
+        Appointment appointment = Appointment.builder().build();
+        when(bookingService.confirmHold(appointment, hold.id())).thenReturn(appointment);
+
+        Appointment result = holdService.confirm(hold.id(), appointment);
+
+        assertSame(appointment, result);
+        assertFalse(day.contains(hold.id()));
+        assertTrue(holdService.findActive(hold.id()).isEmpty());
+    }
+
+    @Test
+    void confirm_WhenHoldExpired_ShouldThrowNotFound() {
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> holdService.confirm(
+                        UUID.randomUUID(), Appointment.builder().build()));
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void timingWheel_ShouldExpireOnlyDueKeysAcrossRounds() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(1000, 4, 0);
+        wheel.schedule("soon", 2_000);
+        wheel.schedule("later", 9_000);
+        wheel.schedule("cancelled", 2_000);
+        wheel.cancel("cancelled");
+
+        assertEquals(List.of(), wheel.advance(1_500));
+        assertEquals(List.of("soon"), wheel.advance(2_000));
+        assertEquals(List.of(), wheel.advance(6_000));
+        assertEquals(List.of("later"), wheel.advance(9_500));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,89 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.PatientRiskScore;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.PatientRiskScoreRepository;
+import by.bsuir.mis.repository.projection.NoShowSample;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NoShowRiskServiceImplTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private PatientRiskScoreRepository patientRiskScoreRepository;
+
+    @InjectMocks
+    private NoShowRiskServiceImpl noShowRiskService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recompute_ShouldScorePatientsInOnePassAndServeFromMemory() {
+        UUID reliableId = UUID.randomUUID();
+        UUID riskyId = UUID.randomUUID();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<NoShowSample> samples = List.of(
+                sample(reliableId, yesterday, AppointmentStatus.COMPLETED, null),
+                sample(reliableId, yesterday, AppointmentStatus.COMPLETED, null),
+                sample(riskyId, yesterday, AppointmentStatus.NO_SHOW, null),
+                sample(riskyId, yesterday, AppointmentStatus.CANCELLED, yesterday.atTime(8, 0)));
+        when(appointmentRepository.streamNoShowSamples(LocalDate.now())).thenReturn(samples.stream());
+
+        int patients = noShowRiskService.recompute();
+
+        assertEquals(2, patients);
+        ArgumentCaptor<List<PatientRiskScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(patientRiskScoreRepository).deleteAllInBatch();
+        verify(patientRiskScoreRepository).saveAll(captor.capture());
+        PatientRiskScore risky = captor.getValue().get(1);
+        assertEquals(riskyId, risky.getPatientId());
+        assertEquals(2, risky.getSampleCount());
+        assertEquals(1, risky.getNoShowCount());
+        assertTrue(captor.getValue().stream().allMatch(PatientRiskScore::isNew));
+        assertTrue(noShowRiskService.getRiskPercent(riskyId) > noShowRiskService.getRiskPercent(reliableId));
+        assertNull(noShowRiskService.getRiskPercent(UUID.randomUUID()));
+    }
+
+    @Test
+    void score_ShouldShrinkSparseHistoryTowardsBaseRate() {
+        assertEquals(100, NoShowRiskServiceImpl.score(0, 0, 0.1, 3));
+        assertEquals(325, NoShowRiskServiceImpl.score(1, 1, 0.1, 3));
+        assertEquals(1000, NoShowRiskServiceImpl.score(5, 1, 1, 0));
+    }
+
+    @Test
+    void load_ShouldKeepEmptyScoresWhenRepositoryFails() {
+        when(patientRiskScoreRepository.findAll()).thenThrow(new IllegalStateException("no db"));
+
+        noShowRiskService.load();
+
+        assertNull(noShowRiskService.getRiskPercent(UUID.randomUUID()));
+        verify(appointmentRepository, never()).streamNoShowSamples(any());
+    }
+
+    private NoShowSample sample(UUID patientId, LocalDate date, AppointmentStatus status, LocalDateTime cancelledAt) {
+        NoShowSample sample = mock(NoShowSample.class);
+        lenient().when(sample.getPatientId()).thenReturn(patientId);
+        lenient().when(sample.getAppointmentDate()).thenReturn(date);
+        lenient().when(sample.getStartTime()).thenReturn(date.atTime(10, 0));
+        lenient().when(sample.getStatus()).thenReturn(status);
+        lenient().when(sample.getCancelledAt()).thenReturn(cancelledAt);
+        return sample;
+    }
+}
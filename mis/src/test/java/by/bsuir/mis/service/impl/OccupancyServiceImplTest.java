@@ -0,0 +1,172 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.Appointment;
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.event.AppointmentChangedEvent.ChangeType;
+import by.bsuir.mis.repository.AppointmentRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyServiceImplTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @InjectMocks
+    private OccupancyServiceImpl occupancyService;
+
+    private UUID employeeId;
+    private LocalDate date;
+    private Appointment appointment;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+        date = LocalDate.now().plusDays(1);
+
+        appointment = Appointment.builder()
+                .id(UUID.randomUUID())
+                .employee(Employee.builder().id(employeeId).build())
+                .appointmentDate(date)
+                .startTime(date.atTime(10, 0))
+                .endTime(date.atTime(10, 30))
+                .status(AppointmentStatus.WAITING)
+                .build();
+    }
+
+    @Test
+    void isFree_ShouldLoadDayOnce() {
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenReturn(List.of(appointment));
+
+        assertFalse(occupancyService.isFree(employeeId, date, date.atTime(10, 15), date.atTime(10, 45)));
+        assertTrue(occupancyService.isFree(employeeId, date, date.atTime(10, 30), date.atTime(11, 0)));
+        assertTrue(occupancyService.isFree(employeeId, date, date.atTime(9, 30), date.atTime(10, 0)));
+
+        verify(appointmentRepository, times(1)).findActiveByEmployeeIdAndDate(employeeId, date);
+    }
+
+    @Test
+    void isFree_WhenIgnoringOwnAppointment_ShouldReturnTrue() {
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenReturn(List.of(appointment));
+
+        assertTrue(occupancyService.isFree(
+                employeeId, date, date.atTime(10, 0), date.atTime(10, 30), appointment.getId()));
+    }
+
+    @Test
+    void apply_WhenCancelled_ShouldFreeTime() {
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenReturn(List.of(appointment));
+        occupancyService.getDay(employeeId, date);
+
+        appointment.setStatus(AppointmentStatus.CANCELLED);
+        occupancyService.apply(AppointmentChangedEvent.of(ChangeType.UPDATED, appointment));
+
+        assertTrue(occupancyService.isFree(employeeId, date, date.atTime(10, 0), date.atTime(10, 30)));
+    }
+
+    @Test
+    void apply_WhenMoved_ShouldOccupyNewTime() {
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenReturn(List.of(appointment));
+        occupancyService.getDay(employeeId, date);
+
+        appointment.setStartTime(date.atTime(12, 0));
+        appointment.setEndTime(date.atTime(12, 30));
+        occupancyService.apply(AppointmentChangedEvent.of(ChangeType.UPDATED, appointment));
+
+        assertTrue(occupancyService.isFree(employeeId, date, date.atTime(10, 0), date.atTime(10, 30)));
+        assertFalse(occupancyService.isFree(employeeId, date, date.atTime(12, 0), date.atTime(12, 30)));
+    }
+
+    @Test
+    void apply_WhenDeleted_ShouldFreeTime() {
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenReturn(List.of(appointment));
+        occupancyService.getDay(employeeId, date);
+
+        occupancyService.apply(AppointmentChangedEvent.deleted(appointment.getId()));
+
+        assertTrue(occupancyService.isFree(employeeId, date, date.atTime(10, 0), date.atTime(10, 30)));
+    }
+
+    @Test
+    void evictBefore_ShouldReloadDay() {
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenReturn(List.of());
+        occupancyService.getDay(employeeId, date);
+
+        occupancyService.evictBefore(date.plusDays(1));
+        occupancyService.getDay(employeeId, date);
+
+        verify(appointmentRepository, times(2)).findActiveByEmployeeIdAndDate(employeeId, date);
+    }
+
+    @Test
+    void getDay_WhenEventCommitsDuringLoad_ShouldReplayItBeforePublishing() {
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenAnswer(invocation -> {
+                    Appointment cancelled = Appointment.builder()
+                            .id(appointment.getId())
+                            .employee(appointment.getEmployee())
+                            .appointmentDate(date)
+                            .startTime(appointment.getStartTime())
+                            .endTime(appointment.getEndTime())
+                            .status(AppointmentStatus.CANCELLED)
+                            .build();
+                    occupancyService.apply(AppointmentChangedEvent.of(ChangeType.UPDATED, cancelled));
+                    return List.of(appointment);
+                });
+
+        assertTrue(occupancyService.isFree(employeeId, date, date.atTime(10, 0), date.atTime(10, 30)));
+    }
+
+    @Test
+    void getDay_WhenExpired_ShouldReloadAppointmentsAndKeepHolds() {
+        ReflectionTestUtils.setField(occupancyService, "ttlSeconds", 0L);
+        UUID holdId = UUID.randomUUID();
+        when(appointmentRepository.findActiveByEmployeeIdAndDate(employeeId, date))
+                .thenReturn(List.of(appointment))
+                .thenReturn(List.of());
+        occupancyService.getDay(employeeId, date).occupy(holdId, 12 * 60, 12 * 60 + 30);
+
+        assertTrue(occupancyService.isFree(employeeId, date, date.atTime(10, 0), date.atTime(10, 30)));
+        assertFalse(occupancyService.isFree(employeeId, date, date.atTime(12, 0), date.atTime(12, 30)));
+    }
+
+    @Test
+    void preload_ShouldLoadRangeWithSingleQuery() {
+        when(appointmentRepository.findActiveByEmployeeIdsAndDateRange(List.of(employeeId), date, date.plusDays(2)))
+                .thenReturn(List.of(appointment));
+
+        occupancyService.preload(List.of(employeeId), date, date.plusDays(2));
+
+        assertFalse(occupancyService.isFree(employeeId, date, date.atTime(10, 0), date.atTime(10, 30)));
+        assertTrue(occupancyService.isFree(
+                employeeId,
+                date.plusDays(1),
+                date.plusDays(1).atTime(10, 0),
+                date.plusDays(1).atTime(10, 30)));
+        verify(appointmentRepository, never()).findActiveByEmployeeIdAndDate(any(), any());
+
+        occupancyService.preload(List.of(employeeId), date, date.plusDays(2));
+        verify(appointmentRepository, times(1)).findActiveByEmployeeIdsAndDateRange(any(), any(), any());
+    }
+}
@@ -0,0 +1,89 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelReadServiceImplTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DataSource dataSource;
+
+    private ParallelReadServiceImpl parallelReadService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        parallelReadService = new ParallelReadServiceImpl(transactionManager, dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelReadService.shutdown();
+    }
+
+    @Test
+    void runAll_ShouldRunSectionsConcurrentlyAndKeepOrder() {
+        CountDownLatch started = new CountDownLatch(2);
+        Supplier<Object> awaitOther = () -> {
+            started.countDown();
+            try {
+                return started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Map<String, Supplier<?>> tasks = new LinkedHashMap<>();
+        tasks.put("statuses", awaitOther);
+        tasks.put("services", awaitOther);
+
+        Map<String, Object> result = parallelReadService.runAll(tasks);
+
+        assertEquals(List.of("statuses", "services"), List.copyOf(result.keySet()));
+        assertEquals(Boolean.TRUE, result.get("statuses"));
+        assertEquals(Boolean.TRUE, result.get("services"));
+        verify(transactionManager, times(2)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void runAll_WhenSectionFails_ShouldRethrowCause() {
+        Map<String, Supplier<?>> tasks = Map.of("noshow", () -> {
+            throw new IllegalArgumentException("boom");
+        });
+
+        IllegalArgumentException e =
+                assertThrows(IllegalArgumentException.class, () -> parallelReadService.runAll(tasks));
+        assertEquals("boom", e.getMessage());
+    }
+
+    @Test
+    void permits_ShouldUseHalfOfHikariPool() {
+        try (HikariDataSource hikari = new HikariDataSource()) {
+            hikari.setMaximumPoolSize(12);
+            assertEquals(6, ParallelReadServiceImpl.permits(hikari));
+        }
+        assertEquals(5, ParallelReadServiceImpl.permits(dataSource));
+    }
+}
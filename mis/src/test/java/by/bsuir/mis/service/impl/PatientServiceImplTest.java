@@ -14,6 +14,7 @@ import by.bsuir.mis.exception.ResourceAlreadyExistsException;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.PatientRepository;
 import by.bsuir.mis.repository.UserPatientRepository;
+import by.bsuir.mis.service.DashboardService;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +35,9 @@ class PatientServiceImplTest {
     @Mock
     private UserPatientRepository userPatientRepository;
 
+    @Mock
+    private DashboardService dashboardService;
+
     @InjectMocks
     private PatientServiceImpl patientService;
 
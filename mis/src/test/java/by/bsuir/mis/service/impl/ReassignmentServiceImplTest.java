@@ -0,0 +1,273 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.dto.request.ReassignmentItemRequest;
+import by.bsuir.mis.entity.*;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.entity.enums.ExceptionType;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.ReassignmentProposal;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.DoctorServiceRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.service.BookingService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReassignmentServiceImplTest {
+
+    @Mock
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private DoctorServiceRepository doctorServiceRepository;
+
+    @Mock
+    private DoctorScheduleRepository doctorScheduleRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private OccupancyService occupancyService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @InjectMocks
+    private ReassignmentServiceImpl reassignmentService;
+
+    private Employee absentDoctor;
+    private Employee otherDoctor;
+    private by.bsuir.mis.entity.Service service;
+    private LocalDate date;
+    private ScheduleException exception;
+
+    @BeforeEach
+    void setUp() {
+        absentDoctor = Employee.builder().id(UUID.randomUUID()).build();
+        otherDoctor = Employee.builder().id(UUID.randomUUID()).build();
+        service = by.bsuir.mis.entity.Service.builder().id(UUID.randomUUID()).build();
+        date = LocalDate.now().plusDays(3);
+
+        exception = ScheduleException.builder()
+                .id(UUID.randomUUID())
+                .employee(absentDoctor)
+                .exceptionType(ExceptionType.VACATION)
+                .dateFrom(date)
+                .dateTo(date.plusDays(2))
+                .build();
+    }
+
+    @Test
+    void propose_ShouldPreferSameTimeWithAnotherDoctorAndNotDoubleAssign() {
+        Appointment first = appointment(LocalTime.of(10, 0));
+        Appointment second = appointment(LocalTime.of(10, 30));
+        stubProposalData(
+                List.of(first, second),
+                List.of(
+                        schedule(otherDoctor, date, LocalTime.of(10, 0), LocalTime.of(10, 30)),
+                        schedule(absentDoctor, date.plusDays(3), LocalTime.of(9, 0), LocalTime.of(12, 0))));
+
+        List<ReassignmentProposal> proposals = reassignmentService.propose(exception.getId(), 7);
+
+        assertEquals(2, proposals.size());
+        assertEquals(otherDoctor.getId(), proposals.get(0).slot().employeeId());
+        assertEquals(date, proposals.get(0).slot().date());
+        assertEquals(LocalTime.of(10, 0), proposals.get(0).slot().startTime());
+        assertEquals(absentDoctor.getId(), proposals.get(1).slot().employeeId());
+        assertEquals(date.plusDays(3), proposals.get(1).slot().date());
+        assertEquals(LocalTime.of(10, 30), proposals.get(1).slot().startTime());
+        verify(occupancyService).preload(anyCollection(), eq(date), eq(date.plusDays(9)));
+    }
+
+    @Test
+    void propose_WhenNoCapacity_ShouldReturnProposalWithoutSlot() {
+        Appointment first = appointment(LocalTime.of(10, 0));
+        stubProposalData(List.of(first), List.of());
+
+        List<ReassignmentProposal> proposals = reassignmentService.propose(exception.getId(), 7);
+
+        assertEquals(1, proposals.size());
+        assertNull(proposals.get(0).slot());
+    }
+
+    @Test
+    void apply_ShouldMoveAppointmentsThroughBookingService() {
+        Appointment first = appointment(LocalTime.of(10, 0));
+        when(scheduleExceptionRepository.findById(exception.getId())).thenReturn(Optional.of(exception));
+        when(appointmentRepository.findAllById(List.of(first.getId()))).thenReturn(List.of(first));
+        when(employeeRepository.findAllById(List.of(otherDoctor.getId()))).thenReturn(List.of(otherDoctor));
+        when(doctorServiceRepository.findActiveByServiceIds(Set.of(service.getId())))
+                .thenReturn(List.of(DoctorService.builder()
+                        .employee(otherDoctor)
+                        .service(service)
+                        .build()));
+        DoctorSchedule schedule = schedule(otherDoctor, date, LocalTime.of(9, 0), LocalTime.of(13, 0));
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(Set.of(otherDoctor.getId()), date, date))
+                .thenReturn(List.of(schedule));
+        when(bookingService.reassign(anyList(), any(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Appointment> result = reassignmentService.apply(
+                exception.getId(),
+                List.of(new ReassignmentItemRequest(
+                        first.getId(), otherDoctor.getId(), null, date.atTime(11, 0), date.atTime(11, 30))),
+                new User());
+
+        assertEquals(1, result.size());
+        assertSame(otherDoctor, result.get(0).getEmployee());
+        assertEquals(date.atTime(11, 0), result.get(0).getStartTime());
+        assertEquals(AppointmentStatus.WAITING, result.get(0).getStatus());
+        assertSame(schedule, result.get(0).getSchedule());
+    }
+
+    @Test
+    void apply_WhenScheduleBelongsToAnotherDoctor_ShouldThrowBadRequest() {
+        Appointment first = appointment(LocalTime.of(10, 0));
+        stubApplyData(first, List.of(schedule(otherDoctor, date, LocalTime.of(9, 0), LocalTime.of(13, 0))));
+
+        assertThrows(
+                BadRequestException.class,
+                () -> reassignmentService.apply(
+                        exception.getId(),
+                        List.of(new ReassignmentItemRequest(
+                                first.getId(),
+                                otherDoctor.getId(),
+                                UUID.randomUUID(),
+                                date.atTime(11, 0),
+                                date.atTime(11, 30))),
+                        new User()));
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void apply_WhenDoctorDoesNotProvideService_ShouldThrowBadRequest() {
+        Appointment first = appointment(LocalTime.of(10, 0));
+        when(scheduleExceptionRepository.findById(exception.getId())).thenReturn(Optional.of(exception));
+        when(appointmentRepository.findAllById(anyList())).thenReturn(List.of(first));
+        when(employeeRepository.findAllById(anyList())).thenReturn(List.of(otherDoctor));
+
+        assertThrows(
+                BadRequestException.class,
+                () -> reassignmentService.apply(
+                        exception.getId(),
+                        List.of(new ReassignmentItemRequest(
+                                first.getId(), otherDoctor.getId(), null, date.atTime(11, 0), date.atTime(11, 30))),
+                        new User()));
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void apply_WhenAppointmentIsNoLongerWaiting_ShouldThrowBadRequest() {
+        Appointment first = appointment(LocalTime.of(10, 0));
+        first.setStatus(AppointmentStatus.CANCELLED);
+        stubApplyData(first, List.of(schedule(otherDoctor, date, LocalTime.of(9, 0), LocalTime.of(13, 0))));
+
+        assertThrows(
+                BadRequestException.class,
+                () -> reassignmentService.apply(
+                        exception.getId(),
+                        List.of(new ReassignmentItemRequest(
+                                first.getId(), otherDoctor.getId(), null, date.atTime(11, 0), date.atTime(11, 30))),
+                        new User()));
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void apply_WhenMovingWithinExceptionToAbsentDoctor_ShouldThrowBadRequest() {
+        Appointment first = appointment(LocalTime.of(10, 0));
+        when(scheduleExceptionRepository.findById(exception.getId())).thenReturn(Optional.of(exception));
+        when(appointmentRepository.findAllById(anyList())).thenReturn(List.of(first));
+        when(employeeRepository.findAllById(anyList())).thenReturn(List.of(absentDoctor));
+
+        assertThrows(
+                BadRequestException.class,
+                () -> reassignmentService.apply(
+                        exception.getId(),
+                        List.of(new ReassignmentItemRequest(
+                                first.getId(),
+                                absentDoctor.getId(),
+                                null,
+                                date.plusDays(1).atTime(11, 0),
+                                date.plusDays(1).atTime(11, 30))),
+                        new User()));
+        verifyNoInteractions(bookingService);
+    }
+
+    private void stubApplyData(Appointment appointment, List<DoctorSchedule> schedules) {
+        when(scheduleExceptionRepository.findById(exception.getId())).thenReturn(Optional.of(exception));
+        when(appointmentRepository.findAllById(anyList())).thenReturn(List.of(appointment));
+        when(employeeRepository.findAllById(anyList())).thenReturn(List.of(otherDoctor));
+        lenient()
+                .when(doctorServiceRepository.findActiveByServiceIds(anyCollection()))
+                .thenReturn(List.of(DoctorService.builder()
+                        .employee(otherDoctor)
+                        .service(service)
+                        .build()));
+        lenient()
+                .when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(anyCollection(), any(), any()))
+                .thenReturn(schedules);
+    }
+
+    private void stubProposalData(List<Appointment> affected, List<DoctorSchedule> schedules) {
+        when(scheduleExceptionRepository.findById(exception.getId())).thenReturn(Optional.of(exception));
+        when(appointmentRepository.findActiveByEmployeeIdsAndDateRange(
+                        List.of(absentDoctor.getId()), date, date.plusDays(2)))
+                .thenReturn(affected);
+        when(doctorServiceRepository.findActiveByServiceIds(anyCollection()))
+                .thenReturn(List.of(DoctorService.builder()
+                        .employee(otherDoctor)
+                        .service(service)
+                        .build()));
+        when(doctorScheduleRepository.findActiveByEmployeeIdsInDateRange(anyCollection(), any(), any()))
+                .thenReturn(schedules);
+        when(scheduleExceptionRepository.findByEmployeeIdsInDateRange(anyCollection(), any(), any()))
+                .thenReturn(List.of(exception));
+        lenient().when(occupancyService.getDay(any(), any())).thenAnswer(invocation -> new DayOccupancy());
+    }
+
+    private Appointment appointment(LocalTime startTime) {
+        return Appointment.builder()
+                .id(UUID.randomUUID())
+                .employee(absentDoctor)
+                .service(service)
+                .appointmentDate(date)
+                .startTime(date.atTime(startTime))
+                .endTime(date.atTime(startTime.plusMinutes(30)))
+                .status(AppointmentStatus.WAITING)
+                .build();
+    }
+
+    private DoctorSchedule schedule(Employee employee, LocalDate day, LocalTime startTime, LocalTime endTime) {
+        return DoctorSchedule.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .dayOfWeek(day.getDayOfWeek().getValue())
+                .startTime(startTime)
+                .endTime(endTime)
+                .effectiveFrom(date.minusMonths(1))
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.ReportData;
+import by.bsuir.mis.service.DashboardService;
+import by.bsuir.mis.service.ParallelReadService;
+import by.bsuir.mis.service.StatisticsService;
+import by.bsuir.mis.service.UtilizationService;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportDataServiceImplTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @Mock
+    private UtilizationService utilizationService;
+
+    @Mock
+    private ParallelReadService parallelReadService;
+
+    @InjectMocks
+    private ReportDataServiceImpl reportDataService;
+
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+
+    @BeforeEach
+    void setUp() {
+        dateFrom = LocalDate.of(2025, 1, 1);
+        dateTo = LocalDate.of(2025, 12, 31);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void load_ShouldQueryEachAggregateOnceForRequestedSections() {
+        when(parallelReadService.runAll(any())).thenAnswer(invocation -> {
+            Map<String, Supplier<?>> tasks = invocation.getArgument(0);
+            Map<String, Object> results = new LinkedHashMap<>();
+            tasks.forEach((name, task) -> results.put(name, task.get()));
+            return results;
+        });
+        when(statisticsService.countByStatus(dateFrom, dateTo)).thenReturn(Map.of(AppointmentStatus.NO_SHOW, 3L));
+        when(statisticsService.countByService(dateFrom, dateTo)).thenReturn(List.of());
+
+        ReportData data = reportDataService.load(dateFrom, dateTo, List.of("STATUSES", "noshow", "services"));
+
+        assertEquals(Map.of(AppointmentStatus.NO_SHOW, 3L), data.byStatus());
+        assertEquals(List.of(), data.byService());
+        assertNull(data.dashboard());
+        assertNull(data.utilization());
+        verify(statisticsService, times(1)).countByStatus(dateFrom, dateTo);
+        verifyNoMoreInteractions(statisticsService);
+        verifyNoInteractions(dashboardService, utilizationService);
+    }
+
+    @Test
+    void load_WithoutDataSections_ShouldNotScheduleReads() {
+        ReportData data = reportDataService.load(dateFrom, dateTo, List.of());
+
+        assertEquals(dateFrom, data.dateFrom());
+        verifyNoInteractions(parallelReadService);
+    }
+}
@@ -0,0 +1,161 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.exception.ServiceUnavailableException;
+import by.bsuir.mis.model.ReportJob;
+import by.bsuir.mis.service.PdfExportService;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceImplTest {
+
+    private static final byte[] PDF = "%PDF-1.7".getBytes();
+
+    @Mock
+    private PdfExportService pdfExportService;
+
+    @TempDir
+    private Path spoolDir;
+
+    private ReportJobServiceImpl reportJobService;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    private CountDownLatch started;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        reportJobService = new ReportJobServiceImpl(pdfExportService, spoolDir, 1, 1, 60);
+        dateFrom = LocalDate.of(2025, 3, 1);
+        dateTo = LocalDate.of(2025, 3, 31);
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        reportJobService.shutdown();
+    }
+
+    @Test
+    void submit_ShouldRenderReportIntoSpoolDirectory() throws Exception {
+        stubRender(false);
+
+        ReportJob job = reportJobService.submit(dateFrom, dateTo, List.of("Dashboard"));
+        awaitFinished(job);
+
+        ReportJob completed = reportJobService.getCompletedJob(job.getId());
+        assertEquals(100, completed.getProgress());
+        assertEquals(List.of("dashboard"), completed.getSections());
+        assertEquals(spoolDir.resolve(job.getId() + ".pdf"), completed.getFile());
+        assertArrayEquals(PDF, Files.readAllBytes(completed.getFile()));
+        assertEquals(PDF.length, completed.getSize());
+    }
+
+    @Test
+    void submit_IdenticalInFlightRequests_ShouldShareOneJob() throws Exception {
+        stubRender(true);
+
+        ReportJob first = reportJobService.submit(dateFrom, dateTo, List.of("dashboard", "statuses"));
+        ReportJob second = reportJobService.submit(dateFrom, dateTo, List.of("DASHBOARD", "statuses"));
+
+        assertSame(first, second);
+        assertThrows(BadRequestException.class, () -> reportJobService.getCompletedJob(first.getId()));
+
+        release.countDown();
+        awaitFinished(first);
+        verify(pdfExportService, times(1)).generateAnalyticsReport(any(), any(), any(), any(), any());
+
+        ReportJob next = reportJobService.submit(dateFrom, dateTo, List.of("dashboard", "statuses"));
+        assertNotEquals(first.getId(), next.getId());
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldRejectJob() throws Exception {
+        stubRender(true);
+
+        reportJobService.submit(dateFrom, dateTo, List.of("dashboard"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        reportJobService.submit(dateFrom, dateTo, List.of("statuses"));
+
+        assertThrows(
+                ServiceUnavailableException.class,
+                () -> reportJobService.submit(dateFrom, dateTo, List.of("services")));
+    }
+
+    @Test
+    void render_WhenGenerationFails_ShouldMarkJobFailedAndDropPartialFile() throws Exception {
+        doThrow(new RuntimeException("Failed to generate PDF report"))
+                .when(pdfExportService)
+                .generateAnalyticsReport(eq(dateFrom), eq(dateTo), any(), any(), any());
+
+        ReportJob job = reportJobService.submit(dateFrom, dateTo, List.of("dashboard"));
+        awaitFinished(job);
+
+        assertEquals(ReportJob.Status.FAILED, job.getStatus());
+        assertEquals("Failed to generate PDF report", job.getError());
+        try (var files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void render_WhenGenerationThrowsError_ShouldStillMarkJobFailed() throws Exception {
+        doThrow(new StackOverflowError())
+                .when(pdfExportService)
+                .generateAnalyticsReport(eq(dateFrom), eq(dateTo), any(), any(), any());
+
+        ReportJob job = reportJobService.submit(dateFrom, dateTo, List.of("dashboard"));
+        awaitFinished(job);
+
+        assertEquals(ReportJob.Status.FAILED, job.getStatus());
+        assertEquals("java.lang.StackOverflowError", job.getError());
+        try (var files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private void stubRender(boolean blocking) {
+        doAnswer(invocation -> {
+                    started.countDown();
+                    if (blocking) {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    OutputStream out = invocation.getArgument(3);
+                    IntConsumer progress = invocation.getArgument(4);
+                    out.write(PDF);
+                    progress.accept(100);
+                    return null;
+                })
+                .when(pdfExportService)
+                .generateAnalyticsReport(any(), any(), any(), any(), any());
+    }
+
+    private void awaitFinished(ReportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isFinished());
+    }
+}
@@ -8,6 +8,7 @@ import by.bsuir.mis.entity.Employee;
 import by.bsuir.mis.entity.ScheduleException;
 import by.bsuir.mis.entity.User;
 import by.bsuir.mis.entity.enums.ExceptionType;
+import by.bsuir.mis.event.ScheduleChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.ScheduleExceptionRepository;
 import java.time.LocalDate;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class ScheduleExceptionServiceImplTest {
@@ -27,6 +29,9 @@ class ScheduleExceptionServiceImplTest {
     @Mock
     private ScheduleExceptionRepository scheduleExceptionRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ScheduleExceptionServiceImpl scheduleExceptionService;
 
@@ -159,18 +164,19 @@ class ScheduleExceptionServiceImplTest {
 
     @Test
     void deleteById_WhenExists_ShouldDelete() {
-        when(scheduleExceptionRepository.existsById(scheduleExceptionId)).thenReturn(true);
-        doNothing().when(scheduleExceptionRepository).deleteById(scheduleExceptionId);
+        when(scheduleExceptionRepository.findById(scheduleExceptionId)).thenReturn(Optional.of(scheduleException));
 
         scheduleExceptionService.deleteById(scheduleExceptionId);
 
-        verify(scheduleExceptionRepository, times(1)).deleteById(scheduleExceptionId);
+        verify(scheduleExceptionRepository, times(1)).delete(scheduleException);
+        verify(eventPublisher).publishEvent(any(ScheduleChangedEvent.class));
     }
 
     @Test
     void deleteById_WhenNotExists_ShouldThrowException() {
-        when(scheduleExceptionRepository.existsById(scheduleExceptionId)).thenReturn(false);
+        when(scheduleExceptionRepository.findById(scheduleExceptionId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> scheduleExceptionService.deleteById(scheduleExceptionId));
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import by.bsuir.mis.entity.Service;
 import by.bsuir.mis.entity.ServiceDuration;
+import by.bsuir.mis.event.ServiceDurationChangedEvent;
 import by.bsuir.mis.exception.ResourceNotFoundException;
 import by.bsuir.mis.repository.ServiceDurationRepository;
 import java.time.LocalDate;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceDurationServiceImplTest {
@@ -25,6 +27,9 @@ class ServiceDurationServiceImplTest {
     @Mock
     private ServiceDurationRepository serviceDurationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ServiceDurationServiceImpl serviceDurationService;
 
@@ -128,18 +133,19 @@ class ServiceDurationServiceImplTest {
 
     @Test
     void deleteById_WhenExists_ShouldDelete() {
-        when(serviceDurationRepository.existsById(serviceDurationId)).thenReturn(true);
-        doNothing().when(serviceDurationRepository).deleteById(serviceDurationId);
+        when(serviceDurationRepository.findById(serviceDurationId)).thenReturn(Optional.of(serviceDuration));
 
         serviceDurationService.deleteById(serviceDurationId);
 
-        verify(serviceDurationRepository, times(1)).deleteById(serviceDurationId);
+        verify(serviceDurationRepository, times(1)).delete(serviceDuration);
+        verify(eventPublisher).publishEvent(any(ServiceDurationChangedEvent.class));
     }
 
     @Test
     void deleteById_WhenNotExists_ShouldThrowException() {
-        when(serviceDurationRepository.existsById(serviceDurationId)).thenReturn(false);
+        when(serviceDurationRepository.findById(serviceDurationId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> serviceDurationService.deleteById(serviceDurationId));
+        verifyNoInteractions(eventPublisher);
     }
 }
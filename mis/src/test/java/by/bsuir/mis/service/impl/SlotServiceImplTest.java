@@ -0,0 +1,200 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.dto.response.SlotResponse;
+import by.bsuir.mis.entity.*;
+import by.bsuir.mis.exception.BadRequestException;
+import by.bsuir.mis.model.DayOccupancy;
+import by.bsuir.mis.model.SlotGrid;
+import by.bsuir.mis.repository.DoctorServiceRepository;
+import by.bsuir.mis.service.CalendarService;
+import by.bsuir.mis.service.OccupancyService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SlotServiceImplTest {
+
+    @Mock
+    private DoctorServiceRepository doctorServiceRepository;
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private OccupancyService occupancyService;
+
+    @InjectMocks
+    private SlotServiceImpl slotService;
+
+    private UUID employeeId;
+    private UUID serviceId;
+    private LocalDate date;
+    private DoctorSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+        serviceId = UUID.randomUUID();
+        date = LocalDate.now().plusDays(7);
+
+        schedule = DoctorSchedule.builder()
+                .id(UUID.randomUUID())
+                .employee(Employee.builder().id(employeeId).build())
+                .dayOfWeek(date.getDayOfWeek().getValue())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(11, 0))
+                .paidStartTime(LocalTime.of(10, 0))
+                .paidEndTime(LocalTime.of(11, 0))
+                .cabinet("101")
+                .effectiveFrom(date.minusMonths(1))
+                .build();
+    }
+
+    @Test
+    void findAvailableSlots_WhenDoctorNotWorking_ShouldReturnEmpty() {
+        when(calendarService.getDurationMin(serviceId, date)).thenReturn(30);
+        when(calendarService.getSlotGrid(employeeId, date, 30)).thenReturn(List.of());
+
+        List<SlotResponse> result = slotService.findAvailableSlots(employeeId, serviceId, date);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(occupancyService);
+    }
+
+    @Test
+    void findAvailableSlots_ShouldSkipBookedSlotsAndMarkPaid() {
+        DayOccupancy occupancy = new DayOccupancy();
+        occupancy.occupy(UUID.randomUUID(), 9 * 60 + 30, 10 * 60);
+        when(calendarService.getDurationMin(serviceId, date)).thenReturn(30);
+        when(calendarService.getSlotGrid(employeeId, date, 30)).thenReturn(grid(employeeId, date, schedule, 30));
+        when(occupancyService.getDay(employeeId, date)).thenReturn(occupancy);
+
+        List<SlotResponse> result = slotService.findAvailableSlots(employeeId, serviceId, date);
+
+        assertEquals(3, result.size());
+        assertEquals(LocalTime.of(9, 0), result.get(0).startTime());
+        assertEquals(LocalTime.of(10, 0), result.get(1).startTime());
+        assertFalse(result.get(0).isPaid());
+        assertTrue(result.get(1).isPaid());
+        assertEquals("101", result.get(2).cabinet());
+    }
+
+    @Test
+    void freeSlots_ShouldSkipPastSlotsAndRespectLimit() {
+        List<SlotResponse> slots =
+                SlotGrid.freeSlots(grid(employeeId, date, schedule, 30), new DayOccupancy(), date.atTime(9, 15), 2);
+
+        assertEquals(2, slots.size());
+        assertEquals(LocalTime.of(9, 30), slots.get(0).startTime());
+        assertEquals(LocalTime.of(10, 0), slots.get(1).startTime());
+    }
+
+    @Test
+    void findEarliestSlots_WhenNoActiveDoctors_ShouldReturnEmpty() {
+        when(doctorServiceRepository.findByService_Id(serviceId))
+                .thenReturn(List.of(DoctorService.builder()
+                        .employee(Employee.builder().id(employeeId).build())
+                        .isActive(false)
+                        .build()));
+
+        List<SlotResponse> result = slotService.findEarliestSlots(serviceId, 14, 5);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(calendarService, occupancyService);
+    }
+
+    @Test
+    void findEarliestSlots_ShouldMergeDoctorsInTimeOrder() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        schedule.setDayOfWeek(tomorrow.getDayOfWeek().getValue());
+        UUID otherEmployeeId = UUID.randomUUID();
+        DoctorSchedule otherSchedule = DoctorSchedule.builder()
+                .id(UUID.randomUUID())
+                .employee(Employee.builder().id(otherEmployeeId).build())
+                .dayOfWeek(tomorrow.getDayOfWeek().getValue())
+                .startTime(LocalTime.of(9, 15))
+                .endTime(LocalTime.of(10, 15))
+                .cabinet("202")
+                .effectiveFrom(date.minusMonths(1))
+                .build();
+
+        when(doctorServiceRepository.findByService_Id(serviceId))
+                .thenReturn(List.of(
+                        DoctorService.builder()
+                                .employee(Employee.builder().id(employeeId).build())
+                                .isActive(true)
+                                .build(),
+                        DoctorService.builder()
+                                .employee(Employee.builder().id(otherEmployeeId).build())
+                                .isActive(true)
+                                .build()));
+        when(calendarService.getDurationMin(eq(serviceId), any())).thenReturn(30);
+        when(calendarService.getWorkingSchedules(
+                        anyCollection(), eq(LocalDate.now()), eq(LocalDate.now().plusDays(6))))
+                .thenReturn(Map.of(
+                        employeeId, Map.of(tomorrow, List.of(schedule)),
+                        otherEmployeeId, Map.of(tomorrow, List.of(otherSchedule))));
+        when(calendarService.getSlotGrid(any(), eq(tomorrow), eq(30), anyList()))
+                .thenAnswer(invocation -> {
+                    List<DoctorSchedule> daySchedules = invocation.getArgument(3);
+                    return grid(invocation.getArgument(0), tomorrow, daySchedules.getFirst(), 30);
+                });
+        when(occupancyService.getDay(any(), any())).thenAnswer(invocation -> new DayOccupancy());
+
+        List<SlotResponse> result = slotService.findEarliestSlots(serviceId, 7, 4);
+
+        assertEquals(4, result.size());
+        assertEquals(tomorrow, result.get(0).date());
+        assertEquals(LocalTime.of(9, 0), result.get(0).startTime());
+        assertEquals(LocalTime.of(9, 15), result.get(1).startTime());
+        assertEquals(otherEmployeeId, result.get(1).employeeId());
+        assertEquals(LocalTime.of(9, 30), result.get(2).startTime());
+        assertEquals(LocalTime.of(9, 45), result.get(3).startTime());
+        verify(occupancyService)
+                .preload(
+                        anyCollection(), eq(LocalDate.now()), eq(LocalDate.now().plusDays(6)));
+        verify(calendarService, never()).getSlotGrid(any(), any(), anyInt());
+    }
+
+    @Test
+    void findEarliestSlots_WithNonPositiveDaysOrLimit_ShouldThrowBadRequest() {
+        UUID serviceId = UUID.randomUUID();
+
+        assertThrows(BadRequestException.class, () -> slotService.findEarliestSlots(serviceId, 0, 10));
+        assertThrows(BadRequestException.class, () -> slotService.findEarliestSlots(serviceId, 14, -1));
+        verifyNoInteractions(doctorServiceRepository, calendarService, occupancyService);
+    }
+
+    @Test
+    void mergeEarliest_ShouldRespectLimit() {
+        SlotResponse first =
+                new SlotResponse(employeeId, null, date, LocalTime.of(8, 0), LocalTime.of(8, 30), "101", false);
+        SlotResponse second =
+                new SlotResponse(employeeId, null, date, LocalTime.of(9, 0), LocalTime.of(9, 30), "101", false);
+        SlotResponse earlier = new SlotResponse(
+                UUID.randomUUID(), null, date.minusDays(1), LocalTime.of(17, 0), LocalTime.of(17, 30), "202", true);
+
+        List<SlotResponse> result = SlotServiceImpl.mergeEarliest(List.of(List.of(first, second), List.of(earlier)), 2);
+
+        assertEquals(List.of(earlier, first), result);
+    }
+
+    private static List<SlotResponse> grid(UUID employeeId, LocalDate date, DoctorSchedule schedule, int durationMin) {
+        return SlotGrid.buildSlots(
+                employeeId, date, List.of(schedule), durationMin, new DayOccupancy(), LocalDateTime.MIN);
+    }
+}
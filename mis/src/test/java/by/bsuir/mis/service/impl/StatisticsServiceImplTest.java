@@ -0,0 +1,182 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.model.BucketedCounts;
+import by.bsuir.mis.model.EmployeeStatistics;
+import by.bsuir.mis.model.Granularity;
+import by.bsuir.mis.model.ServiceStatistics;
+import by.bsuir.mis.repository.AppointmentDailyStatsRepository;
+import by.bsuir.mis.repository.projection.DailyCount;
+import by.bsuir.mis.repository.projection.EmployeeStatusCount;
+import by.bsuir.mis.repository.projection.ServiceCount;
+import by.bsuir.mis.repository.projection.StatusCount;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceImplTest {
+
+    @Mock
+    private AppointmentDailyStatsRepository dailyStatsRepository;
+
+    @InjectMocks
+    private StatisticsServiceImpl statisticsService;
+
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+
+    @BeforeEach
+    void setUp() {
+        dateFrom = LocalDate.of(2025, 3, 1);
+        dateTo = LocalDate.of(2025, 3, 3);
+    }
+
+    @Test
+    void countByDate_ShouldFillMissingDaysWithZero() {
+        DailyCount row = mock(DailyCount.class);
+        when(row.getAppointmentDate()).thenReturn(dateFrom.plusDays(1));
+        when(row.getTotal()).thenReturn(5L);
+        when(dailyStatsRepository.countByDate(dateFrom, dateTo)).thenReturn(List.of(row));
+
+        Map<LocalDate, Long> result = statisticsService.countByDate(dateFrom, dateTo);
+
+        assertEquals(List.of(dateFrom, dateFrom.plusDays(1), dateTo), List.copyOf(result.keySet()));
+        assertEquals(List.of(0L, 5L, 0L), List.copyOf(result.values()));
+    }
+
+    @Test
+    void countByStatus_WithoutRange_ShouldQueryWholeHistory() {
+        StatusCount row = mock(StatusCount.class);
+        when(row.getStatus()).thenReturn(AppointmentStatus.NO_SHOW);
+        when(row.getTotal()).thenReturn(2L);
+        when(dailyStatsRepository.countByStatus(StatisticsServiceImpl.MIN_DATE, StatisticsServiceImpl.MAX_DATE))
+                .thenReturn(List.of(row));
+
+        Map<AppointmentStatus, Long> result = statisticsService.countByStatus(null, null);
+
+        assertEquals(Map.of(AppointmentStatus.NO_SHOW, 2L), result);
+    }
+
+    @Test
+    void countByEmployee_ShouldCombineStatusRowsAndSortByTotal() {
+        UUID busyId = UUID.randomUUID();
+        UUID quietId = UUID.randomUUID();
+        List<EmployeeStatusCount> rows = List.of(
+                employeeRow(quietId, "Петров", null, AppointmentStatus.COMPLETED, 1),
+                employeeRow(busyId, "Иванов", "Иванович", AppointmentStatus.COMPLETED, 3),
+                employeeRow(busyId, "Иванов", "Иванович", AppointmentStatus.NO_SHOW, 1));
+        when(dailyStatsRepository.countByEmployeeAndStatus(dateFrom, dateTo)).thenReturn(rows);
+
+        List<EmployeeStatistics> result = statisticsService.countByEmployee(dateFrom, dateTo);
+
+        assertEquals(2, result.size());
+        assertEquals(busyId, result.get(0).employeeId());
+        assertEquals("Иванов Иван Иванович", result.get(0).fullName());
+        assertEquals(4, result.get(0).total());
+        assertEquals(1L, result.get(0).byStatus().get(AppointmentStatus.NO_SHOW));
+        assertEquals("Петров Иван", result.get(1).fullName());
+    }
+
+    @Test
+    void countByService_ShouldSortByTotal() {
+        ServiceCount rare = serviceRow("ЭКГ", 1, 1);
+        ServiceCount popular = serviceRow("Консультация", 4, 1);
+        when(dailyStatsRepository.countByService(dateFrom, dateTo)).thenReturn(List.of(rare, popular));
+
+        List<ServiceStatistics> result = statisticsService.countByService(dateFrom, dateTo);
+
+        assertEquals("Консультация", result.get(0).serviceName());
+        assertEquals(1, result.get(0).paidCount());
+        assertEquals("ЭКГ", result.get(1).serviceName());
+    }
+
+    private static EmployeeStatusCount employeeRow(
+            UUID employeeId, String lastName, String middleName, AppointmentStatus status, long total) {
+        EmployeeStatusCount row = mock(EmployeeStatusCount.class);
+        lenient().when(row.getEmployeeId()).thenReturn(employeeId);
+        lenient().when(row.getLastName()).thenReturn(lastName);
+        lenient().when(row.getFirstName()).thenReturn("Иван");
+        lenient().when(row.getMiddleName()).thenReturn(middleName);
+        lenient().when(row.getStatus()).thenReturn(status);
+        lenient().when(row.getTotal()).thenReturn(total);
+        return row;
+    }
+
+    private static ServiceCount serviceRow(String name, long total, long paid) {
+        ServiceCount row = mock(ServiceCount.class);
+        when(row.getServiceId()).thenReturn(UUID.randomUUID());
+        when(row.getServiceName()).thenReturn(name);
+        when(row.getTotal()).thenReturn(total);
+        when(row.getPaidCount()).thenReturn(paid);
+        return row;
+    }
+
+    @Test
+    void countByPeriod_WhenRangeExceedsBudget_ShouldDownsampleToWeeks() {
+        LocalDate from = LocalDate.of(2024, 1, 3);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        DailyCount row = mock(DailyCount.class);
+        when(row.getAppointmentDate()).thenReturn(LocalDate.of(2024, 1, 1));
+        when(row.getTotal()).thenReturn(7L);
+        when(dailyStatsRepository.countByPeriod("week", from, to)).thenReturn(List.of(row));
+
+        BucketedCounts result = statisticsService.countByPeriod(from, to, null);
+
+        assertEquals(Granularity.WEEK, result.granularity());
+        assertTrue(result.counts().size() <= 120);
+        assertEquals(7L, result.counts().get(LocalDate.of(2024, 1, 1)));
+        assertEquals(0L, result.counts().get(LocalDate.of(2024, 1, 8)));
+    }
+
+    @Test
+    void countByPeriod_WhenRangeSpansCenturies_ShouldCountBucketsArithmetically() {
+        LocalDate from = LocalDate.of(1900, 2, 15);
+        LocalDate to = LocalDate.of(2099, 11, 30);
+        when(dailyStatsRepository.countByPeriod("quarter", from, to)).thenReturn(List.of());
+
+        BucketedCounts result = statisticsService.countByPeriod(from, to, null);
+
+        assertEquals(Granularity.QUARTER, result.granularity());
+        assertEquals(800, result.counts().size());
+        assertEquals(72_973, Granularity.DAY.buckets(from, to));
+        assertEquals(10_426, Granularity.WEEK.buckets(from, to));
+        assertEquals(2_398, Granularity.MONTH.buckets(from, to));
+        assertEquals(800, Granularity.QUARTER.buckets(from, to));
+        assertEquals(0, Granularity.WEEK.buckets(to, from));
+    }
+
+    @Test
+    void countByPeriod_WithQuarterGranularity_ShouldAlignBucketsToQuarterStart() {
+        when(dailyStatsRepository.countByPeriod("quarter", dateFrom, dateTo.plusMonths(4)))
+                .thenReturn(List.of());
+
+        BucketedCounts result = statisticsService.countByPeriod(dateFrom, dateTo.plusMonths(4), Granularity.QUARTER);
+
+        assertEquals(
+                List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 1), LocalDate.of(2025, 7, 1)),
+                List.copyOf(result.counts().keySet()));
+    }
+
+    @Test
+    void countByPeriod_WithinBudget_ShouldKeepDailyPoints() {
+        when(dailyStatsRepository.countByDate(dateFrom, dateTo)).thenReturn(List.of());
+
+        BucketedCounts result = statisticsService.countByPeriod(dateFrom, dateTo, Granularity.DAY);
+
+        assertEquals(Granularity.DAY, result.granularity());
+        assertEquals(3, result.counts().size());
+        verify(dailyStatsRepository, never()).countByPeriod(any(), any(), any());
+    }
+}
@@ -0,0 +1,126 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.DoctorSchedule;
+import by.bsuir.mis.entity.Employee;
+import by.bsuir.mis.entity.ScheduleException;
+import by.bsuir.mis.model.EmployeeUtilization;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.DoctorScheduleRepository;
+import by.bsuir.mis.repository.EmployeeRepository;
+import by.bsuir.mis.repository.ScheduleExceptionRepository;
+import by.bsuir.mis.repository.projection.AppointmentInterval;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UtilizationServiceImplTest {
+
+    @Mock
+    private DoctorScheduleRepository doctorScheduleRepository;
+
+    @Mock
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private UtilizationServiceImpl utilizationService;
+
+    private Employee employee;
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .lastName("Иванов")
+                .firstName("Иван")
+                .build();
+        monday = LocalDate.of(2025, 3, 3);
+    }
+
+    @Test
+    void getUtilization_ShouldMergeSchedulesAndSkipLeaveDays() {
+        LocalDate tuesday = monday.plusDays(1);
+        when(doctorScheduleRepository.findActiveInDateRange(monday, tuesday))
+                .thenReturn(List.of(
+                        schedule(monday, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                        schedule(monday, LocalTime.of(11, 0), LocalTime.of(13, 0)),
+                        schedule(tuesday, LocalTime.of(9, 0), LocalTime.of(12, 0))));
+        when(scheduleExceptionRepository.findInDateRange(monday, tuesday))
+                .thenReturn(List.of(ScheduleException.builder()
+                        .employee(employee)
+                        .dateFrom(tuesday)
+                        .dateTo(tuesday)
+                        .build()));
+        List<AppointmentInterval> intervals = List.of(
+                interval(monday, LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                interval(monday, LocalTime.of(12, 30), LocalTime.of(13, 30)));
+        when(appointmentRepository.findActiveIntervalsInDateRange(monday, tuesday))
+                .thenReturn(intervals);
+        when(employeeRepository.findAllWithSpecialty()).thenReturn(List.of(employee));
+
+        List<EmployeeUtilization> result = utilizationService.getUtilization(monday, tuesday);
+
+        assertEquals(1, result.size());
+        EmployeeUtilization row = result.getFirst();
+        assertEquals("Иванов Иван", row.fullName());
+        assertEquals(240, row.scheduledMinutes());
+        assertEquals(120, row.bookedMinutes());
+        assertEquals(90, row.bookedInScheduleMinutes());
+        assertEquals(150, row.freeMinutes());
+        assertEquals(2, row.appointments());
+        assertEquals(37.5, row.utilizationPercent(), 0.001);
+    }
+
+    @Test
+    void getUtilization_ShouldIgnoreSchedulesOutsideEffectivePeriod() {
+        DoctorSchedule expired = schedule(monday, LocalTime.of(9, 0), LocalTime.of(12, 0));
+        expired.setEffectiveTo(monday.minusDays(1));
+        when(doctorScheduleRepository.findActiveInDateRange(monday, monday)).thenReturn(List.of(expired));
+        when(scheduleExceptionRepository.findInDateRange(monday, monday)).thenReturn(List.of());
+        when(appointmentRepository.findActiveIntervalsInDateRange(monday, monday))
+                .thenReturn(List.of());
+        when(employeeRepository.findAllWithSpecialty()).thenReturn(List.of(employee));
+
+        List<EmployeeUtilization> result = utilizationService.getUtilization(monday, monday);
+
+        assertEquals(0, result.getFirst().scheduledMinutes());
+        assertEquals(0.0, result.getFirst().utilizationPercent());
+    }
+
+    private DoctorSchedule schedule(LocalDate date, LocalTime start, LocalTime end) {
+        return DoctorSchedule.builder()
+                .employee(employee)
+                .dayOfWeek(date.getDayOfWeek().getValue())
+                .startTime(start)
+                .endTime(end)
+                .effectiveFrom(monday.minusMonths(1))
+                .build();
+    }
+
+    private AppointmentInterval interval(LocalDate date, LocalTime start, LocalTime end) {
+        AppointmentInterval interval = mock(AppointmentInterval.class);
+        when(interval.getId()).thenReturn(UUID.randomUUID());
+        when(interval.getEmployeeId()).thenReturn(employee.getId());
+        when(interval.getAppointmentDate()).thenReturn(date);
+        when(interval.getStartTime()).thenReturn(date.atTime(start));
+        when(interval.getEndTime()).thenReturn(date.atTime(end));
+        return interval;
+    }
+}
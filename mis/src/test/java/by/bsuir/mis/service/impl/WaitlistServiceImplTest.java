@@ -0,0 +1,252 @@
+package by.bsuir.mis.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import by.bsuir.mis.entity.*;
+import by.bsuir.mis.entity.enums.AppointmentStatus;
+import by.bsuir.mis.entity.enums.WaitlistStatus;
+import by.bsuir.mis.event.AppointmentChangedEvent;
+import by.bsuir.mis.event.AppointmentChangedEvent.ChangeType;
+import by.bsuir.mis.exception.ResourceAlreadyExistsException;
+import by.bsuir.mis.model.WaitlistIndex;
+import by.bsuir.mis.repository.AppointmentRepository;
+import by.bsuir.mis.repository.WaitlistEntryRepository;
+import by.bsuir.mis.service.BookingService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceImplTest {
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private WaitlistServiceImpl waitlistService;
+
+    private Employee doctor;
+    private Service service;
+    private LocalDate date;
+    private Appointment cancelled;
+
+    @BeforeEach
+    void setUp() {
+        doctor = Employee.builder().id(UUID.randomUUID()).build();
+        service = Service.builder().id(UUID.randomUUID()).build();
+        date = LocalDate.now().plusDays(3);
+
+        cancelled = Appointment.builder()
+                .id(UUID.randomUUID())
+                .employee(doctor)
+                .service(service)
+                .appointmentDate(date)
+                .startTime(date.atTime(10, 0))
+                .endTime(date.atTime(10, 30))
+                .status(AppointmentStatus.CANCELLED)
+                .build();
+    }
+
+    @Test
+    void offerFreedSlot_ShouldBookOldestMatchingEntry() {
+        WaitlistEntry older = entry(null, null, null, date.atStartOfDay().minusDays(2));
+        WaitlistEntry newer = entry(doctor, null, null, date.atStartOfDay().minusDays(1));
+        join(newer);
+        join(older);
+        when(waitlistEntryRepository.findWithDetailsById(older.getId())).thenReturn(Optional.of(older));
+        when(appointmentRepository.findById(cancelled.getId())).thenReturn(Optional.of(cancelled));
+        when(bookingService.book(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment appointment = invocation.getArgument(0);
+            appointment.setId(UUID.randomUUID());
+            return appointment;
+        });
+
+        Optional<Appointment> booked = waitlistService.offerFreedSlot(freedEvent());
+
+        assertTrue(booked.isPresent());
+        assertSame(older.getPatient(), booked.get().getPatient());
+        assertSame(doctor, booked.get().getEmployee());
+        assertEquals(date.atTime(10, 0), booked.get().getStartTime());
+        assertEquals(WaitlistStatus.BOOKED, older.getStatus());
+        assertSame(booked.get(), older.getAppointment());
+        verify(waitlistEntryRepository, times(2)).save(older);
+    }
+
+    @Test
+    void offerFreedSlot_WhenOutsideTimeWindow_ShouldNotMatch() {
+        join(entry(doctor, LocalTime.of(14, 0), LocalTime.of(18, 0), date.atStartOfDay()));
+
+        assertTrue(waitlistService.offerFreedSlot(freedEvent()).isEmpty());
+        verifyNoInteractions(bookingService, appointmentRepository);
+    }
+
+    @Test
+    void offerFreedSlot_WhenSlotTakenAgain_ShouldKeepEntryWaiting() {
+        WaitlistEntry entry = entry(doctor, LocalTime.of(9, 0), LocalTime.of(12, 0), date.atStartOfDay());
+        join(entry);
+        when(waitlistEntryRepository.findWithDetailsById(entry.getId())).thenReturn(Optional.of(entry));
+        when(appointmentRepository.findById(cancelled.getId())).thenReturn(Optional.of(cancelled));
+        when(bookingService.book(any(Appointment.class)))
+                .thenThrow(new ResourceAlreadyExistsException("Doctor already has an appointment at this time"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertTrue(waitlistService.offerFreedSlot(freedEvent()).isEmpty());
+        assertEquals(WaitlistStatus.WAITING, entry.getStatus());
+        assertTrue(waitlistService.offerFreedSlot(freedEvent()).isPresent());
+    }
+
+    @Test
+    void offerFreedSlot_WhenEntryUpdateFails_ShouldRollBackAndKeepCandidate() {
+        WaitlistEntry entry = entry(doctor, null, null, date.atStartOfDay());
+        join(entry);
+        when(waitlistEntryRepository.findWithDetailsById(entry.getId())).thenReturn(Optional.of(entry));
+        when(appointmentRepository.findById(cancelled.getId())).thenReturn(Optional.of(cancelled));
+        when(bookingService.book(any(Appointment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(waitlistEntryRepository.save(entry))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(entry);
+
+        assertThrows(IllegalStateException.class, () -> waitlistService.offerFreedSlot(freedEvent()));
+        verify(transactionManager).rollback(any());
+
+        entry.setStatus(WaitlistStatus.WAITING);
+        assertTrue(waitlistService.offerFreedSlot(freedEvent()).isPresent());
+    }
+
+    @Test
+    void offerFreedSlot_ShouldPickOldestEntryWhoseWindowContainsSlot() {
+        WaitlistEntry oldest = entry(
+                doctor,
+                LocalTime.of(8, 0),
+                LocalTime.of(10, 0),
+                date.atStartOfDay().minusDays(3));
+        WaitlistEntry middle = entry(
+                doctor,
+                LocalTime.of(9, 0),
+                LocalTime.of(12, 0),
+                date.atStartOfDay().minusDays(2));
+        WaitlistEntry newest = entry(null, null, null, date.atStartOfDay().minusDays(1));
+        join(newest);
+        join(oldest);
+        join(middle);
+        when(waitlistEntryRepository.findWithDetailsById(middle.getId())).thenReturn(Optional.of(middle));
+        when(appointmentRepository.findById(cancelled.getId())).thenReturn(Optional.of(cancelled));
+        when(bookingService.book(any(Appointment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<Appointment> booked = waitlistService.offerFreedSlot(freedEvent());
+
+        assertTrue(booked.isPresent());
+        assertSame(middle.getPatient(), booked.get().getPatient());
+    }
+
+    @Test
+    void cancel_ShouldRemoveEntryFromIndex() {
+        WaitlistEntry entry = entry(doctor, null, null, date.atStartOfDay());
+        join(entry);
+        when(waitlistEntryRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+        when(waitlistEntryRepository.save(entry)).thenReturn(entry);
+
+        waitlistService.cancel(entry.getId());
+
+        assertEquals(WaitlistStatus.CANCELLED, entry.getStatus());
+        assertTrue(waitlistService.offerFreedSlot(freedEvent()).isEmpty());
+        verify(waitlistEntryRepository, never()).findWithDetailsById(any());
+    }
+
+    @Test
+    void join_WhenTransactionRollsBack_ShouldNotIndexEntry() {
+        WaitlistEntry entry = entry(doctor, null, null, date.atStartOfDay());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            join(entry);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(waitlistService.offerFreedSlot(freedEvent()).isEmpty());
+        verify(waitlistEntryRepository, never()).findWithDetailsById(any());
+    }
+
+    @Test
+    void cancel_ShouldKeepEntryIndexedUntilCommit() {
+        WaitlistEntry entry = entry(doctor, null, null, date.atStartOfDay());
+        join(entry);
+        when(waitlistEntryRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+        when(waitlistEntryRepository.save(entry)).thenReturn(entry);
+
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            waitlistService.cancel(entry.getId());
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, index().size());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(0, index().size());
+    }
+
+    @Test
+    void onAppointmentChanged_WhenNotCancelled_ShouldIgnore() {
+        cancelled.setStatus(AppointmentStatus.COMPLETED);
+
+        waitlistService.onAppointmentChanged(AppointmentChangedEvent.of(ChangeType.UPDATED, cancelled));
+
+        verifyNoInteractions(waitlistEntryRepository, bookingService);
+    }
+
+    private AppointmentChangedEvent freedEvent() {
+        return AppointmentChangedEvent.of(ChangeType.UPDATED, cancelled);
+    }
+
+    private WaitlistIndex index() {
+        return (WaitlistIndex) ReflectionTestUtils.getField(waitlistService, "index");
+    }
+
+    private void join(WaitlistEntry entry) {
+        when(waitlistEntryRepository.save(entry)).thenReturn(entry);
+        waitlistService.join(entry);
+    }
+
+    private WaitlistEntry entry(Employee employee, LocalTime timeFrom, LocalTime timeTo, LocalDateTime createdAt) {
+        return WaitlistEntry.builder()
+                .id(UUID.randomUUID())
+                .patient(Patient.builder().id(UUID.randomUUID()).build())
+                .service(service)
+                .employee(employee)
+                .dateFrom(date.minusDays(1))
+                .dateTo(date.plusDays(1))
+                .timeFrom(timeFrom)
+                .timeTo(timeTo)
+                .createdBy(new User())
+                .createdAt(createdAt)
+                .build();
+    }
+}